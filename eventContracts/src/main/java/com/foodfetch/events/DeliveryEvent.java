@@ -0,0 +1,19 @@
+package com.foodfetch.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * DeliveryEvent is sent by the tracking service when the delivery of an order changes status.
+ * The status is one of PREPARING, IN_TRANSIT and DELIVERED.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryEvent implements Serializable {
+    private String orderId;
+    private String status;
+}
@@ -0,0 +1,91 @@
+package com.foodfetch.events;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EventJson holds the JSON readers and writers of the shared event types.
+ * Readers and writers are built once per type, so converting an event neither looks up the
+ * type per message nor goes through a Map or a JsonNode. Unknown properties are ignored,
+ * so a producer may add fields before its consumers know about them.
+ */
+public final class EventJson {
+
+    // Header in which Spring AMQP's Jackson converter stores the class name of a JSON message
+    public static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private static final List<Class<?>> EVENT_TYPES = List.of(OrderEvent.class, PaymentEvent.class, DeliveryEvent.class);
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private static final Map<Class<?>, ObjectReader> READERS = new HashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new HashMap<>();
+    private static final Map<String, Class<?>> TYPES_BY_ID = new HashMap<>();
+
+    static {
+        for (Class<?> type : EVENT_TYPES) {
+            READERS.put(type, MAPPER.readerFor(type));
+            WRITERS.put(type, MAPPER.writerFor(type));
+            TYPES_BY_ID.put(type.getName(), type);
+        }
+        // Class names the services published their own copies of the events under
+        TYPES_BY_ID.put("com.foodfetch.orderService.messaging.OrderEvent", OrderEvent.class);
+        TYPES_BY_ID.put("com.foodfetch.paymentservice.messaging.PaymentEvent", PaymentEvent.class);
+        TYPES_BY_ID.put("com.foodfetch.trackingservice.messaging.DeliveryEvent", DeliveryEvent.class);
+    }
+
+    private EventJson() {
+    }
+
+    /**
+     * @return Mapper the readers and writers are built from, for converting other payloads the same way
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * @param type A class
+     * @return true if the class is one of the shared event types
+     */
+    public static boolean isEvent(Class<?> type) {
+        return READERS.containsKey(type);
+    }
+
+    /**
+     * @param type One of the shared event types
+     * @return Reader for events of this type
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return READERS.get(type);
+    }
+
+    /**
+     * @param type One of the shared event types
+     * @return Writer for events of this type
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return WRITERS.get(type);
+    }
+
+    /**
+     * Resolves the type header of a JSON message, including the class names used before the events were shared.
+     *
+     * @param typeId Value of the {@value #TYPE_ID_HEADER} header
+     * @return The event type, or null if the header does not name an event
+     */
+    public static Class<?> typeForId(String typeId) {
+        return typeId == null ? null : TYPES_BY_ID.get(typeId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.foodfetch.events;
+
+import java.util.Locale;
+
+/**
+ * EventRoutingKeys builds the routing keys the events are published with on the topic exchange.
+ * Keys are hierarchical: the first word names the event ({@code order}, {@code payment} or {@code delivery})
+ * and the second the new status, e.g. {@code order.confirmed} or {@code delivery.in_transit}.
+ * Every event is published once; each consumer binds its own queue to the keys it needs,
+ * so the broker does the fan-out.
+ */
+public final class EventRoutingKeys {
+
+    public static final String ORDER = "order";
+    public static final String PAYMENT = "payment";
+    public static final String DELIVERY = "delivery";
+
+    // Binding patterns matching every event of a kind
+    public static final String ALL_ORDER_EVENTS = ORDER + ".#";
+    public static final String ALL_PAYMENT_EVENTS = PAYMENT + ".#";
+    public static final String ALL_DELIVERY_EVENTS = DELIVERY + ".#";
+
+    private EventRoutingKeys() {
+    }
+
+    /**
+     * @param status New status of the order
+     * @return Routing key of the order event, e.g. order.confirmed
+     */
+    public static String order(OrderStatus status) {
+        return key(ORDER, status.name());
+    }
+
+    /**
+     * @param status New status of the payment
+     * @return Routing key of the payment event, e.g. payment.completed
+     */
+    public static String payment(PaymentStatus status) {
+        return key(PAYMENT, status.name());
+    }
+
+    /**
+     * @param status New delivery status, e.g. IN_TRANSIT
+     * @return Routing key of the delivery event, e.g. delivery.in_transit
+     */
+    public static String delivery(String status) {
+        return key(DELIVERY, status);
+    }
+
+    private static String key(String kind, String status) {
+        return kind + "." + status.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,6 +1,6 @@
-package com.foodfetch.orderService.messaging;
+package com.foodfetch.events;
 
-import com.foodfetch.orderService.model.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import lombok.*;
 
 import java.io.Serializable;
@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 
 /**
  * OrderEvent is a class that represents an event related to an order.
- * It contains information about the order ID, status, restaurant ID, amount, event type, timestamp, customer ID, and payment method.
+ * It contains information about the order ID, status, restaurant ID, amount in cents, event type, timestamp, customer ID, and payment method,
+ * and the restaurant and customer coordinates used by the tracking service.
+ * This is the one definition shared by the order, payment, tracking and notification services.
  */
 @Data // Data annotation for automatic generation of getters, setters, equals, hashCode, and toString methods
 @NoArgsConstructor // No-args constructor for deserialization
@@ -18,24 +20,33 @@ public class OrderEvent implements Serializable {
     private OrderStatus orderStatus;
     private String restaurantId;
 
-    @Setter
-    @Getter
-    private Double totalAmount;
+    private long totalAmountMinor;
     private String eventType;
     private LocalDateTime timestamp;
     private String customerId;
     private String paymentMethod;
 
-    @Getter
-    @Setter
     private double restaurantLat;
     private double restaurantLong;
     private double customerLat;
     private double customerLong;
 
+    // Common event types as constants
     public static final String ORDER_CREATED = "ORDER_CREATED";
     public static final String ORDER_CONFIRMED = "ORDER_CONFIRMED";
     public static final String ORDER_UPDATED = "ORDER_UPDATED";
     public static final String ORDER_CANCELLED = "ORDER_CANCELLED";
     public static final String ORDER_COMPLETED = "ORDER_COMPLETED";
-}
\ No newline at end of file
+    public static final String ORDER_ARRIVAL = "ORDER_ARRIVAL";
+    public static final String ORDER_IN_TRANSIT = "ORDER_IN_TRANSIT";
+
+    /**
+     * Reads the totalAmount of messages queued before amounts were sent in cents, in major units (19.98).
+     *
+     * @param totalAmount Total amount in major units
+     */
+    @JsonSetter("totalAmount")
+    void setLegacyTotalAmount(double totalAmount) {
+        this.totalAmountMinor = Math.round(totalAmount * 100);
+    }
+}
@@ -1,9 +1,8 @@
-package com.foodfetch.orderService.messaging;
+package com.foodfetch.events;
 
-import com.foodfetch.orderService.model.PaymentStatus;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
@@ -11,7 +10,7 @@ import java.time.LocalDateTime;
 
 /**
  * PaymentEvent is a class that represents an event related to a payment.
- * It contains information about the payment ID, order ID, status, amount, transaction ID, timestamp, and event type.
+ * It contains information about the payment ID, order ID, status, amount in cents, transaction ID, timestamp, and event type.
  */
 @Data
 @NoArgsConstructor
@@ -20,19 +19,25 @@ public class PaymentEvent implements Serializable {
     private Long paymentId;
     private String orderId;
     private PaymentStatus status;
-    private Double amount;
+    private long amountMinor;
     private String transactionId;
     private LocalDateTime timestamp;
     private String eventType;
 
     // Common event types as constants
     // represents the type of event that occurred
-    @Getter
     public static final String PAYMENT_PROCESSED = "PAYMENT_PROCESSED";
     public static final String PAYMENT_FAILED = "PAYMENT_FAILED";
     public static final String PAYMENT_REFUNDED = "PAYMENT_REFUNDED";
     public static final String PAYMENT_UPDATED = "PAYMENT_UPDATED";
-}
-
-
 
+    /**
+     * Reads the amount of messages queued before amounts were sent in cents, in major units (19.98).
+     *
+     * @param amount Amount in major units
+     */
+    @JsonSetter("amount")
+    void setLegacyAmount(double amount) {
+        this.amountMinor = Math.round(amount * 100);
+    }
+}
@@ -1,4 +1,4 @@
-package com.foodfetch.orderService.model;
+package com.foodfetch.events;
 
 /**
  * PaymentStatus is an enumeration that represents the status of a payment.
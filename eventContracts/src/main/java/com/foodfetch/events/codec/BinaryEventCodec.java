@@ -0,0 +1,93 @@
+package com.foodfetch.events.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BinaryEventCodec encodes events with their {@link EventSchema}.
+ * An encoded event is the schema tag, the schema version and the fields, so neither field names
+ * nor class names travel with the message. Decoding rejects unknown tags, versions newer than
+ * the local schema and trailing bytes with IllegalArgumentException.
+ */
+public final class BinaryEventCodec {
+
+    // AMQP content type of messages in this encoding
+    public static final String CONTENT_TYPE = "application/x-foodfetch-event";
+
+    // Typical encoded size; the output grows for larger events
+    private static final int INITIAL_BUFFER_SIZE = 128;
+
+    private final Map<Class<?>, EventSchema<?>> schemasByType = new HashMap<>();
+    private final EventSchema<?>[] schemasByTag;
+
+    /**
+     * Constructor for BinaryEventCodec
+     *
+     * @param schemas Schemas of the supported event types, with distinct tags below 256
+     */
+    public BinaryEventCodec(List<EventSchema<?>> schemas) {
+        int maxTag = schemas.stream().mapToInt(EventSchema::tag).max().orElse(0);
+        this.schemasByTag = new EventSchema<?>[maxTag + 1];
+        for (EventSchema<?> schema : schemas) {
+            if (schema.tag() < 1 || schema.tag() > 255 || schemasByTag[schema.tag()] != null) {
+                throw new IllegalArgumentException("Invalid or duplicate tag " + schema.tag() + " for " + schema.type());
+            }
+            schemasByTag[schema.tag()] = schema;
+            schemasByType.put(schema.type(), schema);
+        }
+    }
+
+    /**
+     * @param type Class of an event
+     * @return true if events of this class can be encoded
+     */
+    public boolean supports(Class<?> type) {
+        return schemasByType.containsKey(type);
+    }
+
+    /**
+     * Encodes an event.
+     *
+     * @param event The event, of a supported type
+     * @return The encoded event
+     */
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object event) {
+        EventSchema<Object> schema = (EventSchema<Object>) schemasByType.get(event.getClass());
+        if (schema == null) {
+            throw new IllegalArgumentException("No event schema for " + event.getClass().getName());
+        }
+        EventOutput out = new EventOutput(INITIAL_BUFFER_SIZE);
+        out.writeByte(schema.tag());
+        out.writeByte(schema.version());
+        schema.write(event, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes an event.
+     *
+     * @param body The encoded event
+     * @return The event, as an instance of the class its schema describes
+     */
+    public Object decode(byte[] body) {
+        EventInput in = new EventInput(body, 0);
+        int tag = in.readByte();
+        int version = in.readByte();
+
+        EventSchema<?> schema = tag < schemasByTag.length ? schemasByTag[tag] : null;
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown event tag " + tag);
+        }
+        if (version < 1 || version > schema.version()) {
+            throw new IllegalArgumentException("Unsupported version " + version + " of " + schema.type().getSimpleName());
+        }
+
+        Object event = schema.read(in, version);
+        if (!in.isExhausted()) {
+            throw new IllegalArgumentException("Trailing bytes after " + schema.type().getSimpleName());
+        }
+        return event;
+    }
+}
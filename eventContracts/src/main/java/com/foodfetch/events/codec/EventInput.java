@@ -0,0 +1,112 @@
+package com.foodfetch.events.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * EventInput reads the fields of an event written by {@link EventOutput}, in the same order.
+ * Truncated or malformed input throws IllegalArgumentException.
+ */
+public final class EventInput {
+
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Constructor for EventInput
+     *
+     * @param buffer   Encoded event
+     * @param position Offset of the first byte to read
+     */
+    public EventInput(byte[] buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readLong() {
+        long value = readUnsignedVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public Long readNullableLong() {
+        return readBoolean() ? readLong() : null;
+    }
+
+    public double readDouble() {
+        require(8);
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits |= (buffer[position++] & 0xFFL) << (i * 8);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() {
+        long lengthPlusOne = readUnsignedVarLong();
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        if (lengthPlusOne - 1 > buffer.length - position) {
+            throw new IllegalArgumentException("Truncated event: string of " + (lengthPlusOne - 1) + " bytes");
+        }
+        int length = (int) (lengthPlusOne - 1);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    public LocalDateTime readDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+        long epochDay = readLong();
+        long nanoOfDay = readLong();
+        try {
+            return LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay(nanoOfDay));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid timestamp in event", e);
+        }
+    }
+
+    /**
+     * @return true if every byte has been read
+     */
+    public boolean isExhausted() {
+        return position == buffer.length;
+    }
+
+    private long readUnsignedVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in event");
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > buffer.length) {
+            throw new IllegalArgumentException("Truncated event at byte " + position);
+        }
+    }
+}
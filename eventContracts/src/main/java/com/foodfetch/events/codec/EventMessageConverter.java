@@ -0,0 +1,121 @@
+package com.foodfetch.events.codec;
+
+import com.foodfetch.events.EventJson;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * EventMessageConverter chooses the message format by content type.
+ * Incoming messages with the binary event content type are decoded with the {@link BinaryEventCodec}.
+ * JSON messages carrying one of the shared events are read with the pre-built reader of that type,
+ * taken from the listener's parameter type or, failing that, from the type header; anything else goes
+ * to the JSON converter, so producers can switch formats one service at a time.
+ * Outgoing events with a schema are written in binary only when publishing binary is enabled,
+ * which should happen once every consumer of them decodes the binary format.
+ */
+public class EventMessageConverter implements SmartMessageConverter {
+
+    private final SmartMessageConverter jsonConverter;
+    private final BinaryEventCodec codec;
+    private final boolean publishBinary;
+
+    /**
+     * Constructor for EventMessageConverter
+     *
+     * @param jsonConverter Converter for objects that are not shared events
+     * @param codec         Codec for binary events
+     * @param publishBinary Whether events with a schema are published in binary
+     */
+    public EventMessageConverter(SmartMessageConverter jsonConverter, BinaryEventCodec codec, boolean publishBinary) {
+        this.jsonConverter = jsonConverter;
+        this.codec = codec;
+        this.publishBinary = publishBinary;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        Class<?> type = object.getClass();
+        if (publishBinary && codec.supports(type)) {
+            byte[] body = codec.encode(object);
+            messageProperties.setContentType(BinaryEventCodec.CONTENT_TYPE);
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        }
+        if (!EventJson.isEvent(type)) {
+            return jsonConverter.toMessage(object, messageProperties);
+        }
+        try {
+            byte[] body = EventJson.writer(type).writeValueAsBytes(object);
+            messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+            messageProperties.setContentEncoding(StandardCharsets.UTF_8.name());
+            messageProperties.setContentLength(body.length);
+            // Lets consumers without a typed listener resolve the event
+            messageProperties.setHeader(EventJson.TYPE_ID_HEADER, type.getName());
+            return new Message(body, messageProperties);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to write " + type.getSimpleName() + " as JSON", e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        return fromMessage(message, null);
+    }
+
+    @Override
+    public Object fromMessage(Message message, Object conversionHint) {
+        if (isBinary(message)) {
+            return decode(message);
+        }
+        Class<?> eventType = eventType(message.getMessageProperties());
+        if (eventType == null) {
+            return conversionHint == null
+                    ? jsonConverter.fromMessage(message)
+                    : jsonConverter.fromMessage(message, conversionHint);
+        }
+        try {
+            return EventJson.reader(eventType).readValue(message.getBody());
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to read " + eventType.getSimpleName() + " from JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private Object decode(Message message) {
+        try {
+            return codec.decode(message.getBody());
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("Failed to decode binary event: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves the shared event type of a JSON message.
+     * The listener's parameter type wins over the type header, so a consumer gets its own view of the event.
+     *
+     * @param properties Properties of the message
+     * @return The event type, or null if the message is not a JSON message carrying a shared event
+     */
+    private static Class<?> eventType(MessageProperties properties) {
+        String contentType = properties.getContentType();
+        if (contentType != null && !contentType.contains("json")) {
+            return null;
+        }
+        Type inferred = properties.getInferredArgumentType();
+        if (inferred instanceof Class<?> inferredClass && EventJson.isEvent(inferredClass)) {
+            return inferredClass;
+        }
+        Object typeId = properties.getHeaders().get(EventJson.TYPE_ID_HEADER);
+        return typeId == null ? null : EventJson.typeForId(typeId.toString());
+    }
+
+    private static boolean isBinary(Message message) {
+        String contentType = message.getMessageProperties().getContentType();
+        return contentType != null && contentType.startsWith(BinaryEventCodec.CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,43 @@
+package com.foodfetch.events.codec;
+
+/**
+ * EventSchema describes how one event type is written in the binary event encoding.
+ * Fields are written in a fixed order without names. A schema that adds or changes fields bumps
+ * its version and keeps reading the older versions, so consumers can be upgraded before producers.
+ *
+ * @param <T> The event type
+ */
+public interface EventSchema<T> {
+
+    /**
+     * @return Number identifying the event type on the wire; never reused for another type
+     */
+    int tag();
+
+    /**
+     * @return Version of the field layout written by {@link #write}
+     */
+    int version();
+
+    /**
+     * @return The event class
+     */
+    Class<T> type();
+
+    /**
+     * Writes the fields of an event.
+     *
+     * @param event The event
+     * @param out   Output to write to
+     */
+    void write(T event, EventOutput out);
+
+    /**
+     * Reads the fields of an event.
+     *
+     * @param in      Input positioned at the first field
+     * @param version Version the event was written with, at most {@link #version()}
+     * @return The event
+     */
+    T read(EventInput in, int version);
+}
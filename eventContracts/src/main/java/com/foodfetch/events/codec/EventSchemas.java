@@ -0,0 +1,147 @@
+package com.foodfetch.events.codec;
+
+import com.foodfetch.events.DeliveryEvent;
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.events.PaymentEvent;
+import com.foodfetch.events.PaymentStatus;
+
+import java.util.List;
+
+/**
+ * EventSchemas holds the binary layouts of the events exchanged between the services.
+ * Tags are shared by every service: 1 is the order event, 2 the payment event and 3 the delivery
+ * status event sent by the tracking service.
+ */
+public final class EventSchemas {
+
+    public static final EventSchema<OrderEvent> ORDER_EVENT = new EventSchema<>() {
+        @Override
+        public int tag() {
+            return 1;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<OrderEvent> type() {
+            return OrderEvent.class;
+        }
+
+        @Override
+        public void write(OrderEvent event, EventOutput out) {
+            out.writeString(event.getOrderId());
+            out.writeEnum(event.getOrderStatus());
+            out.writeString(event.getRestaurantId());
+            out.writeLong(event.getTotalAmountMinor());
+            out.writeString(event.getEventType());
+            out.writeDateTime(event.getTimestamp());
+            out.writeString(event.getCustomerId());
+            out.writeString(event.getPaymentMethod());
+            out.writeDouble(event.getRestaurantLat());
+            out.writeDouble(event.getRestaurantLong());
+            out.writeDouble(event.getCustomerLat());
+            out.writeDouble(event.getCustomerLong());
+        }
+
+        @Override
+        public OrderEvent read(EventInput in, int version) {
+            OrderEvent event = new OrderEvent();
+            event.setOrderId(in.readString());
+            event.setOrderStatus(in.readEnum(OrderStatus.class));
+            event.setRestaurantId(in.readString());
+            event.setTotalAmountMinor(in.readLong());
+            event.setEventType(in.readString());
+            event.setTimestamp(in.readDateTime());
+            event.setCustomerId(in.readString());
+            event.setPaymentMethod(in.readString());
+            event.setRestaurantLat(in.readDouble());
+            event.setRestaurantLong(in.readDouble());
+            event.setCustomerLat(in.readDouble());
+            event.setCustomerLong(in.readDouble());
+            return event;
+        }
+    };
+
+    public static final EventSchema<PaymentEvent> PAYMENT_EVENT = new EventSchema<>() {
+        @Override
+        public int tag() {
+            return 2;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<PaymentEvent> type() {
+            return PaymentEvent.class;
+        }
+
+        @Override
+        public void write(PaymentEvent event, EventOutput out) {
+            out.writeNullableLong(event.getPaymentId());
+            out.writeString(event.getOrderId());
+            out.writeEnum(event.getStatus());
+            out.writeLong(event.getAmountMinor());
+            out.writeString(event.getTransactionId());
+            out.writeDateTime(event.getTimestamp());
+            out.writeString(event.getEventType());
+        }
+
+        @Override
+        public PaymentEvent read(EventInput in, int version) {
+            PaymentEvent event = new PaymentEvent();
+            event.setPaymentId(in.readNullableLong());
+            event.setOrderId(in.readString());
+            event.setStatus(in.readEnum(PaymentStatus.class));
+            event.setAmountMinor(in.readLong());
+            event.setTransactionId(in.readString());
+            event.setTimestamp(in.readDateTime());
+            event.setEventType(in.readString());
+            return event;
+        }
+    };
+
+    public static final EventSchema<DeliveryEvent> DELIVERY_EVENT = new EventSchema<>() {
+        @Override
+        public int tag() {
+            return 3;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public Class<DeliveryEvent> type() {
+            return DeliveryEvent.class;
+        }
+
+        @Override
+        public void write(DeliveryEvent event, EventOutput out) {
+            out.writeString(event.getOrderId());
+            out.writeString(event.getStatus());
+        }
+
+        @Override
+        public DeliveryEvent read(EventInput in, int version) {
+            return new DeliveryEvent(in.readString(), in.readString());
+        }
+    };
+
+    private EventSchemas() {
+    }
+
+    /**
+     * @return Codec for all shared event types
+     */
+    public static BinaryEventCodec codec() {
+        return new BinaryEventCodec(List.of(ORDER_EVENT, PAYMENT_EVENT, DELIVERY_EVENT));
+    }
+}
@@ -0,0 +1,105 @@
+package com.foodfetch.events.codec;
+
+import com.foodfetch.events.DeliveryEvent;
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.events.PaymentEvent;
+import com.foodfetch.events.PaymentStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryEventCodecTest {
+
+    private final BinaryEventCodec codec = EventSchemas.codec();
+
+    static OrderEvent orderEvent() {
+        OrderEvent event = new OrderEvent();
+        event.setOrderId("65f1c2a9e4b0a1b2c3d4e5f6");
+        event.setOrderStatus(OrderStatus.CONFIRMED);
+        event.setRestaurantId("rest1");
+        event.setTotalAmountMinor(1998);
+        event.setEventType(OrderEvent.ORDER_CONFIRMED);
+        event.setTimestamp(LocalDateTime.of(2025, 3, 14, 12, 30, 15, 123_456_789));
+        event.setCustomerId("customer1");
+        event.setPaymentMethod("CREDIT_CARD");
+        event.setRestaurantLat(34.0522);
+        event.setRestaurantLong(-118.2437);
+        event.setCustomerLat(34.0622);
+        event.setCustomerLong(-118.2337);
+        return event;
+    }
+
+    static PaymentEvent paymentEvent() {
+        return new PaymentEvent(42L, "65f1c2a9e4b0a1b2c3d4e5f6", PaymentStatus.COMPLETED, 1998,
+                "9b2f6c1e-0d6a-4c55-9a53-2f7d1c3e8b10", LocalDateTime.of(2025, 3, 14, 12, 30, 16), PaymentEvent.PAYMENT_PROCESSED);
+    }
+
+    @Test
+    void testRoundTrip() {
+        for (Object event : new Object[]{orderEvent(), paymentEvent(), new DeliveryEvent("order1", "IN_TRANSIT")}) {
+            assertEquals(event, codec.decode(codec.encode(event)));
+        }
+    }
+
+    @Test
+    void testRoundTrip_NullsAndNonAscii() {
+        OrderEvent event = new OrderEvent();
+        event.setPaymentMethod("Carte bancaire – débit");
+        assertEquals(event, codec.decode(codec.encode(event)));
+
+        PaymentEvent payment = new PaymentEvent();
+        assertEquals(payment, codec.decode(codec.encode(payment)));
+    }
+
+    @Test
+    void testDecode_RejectsUnknownTagNewerVersionAndTruncation() {
+        byte[] encoded = codec.encode(orderEvent());
+
+        byte[] unknownTag = encoded.clone();
+        unknownTag[0] = 99;
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(unknownTag));
+
+        byte[] newerVersion = encoded.clone();
+        newerVersion[1] = 2;
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(newerVersion));
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(Arrays.copyOf(encoded, encoded.length - 3)));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(Arrays.copyOf(encoded, encoded.length + 1)));
+    }
+
+    @Test
+    void testConverter_PublishesBinaryOnlyWhenEnabled() {
+        OrderEvent event = orderEvent();
+
+        Message json = new EventMessageConverter(new Jackson2JsonMessageConverter(), codec, false)
+                .toMessage(event, new MessageProperties());
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, json.getMessageProperties().getContentType());
+
+        Message binary = new EventMessageConverter(new Jackson2JsonMessageConverter(), codec, true)
+                .toMessage(event, new MessageProperties());
+        assertEquals(BinaryEventCodec.CONTENT_TYPE, binary.getMessageProperties().getContentType());
+        assertTrue(binary.getBody().length < json.getBody().length);
+    }
+
+    @Test
+    void testConverter_DecodesByContentType() {
+        EventMessageConverter converter = new EventMessageConverter(new Jackson2JsonMessageConverter(), codec, true);
+        EventMessageConverter jsonPublisher = new EventMessageConverter(new Jackson2JsonMessageConverter(), codec, false);
+
+        DeliveryEvent event = new DeliveryEvent("order1", "DELIVERED");
+        assertEquals(event, converter.fromMessage(converter.toMessage(event, new MessageProperties())));
+        assertEquals(event, converter.fromMessage(jsonPublisher.toMessage(event, new MessageProperties())));
+
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(BinaryEventCodec.CONTENT_TYPE);
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(new Message(new byte[]{1}, properties)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.foodfetch.events.codec;
+
+import com.foodfetch.events.DeliveryEvent;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the binary event encoding and the pre-built event readers and writers with Spring AMQP's
+ * Jackson JSON converter. For each event type it reports the body size, the size including the headers
+ * the converter adds (content type and, for JSON, the class-name type header) and encode/decode ns/op,
+ * measured after a warm-up. Run with ./gradlew benchmark --tests '*EventCodecBenchmark'.
+ */
+@Tag("benchmark")
+public class EventCodecBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final MessageConverter json = new Jackson2JsonMessageConverter();
+    private final MessageConverter sharedJson = new EventMessageConverter(
+            new Jackson2JsonMessageConverter(), EventSchemas.codec(), false);
+    private final MessageConverter binary = new EventMessageConverter(
+            new Jackson2JsonMessageConverter(), EventSchemas.codec(), true);
+
+    // Keeps the JIT from dropping the measured work
+    private long sink;
+
+    @Test
+    void compareConverters() {
+        Map<String, Object> events = Map.of(
+                "OrderEvent", BinaryEventCodecTest.orderEvent(),
+                "PaymentEvent", BinaryEventCodecTest.paymentEvent(),
+                "DeliveryEvent", new DeliveryEvent("65f1c2a9e4b0a1b2c3d4e5f6", "IN_TRANSIT"));
+
+        System.out.printf("%-14s %-7s %11s %14s %12s %12s%n",
+                "event", "format", "body bytes", "with headers", "encode ns", "decode ns");
+        for (String name : List.of("OrderEvent", "PaymentEvent", "DeliveryEvent")) {
+            Object event = events.get(name);
+            Result jsonResult = measure(json, event);
+            Result sharedResult = measure(sharedJson, event);
+            Result binaryResult = measure(binary, event);
+            print(name, "json", jsonResult);
+            print(name, "shared", sharedResult);
+            print(name, "binary", binaryResult);
+            assertTrue(binaryResult.bodyBytes() < jsonResult.bodyBytes(), "Binary encoding is not smaller for " + name);
+        }
+        assertNotEquals(42, sink);
+    }
+
+    private Result measure(MessageConverter converter, Object event) {
+        Message message = converter.toMessage(event, new MessageProperties());
+        assertEquals(event, converter.fromMessage(message));
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += converter.toMessage(event, new MessageProperties()).getBody().length;
+            sink += converter.fromMessage(message).hashCode();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += converter.toMessage(event, new MessageProperties()).getBody().length;
+        }
+        double encodeNanos = (double) (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += converter.fromMessage(message).hashCode();
+        }
+        double decodeNanos = (double) (System.nanoTime() - start) / ITERATIONS;
+
+        return new Result(message.getBody().length, message.getBody().length + headerBytes(message.getMessageProperties()),
+                encodeNanos, decodeNanos);
+    }
+
+    // Approximate wire size of the properties a converter sets: content type, encoding and headers
+    private static int headerBytes(MessageProperties properties) {
+        int bytes = utf8Length(properties.getContentType()) + utf8Length(properties.getContentEncoding());
+        for (Map.Entry<String, Object> header : properties.getHeaders().entrySet()) {
+            bytes += utf8Length(header.getKey()) + utf8Length(String.valueOf(header.getValue()));
+        }
+        return bytes;
+    }
+
+    private static int utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void print(String event, String format, Result result) {
+        System.out.printf("%-14s %-7s %11d %14d %12.0f %12.0f%n", event, format,
+                result.bodyBytes(), result.totalBytes(), result.encodeNanos(), result.decodeNanos());
+    }
+
+    private record Result(int bodyBytes, int totalBytes, double encodeNanos, double decodeNanos) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.foodfetch.events.codec;
+
+import com.foodfetch.events.DeliveryEvent;
+import com.foodfetch.events.EventJson;
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.events.PaymentEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventMessageConverterTest {
+
+    private final EventMessageConverter converter =
+            new EventMessageConverter(new Jackson2JsonMessageConverter(), EventSchemas.codec(), false);
+
+    private static Message json(String body, String typeId) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        if (typeId != null) {
+            properties.setHeader(EventJson.TYPE_ID_HEADER, typeId);
+        }
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    @Test
+    void testJsonRoundTrip_WritesSharedTypeId() {
+        OrderEvent event = BinaryEventCodecTest.orderEvent();
+
+        Message message = converter.toMessage(event, new MessageProperties());
+
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+        assertEquals(OrderEvent.class.getName(), message.getMessageProperties().getHeader(EventJson.TYPE_ID_HEADER));
+        assertEquals(event, converter.fromMessage(message));
+    }
+
+    @Test
+    void testFromMessage_ResolvesTypeIdsOfServiceLocalEvents() {
+        Object payment = converter.fromMessage(json(
+                "{\"orderId\":\"order1\",\"status\":\"COMPLETED\",\"amountMinor\":1998,\"eventType\":\"PAYMENT_PROCESSED\"}",
+                "com.foodfetch.paymentservice.messaging.PaymentEvent"));
+        PaymentEvent paymentEvent = assertInstanceOf(PaymentEvent.class, payment);
+        assertEquals(1998, paymentEvent.getAmountMinor());
+
+        Object delivery = converter.fromMessage(json("{\"orderId\":\"order1\",\"status\":\"DELIVERED\"}",
+                "com.foodfetch.trackingservice.messaging.DeliveryEvent"));
+        assertEquals(new DeliveryEvent("order1", "DELIVERED"), delivery);
+    }
+
+    @Test
+    void testFromMessage_ConvertsLegacyMajorUnitAmounts() {
+        // Queued before the amounts moved to cents
+        Object order = converter.fromMessage(json("{\"orderId\":\"order1\",\"totalAmount\":19.98}",
+                "com.foodfetch.orderService.messaging.OrderEvent"));
+        assertEquals(1998, assertInstanceOf(OrderEvent.class, order).getTotalAmountMinor());
+
+        Object payment = converter.fromMessage(json("{\"orderId\":\"order1\",\"amount\":0.29}",
+                "com.foodfetch.paymentservice.messaging.PaymentEvent"));
+        assertEquals(29, assertInstanceOf(PaymentEvent.class, payment).getAmountMinor());
+    }
+
+    @Test
+    void testFromMessage_ListenerParameterTypeWinsAndUnknownFieldsAreIgnored() {
+        Message message = json("{\"orderId\":\"order1\",\"status\":\"IN_TRANSIT\",\"courier\":\"c1\"}",
+                "com.example.SomethingElse");
+        message.getMessageProperties().setInferredArgumentType(DeliveryEvent.class);
+
+        assertEquals(new DeliveryEvent("order1", "IN_TRANSIT"), converter.fromMessage(message));
+    }
+
+    @Test
+    void testFromMessage_OtherPayloadsGoToJsonConverter() {
+        Object payload = converter.fromMessage(json("{\"orderId\":\"order1\"}", "java.util.HashMap"));
+        assertEquals(Map.of("orderId", "order1"), payload);
+
+        Message malformed = json("{\"orderId\":", OrderEvent.class.getName());
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(malformed));
+    }
+}
@@ -38,7 +38,7 @@ class OrderService {
      * @returns {Promise} - Promise resolved with active orders
      */
     getActiveOrders() {
-        return api.get('/orders/active');
+        return api.get('/orders/active?view=full');
     }
 
     /**
@@ -132,7 +132,7 @@ export const orderApi = {
     updateOrderStatus: (orderId, status) =>
         api.put(`/orders/${orderId}/status`, { status }),
     cancelOrder: (orderId) => api.post(`/orders/${orderId}/cancel`),
-    getActiveOrders: () => api.get('/orders/active'),
+    getActiveOrders: () => api.get('/orders/active?view=full'),
     getAllOrders: (page = 0, size = 10, sortBy = 'createdAt', sortDir = 'desc') =>
         api.get(`/orders?page=${page}&size=${size}&sortBy=${sortBy}&sortDir=${sortDir}`),
 };
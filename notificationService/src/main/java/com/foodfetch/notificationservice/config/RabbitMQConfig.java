@@ -1,51 +1,37 @@
 package com.foodfetch.notificationservice.config;
 
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.foodfetch.events.EventJson;
+import com.foodfetch.events.EventRoutingKeys;
+import com.foodfetch.events.codec.EventMessageConverter;
+import com.foodfetch.events.codec.EventSchemas;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
-import org.springframework.amqp.rabbit.connection.ConnectionFactory;
-import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
-import org.springframework.amqp.rabbit.listener.adapter.MessageListenerAdapter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
-import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.foodfetch.notificationservice.messaging.NotificationReceiver;
-
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * RabbitMQConfig is a configuration class for setting up RabbitMQ components.
  * It defines the queues, exchanges, and bindings required for the notification service.
+ * The order service publishes every order status change once as order.&lt;status&gt; and the tracking
+ * service every delivery status change as delivery.&lt;status&gt;; the notification queues bind to all of them.
  */
 @Configuration
 public class RabbitMQConfig {
 
-    // Configuration values for RabbitMQ
-    @Value("${rabbitmq.queue.notification.name}")
-    private String notificationQueue;
-
     // The name of the exchange to which the queues will be bound
     @Value("${rabbitmq.exchange.name}")
     private String exchange;
 
-    // The routing key for the notification queue
-    @Value("${rabbitmq.routing.key.notification}")
-    private String notificationRoutingKey;
-
     // Custom notification queues
-    private static final String ORDER_NOTIFICATION_QUEUE = "order.notifications";
-    private static final String DELIVERY_NOTIFICATION_QUEUE = "delivery.notifications";
-    private static final String ORDER_ROUTING_KEY = "order.#";
-    private static final String DELIVERY_ROUTING_KEY = "delivery.#";
+    public static final String ORDER_NOTIFICATION_QUEUE = "order.notifications";
+    public static final String DELIVERY_NOTIFICATION_QUEUE = "delivery.notifications";
+    private static final String ORDER_ROUTING_KEY = EventRoutingKeys.ALL_ORDER_EVENTS;
+    private static final String DELIVERY_ROUTING_KEY = EventRoutingKeys.ALL_DELIVERY_EVENTS;
 
     /**
      * Creates a TopicExchange bean for RabbitMQ.
@@ -58,17 +44,6 @@ public class RabbitMQConfig {
         return new TopicExchange(exchange);
     }
 
-    /**
-     * Creates a Queue bean for the main notification queue.
-     * This queue will be used to receive notifications from the order service.
-     *
-     * @return Queue
-     */
-    @Bean
-    public Queue mainNotificationQueue() {
-        return new Queue(notificationQueue, true);
-    }
-
     /**
      * Creates a Queue bean for the order notification queue.
      * This queue will be used to receive order-related notifications.
@@ -91,20 +66,6 @@ public class RabbitMQConfig {
         return new Queue(DELIVERY_NOTIFICATION_QUEUE, true);
     }
 
-    /**
-     * Creates a Binding between the main notification queue and the exchange.
-     * This binding uses the notification routing key to route messages to the queue.
-     *
-     * @return Binding
-     */
-    @Bean
-    public Binding mainNotificationBinding() {
-        return BindingBuilder
-                .bind(mainNotificationQueue())
-                .to(exchange())
-                .with(notificationRoutingKey);
-    }
-
     /**
      * Creates a Binding between the order notification queue and the exchange.
      * This binding uses the order routing key to route messages to the queue.
@@ -134,78 +95,14 @@ public class RabbitMQConfig {
     }
 
     /**
-     * Creates a MessageConverter bean for converting messages to and from JSON format.
-     * This converter uses Jackson's ObjectMapper for serialization and deserialization.
-     * Basically, this is used to convert the message to JSON format
+     * Creates a MessageConverter bean for the shared events.
+     * JSON events are read with the pre-built readers of the event types and binary events with the
+     * event codec, so the listener receives typed events. Other payloads are converted by Jackson.
      *
      * @return MessageConverter
      */
     @Bean
     public MessageConverter jsonMessageConverter() {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        // Configure the ObjectMapper to handle Java 8 date/time types
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-        // Register the JavaTimeModule to handle Java 8 date/time types
-        objectMapper.registerModule(new JavaTimeModule());
-
-        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter(objectMapper);
-
-        // Create class mapping for OrderEvent
-        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
-
-        // Set the default type to be used for deserialization
-        Map<String, Class<?>> idClassMapping = new HashMap<>();
-
-        // Add the mapping for OrderEvent
-        idClassMapping.put("com.foodfetch.orderService.messaging.OrderEvent",
-                com.foodfetch.notificationservice.model.OrderEvent.class);
-
-        // Add the mapping for DeliveryEvent
-        typeMapper.setIdClassMapping(idClassMapping);
-
-        // Set the type mapper to the converter
-        converter.setJavaTypeMapper(typeMapper);
-
-        return converter;
-    }
-
-    /**
-     * Creates a MessageListenerAdapter bean for handling incoming messages.
-     * This adapter uses the NotificationReceiver class to process messages.
-     *
-     * @param receiver The NotificationReceiver instance
-     * @return MessageListenerAdapter
-     */
-    @Bean
-    public MessageListenerAdapter listenerAdapter(NotificationReceiver receiver) {
-        // Create a MessageListenerAdapter that uses the NotificationReceiver to handle messages
-        MessageListenerAdapter adapter = new MessageListenerAdapter(receiver, "receiveMessage");
-
-        // Set the default listener method to be used for message handling
-        adapter.setMessageConverter(jsonMessageConverter());
-        return adapter;
-    }
-
-    /**
-     * Creates a SimpleMessageListenerContainer bean for listening to messages from RabbitMQ.
-     * This container uses the connection factory and message listener adapter to receive messages.
-     *
-     * @param connectionFactory The RabbitMQ connection factory
-     * @param listenerAdapter   The message listener adapter
-     * @return SimpleMessageListenerContainer
-     */
-    @Bean
-    public SimpleMessageListenerContainer container(ConnectionFactory connectionFactory,
-                                                    MessageListenerAdapter listenerAdapter) {
-        // Create a SimpleMessageListenerContainer to listen for messages from RabbitMQ
-        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer();
-
-        // Set the connection factory and queue names for the container
-        container.setConnectionFactory(connectionFactory);
-        container.setQueueNames(notificationQueue, ORDER_NOTIFICATION_QUEUE, DELIVERY_NOTIFICATION_QUEUE);
-        container.setMessageListener(listenerAdapter);
-        return container;
+        return new EventMessageConverter(new Jackson2JsonMessageConverter(EventJson.mapper()), EventSchemas.codec(), false);
     }
 }
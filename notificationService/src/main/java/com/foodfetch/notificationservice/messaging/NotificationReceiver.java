@@ -1,28 +1,28 @@
 package com.foodfetch.notificationservice.messaging;
 
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.foodfetch.notificationservice.model.OrderEvent;
+import com.foodfetch.events.DeliveryEvent;
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.notificationservice.config.RabbitMQConfig;
 import com.foodfetch.notificationservice.observer.EventManager;
 import com.foodfetch.notificationservice.service.NotificationService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-
 /**
  * NotificationReceiver is responsible for receiving messages from RabbitMQ and processing them.
- * It handles various message types and notifies the appropriate listeners.
+ * The message converter hands over typed events; each event type has its own handler.
  */
 @Component
+@RabbitListener(queues = {RabbitMQConfig.ORDER_NOTIFICATION_QUEUE, RabbitMQConfig.DELIVERY_NOTIFICATION_QUEUE})
 public class NotificationReceiver {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationReceiver.class);
-    private final ObjectMapper objectMapper;
     private final EventManager eventManager;
     private final NotificationService notificationService;
 
@@ -30,106 +30,60 @@ public class NotificationReceiver {
     public NotificationReceiver(EventManager eventManager, NotificationService notificationService) {
         this.eventManager = eventManager;
         this.notificationService = notificationService;
-        this.objectMapper = new ObjectMapper();
     }
 
     /**
-     * Receives messages from RabbitMQ and processes them
-     * The method is now prepared to handle various input types
+     * Receives order events and sends the notification for them
+     *
+     * @param orderEvent The order event received from RabbitMQ
      */
-    public void receiveMessage(Object message) {
+    @RabbitHandler
+    public void receiveOrderEvent(OrderEvent orderEvent) {
+        logger.info("Processing order event: {}", orderEvent);
         try {
-            logger.info("Received message: {}", message);
-
-            // Add this block to handle DeliveryEvent objects
-            if (message instanceof Map) {
-                Map<String, Object> mapMessage = (Map<String, Object>) message;
-                if (mapMessage.containsKey("orderId") && mapMessage.containsKey("status")) {
-                    JsonNode jsonNode = objectMapper.valueToTree(mapMessage);
-                    processDeliveryEvent(jsonNode);
-                    return;
-                }
-            }
-
-            String eventType = null;
-            OrderEvent orderEvent = null;
-
-            // Handle different message types
-            if (message instanceof OrderEvent) {
-                // Direct OrderEvent handling
-                orderEvent = (OrderEvent) message;
-                eventType = orderEvent.getEventType();
-                logger.info("Received OrderEvent: {}", orderEvent);
-            } else if (message instanceof byte[]) {
-                // Convert byte array to string
-                String messageStr = new String((byte[]) message);
-                JsonNode messageJson = objectMapper.readTree(messageStr);
-                eventType = messageJson.get("eventType").asText();
-                orderEvent = tryConvertToOrderEvent(messageJson);
-            } else if (message instanceof String) {
-                // Direct string handling
-                JsonNode messageJson = objectMapper.readTree((String) message);
-                eventType = messageJson.get("eventType").asText();
-                orderEvent = tryConvertToOrderEvent(messageJson);
-            } else {
-                // Try to convert the object directly
-                JsonNode messageJson = objectMapper.valueToTree(message);
-                eventType = messageJson.get("eventType").asText();
-                orderEvent = tryConvertToOrderEvent(messageJson);
-            }
-
-            // If we have a valid OrderEvent, process it with the OrderEvent
-            if (orderEvent != null) {
-                logger.info("Processing order event: {}", orderEvent);
-                notificationService.processOrderEvent(orderEvent);
-            }
-            // Otherwise, notify with just the event type
-            else if (eventType != null) {
-                logger.info("Processing notification for event type: {}", eventType);
-                eventManager.notifyListener(eventType);
-                logger.info("Successfully processed notification for event: {}", eventType);
-            } else {
-                logger.error("Could not determine event type from message");
-            }
+            notificationService.processOrderEvent(orderEvent);
         } catch (Exception e) {
             logger.error("Error processing notification message: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * Attempts to convert a JsonNode to an OrderEvent
+     * Receives delivery status events from the tracking service and notifies the listeners
      *
-     * @param jsonNode The JSON node to convert
-     * @return An OrderEvent if conversion was successful, otherwise null
+     * @param deliveryEvent The delivery event received from RabbitMQ
      */
-    private OrderEvent tryConvertToOrderEvent(JsonNode jsonNode) {
-        try {
-            return objectMapper.treeToValue(jsonNode, OrderEvent.class);
-        } catch (Exception e) {
-            logger.warn("Could not convert message to OrderEvent: {}", e.getMessage());
-            return null;
+    @RabbitHandler
+    public void receiveDeliveryEvent(DeliveryEvent deliveryEvent) {
+        // The order service publishes order.delivered for the same change, which is announced as the order event
+        if ("DELIVERED".equals(deliveryEvent.getStatus())) {
+            logger.debug("Skipping delivered event of order {}, announced by the order event", deliveryEvent.getOrderId());
+            return;
         }
-    }
-
-    // Add this to your NotificationReceiver.java
-    private void processDeliveryEvent(JsonNode jsonNode) {
         try {
-            String orderId = jsonNode.get("orderId").asText();
-            String status = jsonNode.get("status").asText();
-
             // Map tracking service status to notification type
-            String notificationType = mapTrackingStatusToNotificationType(status);
+            String notificationType = mapTrackingStatusToNotificationType(deliveryEvent.getStatus());
 
-            if (notificationType != null) {
-                logger.info("Processing delivery status update: {} -> {}", status, notificationType);
-                eventManager.notifyListener(notificationType);
-            }
+            logger.info("Processing delivery status update: {} -> {}", deliveryEvent.getStatus(), notificationType);
+            eventManager.notifyListener(notificationType);
         } catch (Exception e) {
             logger.error("Error processing delivery event: {}", e.getMessage(), e);
         }
     }
 
+    /**
+     * Receives messages that are none of the shared events; they are logged and dropped
+     *
+     * @param message The converted message
+     */
+    @RabbitHandler(isDefault = true)
+    public void receiveUnknown(Object message) {
+        logger.error("Could not determine event type from message: {}", message);
+    }
+
     private String mapTrackingStatusToNotificationType(String trackingStatus) {
+        if (trackingStatus == null) {
+            return "order-status-update";
+        }
         switch (trackingStatus) {
             case "PREPARING":
                 return "order-preparation";
@@ -141,4 +95,4 @@ public class NotificationReceiver {
                 return "order-status-update";
         }
     }
-}
\ No newline at end of file
+}
@@ -7,9 +7,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.foodfetch.events.OrderEvent;
 import com.foodfetch.notificationservice.factories.*;
 import com.foodfetch.notificationservice.model.NotificationRequest;
-import com.foodfetch.notificationservice.model.OrderEvent;
 import com.foodfetch.notificationservice.notifications.Notification;
 import com.foodfetch.notificationservice.observer.EventListener;
 import com.foodfetch.notificationservice.observer.EventManager;
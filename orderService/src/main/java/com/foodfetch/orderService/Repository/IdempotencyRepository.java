@@ -0,0 +1,12 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.orderService.model.IdempotencyRecord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * IdempotencyRepository is an interface that extends MongoRepository to provide CRUD operations for IdempotencyRecord.
+ */
+@Repository
+public interface IdempotencyRepository extends MongoRepository<IdempotencyRecord, String> {
+}
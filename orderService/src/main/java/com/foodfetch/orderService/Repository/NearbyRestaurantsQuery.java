@@ -0,0 +1,58 @@
+package com.foodfetch.orderService.Repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * NearbyRestaurantsQuery builds the $geoNear query of the nearby restaurant search, shared by the
+ * blocking and the reactive reads. Results are nearest first with their distance in kilometers, and
+ * a page is skipped and limited right after $geoNear, so only restaurants within the radius are read.
+ */
+public final class NearbyRestaurantsQuery {
+
+    // Upper bounds for a single search
+    public static final double MAX_RADIUS_KM = 50;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private NearbyRestaurantsQuery() {
+    }
+
+    /**
+     * Validates the search and builds its query.
+     *
+     * @param latitude  Latitude of the customer
+     * @param longitude Longitude of the customer
+     * @param radiusKm  Search radius in kilometers
+     * @param open      Only open (true) or closed (false) restaurants, or null for both
+     * @param pageable  Page of the results
+     * @return Near query on Restaurant.location
+     */
+    public static NearQuery of(double latitude, double longitude, double radiusKm, Boolean open, Pageable pageable) {
+        if (latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            throw new IllegalArgumentException("Radius must be greater than 0 and at most " + MAX_RADIUS_KM + " km");
+        }
+        if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size cannot be more than " + MAX_PAGE_SIZE);
+        }
+
+        NearQuery near = NearQuery.near(new GeoJsonPoint(longitude, latitude), Metrics.KILOMETERS)
+                .spherical(true)
+                .maxDistance(new Distance(radiusKm, Metrics.KILOMETERS));
+        if (open != null) {
+            near.query(new Query(Criteria.where("isOpen").is(open)));
+        }
+        // Set after query(), which would reset the skip
+        return near.with(pageable);
+    }
+}
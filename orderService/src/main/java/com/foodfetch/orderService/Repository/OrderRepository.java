@@ -1,17 +1,57 @@
 package com.foodfetch.orderService.Repository;
 
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
 import com.foodfetch.orderService.model.OrderEntity;
-import com.foodfetch.orderService.model.OrderStatus;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 /**
  * OrderRepository is an interface that extends MongoRepository to provide CRUD operations for OrderEntity.
- * It contains a method to find orders by their status.
+ * It contains methods to find or stream orders by their status, and keyset queries that page newest-first
+ * by (createdAt, id) without skipping or counting, over all orders or the orders of one customer.
+ * Methods taking a Class parameter return projections such as OrderSummaryDTO and only fetch the projected fields.
+ * Conditional status transitions are provided by OrderRepositoryCustom.
  */
 @Repository
-public interface OrderRepository extends MongoRepository<OrderEntity, String> {
+public interface OrderRepository extends MongoRepository<OrderEntity, String>, OrderRepositoryCustom {
     List<OrderEntity> findByStatusNotIn(Collection<OrderStatus> status);
+
+    <T> List<T> findByStatusNotIn(Collection<OrderStatus> status, Class<T> type);
+
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    // Backed by a server-side cursor; only one batch of documents is held in memory at a time
+    @Meta(cursorBatchSize = 256)
+    <T> Stream<T> streamByStatusNotIn(Collection<OrderStatus> status, Class<T> type);
+
+    List<OrderEntity> findAllByOrderByCreatedAtDescIdDesc(Limit limit);
+
+    <T> List<T> findAllByOrderByCreatedAtDescIdDesc(Limit limit, Class<T> type);
+
+    @Query(value = "{ '$or': [ { 'createdAt': { '$lt': ?0 } }, { 'createdAt': ?0, '_id': { '$lt': ?1 } } ] }",
+            sort = "{ 'createdAt': -1, '_id': -1 }")
+    List<OrderEntity> findPageBefore(LocalDateTime createdAt, ObjectId id, Limit limit);
+
+    @Query(value = "{ '$or': [ { 'createdAt': { '$lt': ?0 } }, { 'createdAt': ?0, '_id': { '$lt': ?1 } } ] }",
+            sort = "{ 'createdAt': -1, '_id': -1 }",
+            fields = OrderSummaryDTO.FIELDS)
+    List<OrderSummaryDTO> findSummaryPageBefore(LocalDateTime createdAt, ObjectId id, Limit limit);
+
+    <T> List<T> findByCustomerIdOrderByCreatedAtDescIdDesc(String customerId, Limit limit, Class<T> type);
+
+    @Query(value = "{ 'customerId': ?0, '$or': [ { 'createdAt': { '$lt': ?1 } }, { 'createdAt': ?1, '_id': { '$lt': ?2 } } ] }",
+            sort = "{ 'createdAt': -1, '_id': -1 }",
+            fields = OrderSummaryDTO.FIELDS)
+    List<OrderSummaryDTO> findCustomerSummaryPageBefore(String customerId, LocalDateTime createdAt, ObjectId id, Limit limit);
 }
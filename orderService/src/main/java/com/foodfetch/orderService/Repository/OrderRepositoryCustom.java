@@ -0,0 +1,70 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.model.OrderEntity;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OrderRepositoryCustom declares order operations that cannot be derived from method names.
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * Atomically moves an order to a new status if it is currently in one of the given statuses.
+     * Only status and updatedAt are written.
+     *
+     * @param orderId      ID of the order
+     * @param fromStatuses Statuses the order may currently be in
+     * @param toStatus     Status to set
+     * @return The updated order, or empty if the order does not exist or is in another status
+     */
+    Optional<OrderEntity> transitionStatus(String orderId, Collection<OrderStatus> fromStatuses, OrderStatus toStatus);
+
+    /**
+     * Applies transitionStatus to several orders in one unordered bulk write, then reads back the orders it changed.
+     * Orders that were not in one of fromStatuses are left unchanged. A failed write fails the whole call; inside a
+     * transaction MongoDB aborts it on the first write error, so there are no partial results to report.
+     *
+     * @param orderIds     IDs of the orders
+     * @param fromStatuses Statuses the orders may currently be in
+     * @param toStatus     Status to set
+     * @return The updated orders, as stored after the update
+     */
+    List<OrderEntity> transitionStatuses(Collection<String> orderIds, Collection<OrderStatus> fromStatuses, OrderStatus toStatus);
+
+    /**
+     * Moves up to batchSize orders in the given statuses that were last updated before a cutoff
+     * from the orders collection to the archive collection, oldest first.
+     *
+     * @param statuses      Statuses of the orders to archive
+     * @param updatedBefore Only orders last updated before this time are archived
+     * @param batchSize     Maximum number of orders to move
+     * @return Number of orders moved
+     */
+    int archiveOrders(Collection<OrderStatus> statuses, LocalDateTime updatedBefore, int batchSize);
+
+    /**
+     * Finds an order in the archive collection.
+     *
+     * @param orderId ID of the order
+     * @return The archived order, or empty if it is not archived
+     */
+    Optional<OrderEntity> findArchivedById(String orderId);
+
+    /**
+     * Reads one keyset page of orders, newest first by (createdAt, id), from the orders and the archive collection.
+     *
+     * @param customerId Only orders of this customer, or null for all orders
+     * @param createdAt Creation time of the last order of the previous page, or null for the first page
+     * @param id        ID of the last order of the previous page, or null for the first page
+     * @param limit     Maximum number of orders to return
+     * @param type      OrderEntity for full documents or OrderSummaryDTO for summaries
+     * @return Orders of both collections in keyset order
+     */
+    <T> List<T> findHistoryPage(String customerId, LocalDateTime createdAt, ObjectId id, int limit, Class<T> type);
+}
@@ -0,0 +1,151 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import com.foodfetch.orderService.model.OrderEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OrderRepositoryCustomImpl implements OrderRepositoryCustom with MongoTemplate.
+ * Status transitions are a single findAndModify, so the check and the write cannot interleave with
+ * another consumer updating the same order. Bulk transitions send all conditional updates in one
+ * bulkWrite and identify the orders they changed by the updatedAt value they wrote.
+ * Archiving copies orders to the archive collection before deleting them, so an interrupted run
+ * leaves the orders in both collections and the next run overwrites the copies.
+ */
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+    private static final String ORDERS_COLLECTION = "orders";
+
+    // Keyset order of the history pages
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "_id");
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for OrderRepositoryCustomImpl
+     *
+     * @param mongoTemplate MongoTemplate to run the updates
+     */
+    public OrderRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<OrderEntity> transitionStatus(String orderId, Collection<OrderStatus> fromStatuses, OrderStatus toStatus) {
+        Query query = new Query(Criteria.where("_id").is(orderId).and("status").in(fromStatuses));
+        Update update = new Update()
+                .set("status", toStatus)
+                .set("updatedAt", LocalDateTime.now());
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), OrderEntity.class));
+    }
+
+    @Override
+    public List<OrderEntity> transitionStatuses(Collection<String> orderIds, Collection<OrderStatus> fromStatuses, OrderStatus toStatus) {
+        List<String> ids = List.copyOf(new LinkedHashSet<>(orderIds));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // MongoDB stores dates with millisecond precision; truncate so the read-back matches exactly
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Update update = new Update()
+                .set("status", toStatus)
+                .set("updatedAt", updatedAt);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderEntity.class);
+        for (String id : ids) {
+            bulk.updateOne(new Query(Criteria.where("_id").is(id).and("status").in(fromStatuses)), update);
+        }
+
+        bulk.execute();
+
+        return mongoTemplate.find(new Query(Criteria.where("_id").in(ids)
+                .and("status").is(toStatus)
+                .and("updatedAt").is(updatedAt)), OrderEntity.class);
+    }
+
+    @Override
+    public int archiveOrders(Collection<OrderStatus> statuses, LocalDateTime updatedBefore, int batchSize) {
+        Criteria archivable = Criteria.where("status").in(statuses.stream().map(Enum::name).toList())
+                .and("updatedAt").lt(updatedBefore);
+        Query query = new Query(archivable)
+                .with(Sort.by(Sort.Direction.ASC, "updatedAt"))
+                .limit(batchSize);
+        // Raw documents, so fields the entity does not map are archived as well
+        List<Document> orders = mongoTemplate.find(query, Document.class, ORDERS_COLLECTION);
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> ids = new ArrayList<>(orders.size());
+        BulkOperations archive = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderEntity.ARCHIVE_COLLECTION);
+        for (Document order : orders) {
+            Object id = order.get("_id");
+            ids.add(id);
+            archive.replaceOne(new Query(Criteria.where("_id").is(id)), order, FindAndReplaceOptions.options().upsert());
+        }
+        archive.execute();
+
+        // Only orders still matching the criteria are removed; one updated since it was copied stays active
+        // with its update, and its now stale copy is dropped from the archive
+        int deleted = (int) mongoTemplate.remove(new Query(new Criteria().andOperator(
+                Criteria.where("_id").in(ids), archivable)), ORDERS_COLLECTION).getDeletedCount();
+        if (deleted < ids.size()) {
+            List<Object> kept = mongoTemplate.findDistinct(new Query(Criteria.where("_id").in(ids)), "_id",
+                    ORDERS_COLLECTION, Object.class);
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(kept)), OrderEntity.ARCHIVE_COLLECTION);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<OrderEntity> findArchivedById(String orderId) {
+        return Optional.ofNullable(mongoTemplate.findById(orderId, OrderEntity.class, OrderEntity.ARCHIVE_COLLECTION));
+    }
+
+    @Override
+    public <T> List<T> findHistoryPage(String customerId, LocalDateTime createdAt, ObjectId id, int limit, Class<T> type) {
+        Criteria criteria = customerId == null ? new Criteria() : Criteria.where("customerId").is(customerId);
+        if (createdAt != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(createdAt),
+                    Criteria.where("createdAt").is(createdAt).and("_id").lt(id));
+        }
+
+        // Each collection returns its own newest page from the createdAt_id or customerId_createdAt_id index,
+        // then the pages are merged
+        List<AggregationOperation> page = new ArrayList<>(List.of(
+                Aggregation.match(criteria), Aggregation.sort(NEWEST_FIRST), Aggregation.limit(limit)));
+        if (type == OrderSummaryDTO.class) {
+            page.add(context -> new Document("$project", Document.parse(OrderSummaryDTO.FIELDS)));
+        }
+
+        List<AggregationOperation> pipeline = new ArrayList<>(page);
+        pipeline.add(UnionWithOperation.unionWith(OrderEntity.ARCHIVE_COLLECTION).pipeline(page).mapFieldsTo(OrderEntity.class));
+        pipeline.add(Aggregation.sort(NEWEST_FIRST));
+        pipeline.add(Aggregation.limit(limit));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(OrderEntity.class, pipeline), type).getMappedResults();
+    }
+}
@@ -0,0 +1,17 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.orderService.model.OutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * OutboxRepository is an interface that extends MongoRepository to provide CRUD operations for OutboxMessage.
+ * It contains a method to read the oldest pending messages without counting the collection.
+ */
+@Repository
+public interface OutboxRepository extends MongoRepository<OutboxMessage, String> {
+    List<OutboxMessage> findByOrderByIdAsc(Pageable pageable);
+}
@@ -7,9 +7,9 @@ import java.util.Optional;
 
 /**
  * RestaurantRepository is an interface that extends MongoRepository to provide CRUD operations for Restaurant.
- * It contains a method to find a restaurant by its name.
+ * It contains a method to find a restaurant by its name and, in RestaurantRepositoryCustom, the nearby search.
  */
 @Repository
-public interface RestaurantRepository extends MongoRepository<Restaurant, String> {
+public interface RestaurantRepository extends MongoRepository<Restaurant, String>, RestaurantRepositoryCustom {
     Optional<Restaurant> findFirstByName(String name);
 }
@@ -0,0 +1,24 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.orderService.model.Restaurant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.GeoResults;
+
+/**
+ * RestaurantRepositoryCustom declares restaurant queries that cannot be derived from method names.
+ */
+public interface RestaurantRepositoryCustom {
+
+    /**
+     * Finds the restaurants within a radius of a point, nearest first, with one $geoNear aggregation
+     * on the 2dsphere index of the location. Unlike a derived GeoPage query it does not count the matches.
+     *
+     * @param latitude  Latitude of the point
+     * @param longitude Longitude of the point
+     * @param radiusKm  Search radius in kilometers
+     * @param open      Only open (true) or closed (false) restaurants, or null for both
+     * @param pageable  Page of the results
+     * @return Restaurants of the page with their distance in kilometers
+     */
+    GeoResults<Restaurant> findNearby(double latitude, double longitude, double radiusKm, Boolean open, Pageable pageable);
+}
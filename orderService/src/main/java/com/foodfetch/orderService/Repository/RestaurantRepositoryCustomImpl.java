@@ -0,0 +1,29 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.orderService.model.Restaurant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * RestaurantRepositoryCustomImpl implements RestaurantRepositoryCustom with MongoTemplate.
+ */
+public class RestaurantRepositoryCustomImpl implements RestaurantRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for RestaurantRepositoryCustomImpl
+     *
+     * @param mongoTemplate MongoTemplate to run the queries
+     */
+    public RestaurantRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public GeoResults<Restaurant> findNearby(double latitude, double longitude, double radiusKm, Boolean open, Pageable pageable) {
+        return mongoTemplate.query(Restaurant.class)
+                .near(NearbyRestaurantsQuery.of(latitude, longitude, radiusKm, open, pageable))
+                .all();
+    }
+}
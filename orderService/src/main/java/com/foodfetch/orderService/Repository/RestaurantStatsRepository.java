@@ -0,0 +1,23 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.orderService.model.RestaurantStats;
+import com.foodfetch.orderService.model.StatsGranularity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * RestaurantStatsRepository is an interface that extends MongoRepository to provide access to the per-restaurant rollups.
+ * The buckets of a report are read with one range scan on the restaurantId_granularity_bucketStart index.
+ */
+@Repository
+public interface RestaurantStatsRepository extends MongoRepository<RestaurantStats, String>, RestaurantStatsRepositoryCustom {
+
+    // Buckets starting in [from, to), oldest first
+    @Query(value = "{ 'restaurantId': ?0, 'granularity': ?1, 'bucketStart': { '$gte': ?2, '$lt': ?3 } }",
+            sort = "{ 'bucketStart': 1 }")
+    List<RestaurantStats> findBuckets(String restaurantId, StatsGranularity granularity, Instant from, Instant to);
+}
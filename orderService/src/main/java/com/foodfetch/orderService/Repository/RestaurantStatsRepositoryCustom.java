@@ -0,0 +1,41 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.orderService.model.RestaurantStats;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RestaurantStatsRepositoryCustom declares the rollup updates that cannot be derived from method names.
+ */
+public interface RestaurantStatsRepositoryCustom {
+
+    /**
+     * Adds the counters of each given bucket to the stored bucket with the same ID in one unordered
+     * bulk write of $inc upserts. Buckets that do not exist yet are created.
+     *
+     * @param deltas Buckets holding the amounts to add
+     */
+    void increment(Collection<RestaurantStats> deltas);
+
+    /**
+     * Recomputes the minute buckets of [from, to) from the orders and the order archive: orders are counted in
+     * the minute they were created, cancellations in the minute of the cancelled order's last update.
+     *
+     * @param from Start of the range, at a minute boundary
+     * @param to   End of the range, exclusive
+     * @return Minute buckets in which something happened, in no particular order
+     */
+    List<RestaurantStats> aggregateMinuteBuckets(Instant from, Instant to);
+
+    /**
+     * Replaces the stored buckets of every granularity starting in [from, to) with the given ones,
+     * in one ordered bulk write.
+     *
+     * @param from    Start of the range
+     * @param to      End of the range, exclusive
+     * @param buckets Buckets to store instead
+     */
+    void replaceBuckets(Instant from, Instant to, Collection<RestaurantStats> buckets);
+}
@@ -0,0 +1,125 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.RestaurantStats;
+import com.foodfetch.orderService.model.StatsGranularity;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * RestaurantStatsRepositoryCustomImpl implements RestaurantStatsRepositoryCustom with MongoTemplate.
+ * Each bucket is a single upsert on its _id, which MongoDB applies atomically, so rollups written by
+ * several instances at once add up without lost updates.
+ * The minute buckets can also be recomputed from the orders with an aggregation, to repair the counters.
+ */
+public class RestaurantStatsRepositoryCustomImpl implements RestaurantStatsRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for RestaurantStatsRepositoryCustomImpl
+     *
+     * @param mongoTemplate MongoTemplate to run the updates
+     */
+    public RestaurantStatsRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void increment(Collection<RestaurantStats> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RestaurantStats.class);
+        for (RestaurantStats delta : deltas) {
+            Update update = new Update()
+                    .setOnInsert("restaurantId", delta.getRestaurantId())
+                    .setOnInsert("granularity", delta.getGranularity())
+                    .setOnInsert("bucketStart", delta.getBucketStart())
+                    .inc("orderCount", delta.getOrderCount())
+                    .inc("grossAmount", delta.getGrossAmount())
+                    .inc("itemCount", delta.getItemCount())
+                    .inc("cancelledCount", delta.getCancelledCount())
+                    .inc("cancelledAmount", delta.getCancelledAmount());
+            bulk.upsert(new Query(Criteria.where("_id").is(delta.getId())), update);
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public List<RestaurantStats> aggregateMinuteBuckets(Instant from, Instant to) {
+        Document range = new Document("$gte", Date.from(from)).append("$lt", Date.from(to));
+        List<RestaurantStats> buckets = new ArrayList<>();
+
+        Document placed = new Document("createdAt", range);
+        aggregateMinutes(placed, "$createdAt", new Document("orderCount", new Document("$sum", 1))
+                        .append("grossAmount", new Document("$sum", "$totalAmount"))
+                        .append("itemCount", new Document("$sum", new Document("$sum", "$items.quantity"))),
+                (bucket, result) -> {
+                    bucket.setOrderCount(number(result, "orderCount"));
+                    bucket.setGrossAmount(number(result, "grossAmount"));
+                    bucket.setItemCount(number(result, "itemCount"));
+                }, buckets);
+
+        Document cancelled = new Document("status", OrderStatus.CANCELLED.name()).append("updatedAt", range);
+        aggregateMinutes(cancelled, "$updatedAt", new Document("cancelledCount", new Document("$sum", 1))
+                        .append("cancelledAmount", new Document("$sum", "$totalAmount")),
+                (bucket, result) -> {
+                    bucket.setCancelledCount(number(result, "cancelledCount"));
+                    bucket.setCancelledAmount(number(result, "cancelledAmount"));
+                }, buckets);
+        return buckets;
+    }
+
+    @Override
+    public void replaceBuckets(Instant from, Instant to, Collection<RestaurantStats> buckets) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, RestaurantStats.class);
+        bulk.remove(new Query(Criteria.where("bucketStart").gte(from).lt(to)));
+        if (!buckets.isEmpty()) {
+            bulk.insert(List.copyOf(buckets));
+        }
+        bulk.execute();
+    }
+
+    /**
+     * Groups the matching orders of both the orders and the archive collection by restaurant and the minute of
+     * the given date field, and adds one minute bucket per group. A placement and a cancellation in the same
+     * minute end up in two buckets with the same ID; callers merge them.
+     */
+    private void aggregateMinutes(Document match, String dateField, Document counters,
+                                  BiConsumer<RestaurantStats, Document> apply,
+                                  List<RestaurantStats> buckets) {
+        Document group = new Document("_id", new Document("restaurantId", "$restaurantId")
+                .append("minute", new Document("$dateTrunc", new Document("date", dateField).append("unit", "minute"))));
+        group.putAll(counters);
+        List<Document> pipeline = List.of(
+                new Document("$match", match),
+                new Document("$unionWith", new Document("coll", OrderEntity.ARCHIVE_COLLECTION)
+                        .append("pipeline", List.of(new Document("$match", match)))),
+                new Document("$group", group));
+
+        for (Document result : mongoTemplate.getCollection(mongoTemplate.getCollectionName(OrderEntity.class)).aggregate(pipeline)) {
+            Document id = result.get("_id", Document.class);
+            RestaurantStats bucket = new RestaurantStats(id.getString("restaurantId"), StatsGranularity.MINUTE,
+                    id.getDate("minute").toInstant());
+            apply.accept(bucket, result);
+            buckets.add(bucket);
+        }
+    }
+
+    private static long number(Document document, String field) {
+        return document.get(field, Number.class).longValue();
+    }
+}
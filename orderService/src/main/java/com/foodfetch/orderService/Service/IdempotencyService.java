@@ -0,0 +1,176 @@
+package com.foodfetch.orderService.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodfetch.orderService.Repository.IdempotencyRepository;
+import com.foodfetch.orderService.exception.IdempotencyConflictException;
+import com.foodfetch.orderService.model.IdempotencyRecord;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * IdempotencyService makes order creation safe to retry.
+ * The first request with a given Idempotency-Key runs the action and stores its response; retries with
+ * the same key and body get the stored response back without running the action again.
+ * The action and the completed record are written in one transaction, so an order is never stored without
+ * its key being completed. Completed keys are kept in a small in-memory cache in front of the TTL-indexed
+ * idempotency_keys collection; each caller gets its own copy of the stored response.
+ */
+@Service
+public class IdempotencyService {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, IdempotencyRecord> completedRecords;
+
+    // Runs the action and completes the key atomically; absent when MongoDB transactions are disabled
+    private final Optional<TransactionTemplate> transactionTemplate;
+
+    // How long a completed key is remembered
+    private final Duration retention;
+
+    // How long a key stays locked while its first request is in progress
+    private final Duration pendingTimeout;
+
+    /**
+     * Constructor for IdempotencyService
+     *
+     * @param idempotencyRepository Repository to handle idempotency records
+     * @param objectMapper          Mapper used to fingerprint request bodies and copy responses
+     * @param meterRegistry         Registry the cache statistics are bound to
+     * @param transactionManager    Transaction manager of MongoDB, if transactions are enabled
+     * @param retention             How long a completed key is remembered
+     * @param pendingTimeout        How long a key stays locked while its first request is in progress
+     * @param cacheSize             Maximum number of completed keys kept in memory
+     * @param cacheTtl              How long a completed key is kept in memory
+     */
+    public IdempotencyService(IdempotencyRepository idempotencyRepository,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              Optional<PlatformTransactionManager> transactionManager,
+                              @Value("${idempotency.retention:24h}") Duration retention,
+                              @Value("${idempotency.pending-timeout:1m}") Duration pendingTimeout,
+                              @Value("${idempotency.cache.max-size:10000}") long cacheSize,
+                              @Value("${idempotency.cache.ttl:10m}") Duration cacheTtl) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionManager.map(TransactionTemplate::new);
+        this.retention = retention;
+        this.pendingTimeout = pendingTimeout;
+        this.completedRecords = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, completedRecords, "idempotency");
+    }
+
+    /**
+     * Runs the action once per idempotency key.
+     *
+     * @param key     Value of the Idempotency-Key header
+     * @param request Request body, used to detect a key being reused for a different request
+     * @param action  Action creating the order
+     * @return Order created by the first request with this key
+     */
+    public OrderEntity execute(String key, Object request, Supplier<OrderEntity> action) {
+        if (key.isBlank()) {
+            throw new IllegalArgumentException("Idempotency-Key cannot be empty");
+        }
+        String requestHash = fingerprint(request);
+
+        Optional<IdempotencyRecord> existing = findCompleted(key);
+        if (existing.isPresent()) {
+            return replay(existing.get(), requestHash);
+        }
+
+        // Lock the key; a concurrent request with the same key fails on the unique _id
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = new IdempotencyRecord(key, requestHash, false, null, now, now.plus(pendingTimeout));
+        try {
+            idempotencyRepository.insert(record);
+        } catch (DuplicateKeyException e) {
+            return idempotencyRepository.findById(key)
+                    .filter(IdempotencyRecord::isCompleted)
+                    .map(completed -> replay(completed, requestHash))
+                    .orElseThrow(() -> new IdempotencyConflictException(
+                            "A request with Idempotency-Key " + key + " is already in progress"));
+        }
+
+        Supplier<OrderEntity> actionAndComplete = () -> {
+            OrderEntity response = action.get();
+            record.setCompleted(true);
+            record.setResponse(copy(response));
+            record.setExpiresAt(LocalDateTime.now().plus(retention));
+            idempotencyRepository.save(record);
+            return response;
+        };
+        OrderEntity response;
+        try {
+            // The action's own transaction joins this one
+            response = transactionTemplate.isPresent()
+                    ? transactionTemplate.get().execute(status -> actionAndComplete.get())
+                    : actionAndComplete.get();
+        } catch (RuntimeException e) {
+            // Release the key so the client can retry
+            idempotencyRepository.deleteById(key);
+            throw e;
+        }
+
+        completedRecords.put(key, record);
+        return response;
+    }
+
+    private Optional<IdempotencyRecord> findCompleted(String key) {
+        IdempotencyRecord cached = completedRecords.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<IdempotencyRecord> stored = idempotencyRepository.findById(key).filter(IdempotencyRecord::isCompleted);
+        stored.ifPresent(record -> completedRecords.put(key, record));
+        return stored;
+    }
+
+    private OrderEntity replay(IdempotencyRecord record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException(
+                    "Idempotency-Key " + record.getKey() + " was already used for a different request");
+        }
+        logger.info("Replaying stored response for Idempotency-Key {}", record.getKey());
+        return copy(record.getResponse());
+    }
+
+    // Deep copy through the JSON mapping, so callers never share the stored response
+    private OrderEntity copy(OrderEntity order) {
+        return objectMapper.convertValue(order, OrderEntity.class);
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint request", e);
+        }
+    }
+}
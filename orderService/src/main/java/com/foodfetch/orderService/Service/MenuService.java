@@ -2,6 +2,8 @@
 package com.foodfetch.orderService.Service;
 
 import com.foodfetch.orderService.Repository.MenuItemRepository;
+import com.foodfetch.orderService.cache.MenuCache;
+import com.foodfetch.orderService.cache.MenuSnapshot;
 import com.foodfetch.orderService.model.MenuItem;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -10,20 +12,23 @@ import java.util.List;
 
 /**
  * MenuService is a service class that provides methods to interact with menu items.
- * It uses MenuItemRepository to perform CRUD operations on menu items.
+ * It uses MenuItemRepository to perform CRUD operations on menu items and MenuCache for per-restaurant menus.
  */
 @Service
 public class MenuService {
     private final MenuItemRepository menuItemRepository;
+    private final MenuCache menuCache;
 
     /**
      * Constructor for MenuService
      *
      * @param menuItemRepository Repository to handle menu item operations
+     * @param menuCache          Cache of versioned per-restaurant menus
      */
     @Autowired
-    public MenuService(MenuItemRepository menuItemRepository) {
+    public MenuService(MenuItemRepository menuItemRepository, MenuCache menuCache) {
         this.menuItemRepository = menuItemRepository;
+        this.menuCache = menuCache;
     }
 
     /**
@@ -33,7 +38,17 @@ public class MenuService {
      * @return List of MenuItem
      */
     public List<MenuItem> getMenuItemsByRestaurant(String restaurantId) {
-        return menuItemRepository.findByRestaurantId(restaurantId);
+        return menuCache.get(restaurantId).getItems();
+    }
+
+    /**
+     * Retrieves the cached, pre-serialized menu of a specific restaurant together with its version.
+     *
+     * @param restaurantId ID of the restaurant
+     * @return MenuSnapshot of the restaurant
+     */
+    public MenuSnapshot getMenuSnapshot(String restaurantId) {
+        return menuCache.get(restaurantId);
     }
 
     /**
@@ -0,0 +1,74 @@
+package com.foodfetch.orderService.Service;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.Repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OrderArchiver moves delivered and cancelled orders that have not changed for a while from the
+ * orders collection to the archive collection in the background, so the active order queries
+ * and their indexes only cover the recent orders. Orders are moved in batches of batchSize until
+ * none are left; OrderService still finds archived orders by ID. Disabled unless
+ * order.archive.enabled is set.
+ */
+@Component
+@ConditionalOnProperty(name = "order.archive.enabled", havingValue = "true")
+public class OrderArchiver {
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiver.class);
+
+    // Orders in these statuses no longer change and can be archived
+    private static final List<OrderStatus> ARCHIVABLE_STATUSES = List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+
+    // How long a finished order stays in the orders collection
+    private final Duration age;
+
+    // Maximum number of orders moved per batch
+    private final int batchSize;
+
+    /**
+     * Constructor for OrderArchiver
+     *
+     * @param orderRepository Repository to handle order operations
+     * @param age             Time since their last update after which finished orders are archived
+     * @param batchSize       Maximum number of orders moved per batch
+     */
+    public OrderArchiver(OrderRepository orderRepository,
+                         @Value("${order.archive.age:30d}") Duration age,
+                         @Value("${order.archive.batch-size:500}") int batchSize) {
+        this.orderRepository = orderRepository;
+        this.age = age;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Archives finished orders older than the configured age, one batch at a time.
+     *
+     * @return Number of orders archived
+     */
+    @Scheduled(fixedDelayString = "${order.archive.interval-ms:600000}")
+    public int archive() {
+        LocalDateTime updatedBefore = LocalDateTime.now().minus(age);
+        int total = 0;
+        int moved;
+        do {
+            moved = orderRepository.archiveOrders(ARCHIVABLE_STATUSES, updatedBefore, batchSize);
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            logger.info("Archived {} orders last updated before {}", total, updatedBefore);
+        }
+        return total;
+    }
+}
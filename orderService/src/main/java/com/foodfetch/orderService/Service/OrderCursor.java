@@ -0,0 +1,50 @@
+package com.foodfetch.orderService.Service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * OrderCursor is the position of the last order on a keyset-paginated page, ordered by (createdAt, id).
+ * It is handed to clients as an opaque URL-safe token.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final ObjectId id;
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return URL-safe cursor token
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token Cursor token from the client
+     * @return Decoded OrderCursor
+     */
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    new ObjectId(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -1,40 +1,78 @@
 package com.foodfetch.orderService.Service;
 
-import com.foodfetch.orderService.Factory.FactoryRegistry;
-import com.foodfetch.orderService.Factory.OrderFactory;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.cache.CustomerOrdersCache;
+import com.foodfetch.orderService.cache.OrderSnapshotCache;
+import com.foodfetch.orderService.cache.RestaurantCache;
+import com.foodfetch.orderService.dto.BatchOrderResultDTO;
+import com.foodfetch.orderService.dto.CursorPageDTO;
+import com.foodfetch.orderService.dto.OrderRequestDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
 import com.foodfetch.orderService.exception.OrderNotFoundException;
 import com.foodfetch.orderService.exception.ResourceNotFoundException;
-import com.foodfetch.orderService.messaging.OrderEvent;
 import com.foodfetch.orderService.messaging.RabbitMQOrderSender;
 import com.foodfetch.orderService.model.OrderEntity;
 import com.foodfetch.orderService.model.OrderItem;
-import com.foodfetch.orderService.model.OrderStatus;
 import com.foodfetch.orderService.model.Restaurant;
+import com.foodfetch.orderService.money.Money;
+import com.foodfetch.orderService.pricing.PricingEngine;
 import com.foodfetch.orderService.Repository.OrderRepository;
-import com.foodfetch.orderService.Repository.RestaurantRepository;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * OrderService is a service class that provides methods to manage orders.
- * It uses OrderRepository and RestaurantRepository to perform CRUD operations on orders and restaurants.
+ * It uses OrderRepository to perform CRUD operations on orders and RestaurantCache to look up restaurants.
+ * The most recent page of each customer's orders is served from the CustomerOrdersCache.
+ * Placed and cancelled orders are added to the per-restaurant rollups of the RestaurantStatsService.
  */
 @Service
 public class OrderService {
     private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
 
-    private final FactoryRegistry factoryRegistry;
-    private final RestaurantRepository restaurantRepository;
+    // Upper bound for a single keyset page
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // Upper bound for a single batch of orders
+    private static final int MAX_BATCH_SIZE = 100;
+
+    // Orders in these statuses are no longer active
+    private static final List<OrderStatus> TERMINAL_STATUSES = List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    // Statuses an order may be cancelled from
+    private static final Set<OrderStatus> CANCELLABLE_STATUSES = EnumSet.complementOf(EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED));
+
+    // Statuses an order may be moved to each status from; see validateStatusTransition
+    private static final Map<OrderStatus, Set<OrderStatus>> ALLOWED_SOURCE_STATUSES = allowedSourceStatuses();
+
+    private final PricingEngine pricingEngine;
+    private final RestaurantCache restaurantCache;
     private final OrderRepository orderRepository;
+    private final OrderSnapshotCache orderSnapshotCache;
+    private final CustomerOrdersCache customerOrdersCache;
+    private final RestaurantStatsService restaurantStatsService;
 
     // RabbitMQ message sender for order status changes and notifications
     private final RabbitMQOrderSender messageSender;
@@ -42,119 +80,358 @@ public class OrderService {
     /**
      * Constructor for OrderService
      *
-     * @param factoryRegistry        FactoryRegistry to get the appropriate order factory
-     * @param restaurantRepository   Repository to handle restaurant operations
+     * @param pricingEngine          Compiled pricing rules of each restaurant
+     * @param restaurantCache        Read-through cache of restaurants
      * @param orderRepository        Repository to handle order operations
+     * @param orderSnapshotCache     Cache of the latest state of active orders
+     * @param customerOrdersCache    Cache of the most recent orders of each customer
+     * @param restaurantStatsService Rollups of each restaurant's orders
      * @param messageSender          Message sender for RabbitMQ
      */
     @Autowired
-    public OrderService(FactoryRegistry factoryRegistry,
-                        RestaurantRepository restaurantRepository,
+    public OrderService(PricingEngine pricingEngine,
+                        RestaurantCache restaurantCache,
                         OrderRepository orderRepository,
+                        OrderSnapshotCache orderSnapshotCache,
+                        CustomerOrdersCache customerOrdersCache,
+                        RestaurantStatsService restaurantStatsService,
                         RabbitMQOrderSender messageSender) {
-        this.factoryRegistry = factoryRegistry;
-        this.restaurantRepository = restaurantRepository;
+        this.pricingEngine = pricingEngine;
+        this.restaurantCache = restaurantCache;
         this.orderRepository = orderRepository;
+        this.orderSnapshotCache = orderSnapshotCache;
+        this.customerOrdersCache = customerOrdersCache;
+        this.restaurantStatsService = restaurantStatsService;
         this.messageSender = messageSender;
     }
 
     /**
      * Creates a new order for a specific restaurant.
      *
+     * @param customerId     ID of the customer placing the order, may be null
      * @param restaurantName Name of the restaurant
      * @param items          List of order items
      * @return Created OrderEntity
      */
     @Transactional
-    public OrderEntity createOrder(String restaurantName, List<OrderItem> items) {
-        // Calculate the total amount from items
-        double calculatedAmount = calculateOrderTotal(items);
+    public OrderEntity createOrder(String customerId, String restaurantName, List<OrderItem> items) {
+        OrderEntity orderEntity = buildOrder(customerId, restaurantName, items, restaurantCache::findByName);
+
+        try {
+            orderEntity = orderRepository.save(orderEntity);
+            cacheWrittenOrder(orderEntity);
+            restaurantStatsService.recordPlaced(List.of(orderEntity));
+
+            // Publish order created event; it reaches the payment and notification services
+            messageSender.sendOrderStatusChangeEvent(orderEntity);
+
+            return orderEntity;
+        } catch (Exception e) {
+            logger.error("Error creating order: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to create order: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates several orders at once. Every order is validated on its own and invalid ones are
+     * reported without affecting the rest; restaurant lookups are shared across the batch,
+     * the valid orders are inserted with a single insertMany and their events are written to the
+     * outbox in one go.
+     *
+     * @param requests Orders to create
+     * @return One result per request, in request order
+     */
+    @Transactional
+    public List<BatchOrderResultDTO> createOrders(List<OrderRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one order");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + MAX_BATCH_SIZE + " orders");
+        }
+        logger.info("Creating batch of {} orders", requests.size());
+
+        // Lookups shared by all orders of the batch
+        Map<String, Optional<Restaurant>> restaurants = new HashMap<>();
+        Function<String, Optional<Restaurant>> restaurantLookup =
+                name -> restaurants.computeIfAbsent(name, restaurantCache::findByName);
+
+        BatchOrderResultDTO[] results = new BatchOrderResultDTO[requests.size()];
+        List<OrderEntity> validOrders = new ArrayList<>(requests.size());
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            OrderRequestDTO request = requests.get(i);
+            if (request == null) {
+                results[i] = new BatchOrderResultDTO(i, false, null, "Order cannot be null");
+                continue;
+            }
+            try {
+                validOrders.add(buildOrder(request.getCustomerId(), request.getRestaurantName(), request.getItems(), restaurantLookup));
+                validIndexes.add(i);
+            } catch (IllegalArgumentException | ResourceNotFoundException e) {
+                results[i] = new BatchOrderResultDTO(i, false, null, e.getMessage());
+            } catch (RuntimeException e) {
+                // One broken order must not fail the others of the batch
+                logger.error("Error building order {} of batch", i, e);
+                results[i] = new BatchOrderResultDTO(i, false, null, "Failed to create order: " + e.getMessage());
+            }
+        }
+
+        if (!validOrders.isEmpty()) {
+            List<OrderEntity> savedOrders = orderRepository.insert(validOrders);
+            savedOrders.forEach(this::cacheWrittenOrder);
+            restaurantStatsService.recordPlaced(savedOrders);
+            messageSender.sendOrderStatusChangeEvents(savedOrders);
+            for (int i = 0; i < savedOrders.size(); i++) {
+                int index = validIndexes.get(i);
+                results[index] = new BatchOrderResultDTO(index, true, savedOrders.get(i), null);
+            }
+        }
+
+        logger.info("Created {} of {} orders in batch", validOrders.size(), requests.size());
+        return List.of(results);
+    }
+
+    /**
+     * Validates an order request and builds the (unsaved) order with the restaurant's pricing rules.
+     *
+     * @param customerId       ID of the customer placing the order, may be null
+     * @param restaurantName   Name of the restaurant
+     * @param items            List of order items
+     * @param restaurantLookup Function to find a restaurant by name
+     * @return New OrderEntity
+     */
+    private OrderEntity buildOrder(String customerId,
+                                   String restaurantName,
+                                   List<OrderItem> items,
+                                   Function<String, Optional<Restaurant>> restaurantLookup) {
         logger.info("Creating order for restaurant: {}", restaurantName);
-        logger.info("Calculated amount: {}", calculatedAmount);
 
         if (restaurantName == null || restaurantName.trim().isEmpty()) {
             throw new IllegalArgumentException("Restaurant name cannot be empty");
         }
 
-        if (items.isEmpty()) {
+        if (items == null || items.isEmpty()) {
             throw new IllegalArgumentException("Order must contain at least one item");
         }
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            if (item == null) {
+                throw new IllegalArgumentException("Order item " + i + " cannot be null");
+            }
+            if (item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Order item " + i + " must have a positive quantity");
+            }
+            if (item.getPrice() < 0) {
+                throw new IllegalArgumentException("Order item " + i + " cannot have a negative price");
+            }
+        }
+
+        // Calculate the total amount from items
+        long calculatedAmount = calculateOrderTotal(items);
+        logger.info("Calculated amount: {} cents", calculatedAmount);
 
         // Check if restaurant exists
-        Optional<Restaurant> restaurantOpt = restaurantRepository.findFirstByName(restaurantName);
+        Optional<Restaurant> restaurantOpt = restaurantLookup.apply(restaurantName);
         if (restaurantOpt.isEmpty()) {
             logger.error("Restaurant not found: {}", restaurantName);
             throw new ResourceNotFoundException("Restaurant not found: " + restaurantName);
         }
 
-        Restaurant restaurant = restaurantOpt.get();
-        String restaurantId = restaurant.getId();
-
-        // Get the appropriate factory for the restaurant
-        OrderFactory factory = factoryRegistry.getFactory(restaurantName);
-        if (factory == null) {
-            logger.error("No factory found for restaurant: {}", restaurantName);
-            throw new IllegalArgumentException("No factory found for restaurant: " + restaurantName);
-        }
+        // Create order using the restaurant's compiled pricing rules
+        OrderEntity order = pricingEngine.evaluatorFor(restaurantOpt.get()).createOrder(calculatedAmount, items);
+        order.setCustomerId(customerId);
+        return order;
+    }
 
-        // Create order using the factory
-        try {
-            OrderEntity orderEntity = factory.createOrder(restaurantId, calculatedAmount, items);
-            orderEntity = orderRepository.save(orderEntity);
+    /**
+     * Retrieves all orders with pagination.
+     *
+     * @param pageable Pagination information
+     * @return Page of OrderEntity
+     */
+    public Page<OrderEntity> getAllOrders(Pageable pageable) {
+        return orderRepository.findAll(pageable);
+    }
 
-            // Publish order created event to message queue
-            messageSender.sendOrderStatusChangeEvent(orderEntity);
+    /**
+     * Retrieves summaries of all orders with pagination.
+     *
+     * @param pageable Pagination information
+     * @return Page of OrderSummaryDTO
+     */
+    public Page<OrderSummaryDTO> getOrderSummaries(Pageable pageable) {
+        return orderRepository.findAllBy(pageable, OrderSummaryDTO.class);
+    }
 
-            // Send notification for order creation
-            messageSender.sendNotificationEvent(orderEntity);
+    /**
+     * Retrieves one page of orders, newest first, using keyset pagination on (createdAt, id).
+     * Unlike {@link #getAllOrders(Pageable)} this never skips or counts, so every page costs the same.
+     *
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size   Number of orders per page
+     * @return Page content and the cursor of the next page
+     */
+    public CursorPageDTO<OrderEntity> getOrdersByCursor(String cursor, int size) {
+        int pageSize = cursorPageSize(size);
+        // Fetch one extra order to find out whether there is a next page
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<OrderEntity> orders;
+        if (cursor == null || cursor.isEmpty()) {
+            orders = orderRepository.findAllByOrderByCreatedAtDescIdDesc(limit);
+        } else {
+            OrderCursor position = OrderCursor.decode(cursor);
+            orders = orderRepository.findPageBefore(position.getCreatedAt(), position.getId(), limit);
+        }
+        return toCursorPage(orders, pageSize, order -> new OrderCursor(order.getCreatedAt(), new ObjectId(order.getId())));
+    }
 
-            // Send payment processing event if needed
-            if (orderEntity.getStatus() == OrderStatus.CREATED) {
-                messageSender.sendPaymentProcessingEvent(orderEntity);
-            }
+    /**
+     * Retrieves one page of order summaries, newest first, using keyset pagination on (createdAt, id).
+     *
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size   Number of orders per page
+     * @return Page content and the cursor of the next page
+     */
+    public CursorPageDTO<OrderSummaryDTO> getOrderSummariesByCursor(String cursor, int size) {
+        int pageSize = cursorPageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
 
-            return orderEntity;
-        } catch (Exception e) {
-            logger.error("Error creating order: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to create order: " + e.getMessage(), e);
+        List<OrderSummaryDTO> orders;
+        if (cursor == null || cursor.isEmpty()) {
+            orders = orderRepository.findAllByOrderByCreatedAtDescIdDesc(limit, OrderSummaryDTO.class);
+        } else {
+            OrderCursor position = OrderCursor.decode(cursor);
+            orders = orderRepository.findSummaryPageBefore(position.getCreatedAt(), position.getId(), limit);
         }
+        return toCursorPage(orders, pageSize, order -> new OrderCursor(order.getCreatedAt(), new ObjectId(order.getId())));
     }
 
     /**
-     * Retrieves all orders with pagination.
+     * Retrieves one page of orders including archived ones, newest first, using keyset pagination on (createdAt, id).
      *
-     * @param pageable Pagination information
-     * @return Page of OrderEntity
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size   Number of orders per page
+     * @return Page content and the cursor of the next page
      */
-    @Transactional(readOnly = true)
-    public Page<OrderEntity> getAllOrders(Pageable pageable) {
-        return orderRepository.findAll(pageable);
+    public CursorPageDTO<OrderEntity> getOrderHistoryByCursor(String cursor, int size) {
+        return toHistoryPage(null, cursor, size, OrderEntity.class,
+                order -> new OrderCursor(order.getCreatedAt(), new ObjectId(order.getId())));
+    }
+
+    /**
+     * Retrieves one page of order summaries including archived orders, newest first,
+     * using keyset pagination on (createdAt, id).
+     *
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size   Number of orders per page
+     * @return Page content and the cursor of the next page
+     */
+    public CursorPageDTO<OrderSummaryDTO> getOrderHistorySummariesByCursor(String cursor, int size) {
+        return toHistoryPage(null, cursor, size, OrderSummaryDTO.class,
+                order -> new OrderCursor(order.getCreatedAt(), new ObjectId(order.getId())));
+    }
+
+    /**
+     * Retrieves one page of a customer's order summaries, newest first, using keyset pagination on (createdAt, id).
+     * Each page is a single range read on the customerId_createdAt_id index; the first page of the
+     * cached page size is served from the CustomerOrdersCache.
+     *
+     * @param customerId      ID of the customer
+     * @param cursor          Cursor returned with the previous page, or null for the first page
+     * @param size            Number of orders per page
+     * @param includeArchived Whether to include archived orders, which are not cached
+     * @return Page content and the cursor of the next page
+     */
+    public CursorPageDTO<OrderSummaryDTO> getCustomerOrders(String customerId, String cursor, int size, boolean includeArchived) {
+        if (customerId == null || customerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Customer ID cannot be empty");
+        }
+        Function<OrderSummaryDTO, OrderCursor> cursorOf =
+                order -> new OrderCursor(order.getCreatedAt(), new ObjectId(order.getId()));
+        if (includeArchived) {
+            return toHistoryPage(customerId, cursor, size, OrderSummaryDTO.class, cursorOf);
+        }
+
+        int pageSize = cursorPageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        if (cursor == null || cursor.isEmpty()) {
+            Supplier<CursorPageDTO<OrderSummaryDTO>> firstPage = () -> toCursorPage(
+                    orderRepository.findByCustomerIdOrderByCreatedAtDescIdDesc(customerId, limit, OrderSummaryDTO.class),
+                    pageSize, cursorOf);
+            return pageSize == customerOrdersCache.getPageSize()
+                    ? customerOrdersCache.getRecentPage(customerId, firstPage)
+                    : firstPage.get();
+        }
+
+        OrderCursor position = OrderCursor.decode(cursor);
+        return toCursorPage(orderRepository.findCustomerSummaryPageBefore(
+                customerId, position.getCreatedAt(), position.getId(), limit), pageSize, cursorOf);
     }
 
     /**
-     * Retrieves an order by its ID.
+     * Retrieves an order by its ID. Orders that have been archived are looked up in the archive.
      *
      * @param id ID of the order
      * @return OrderEntity with the specified ID
      */
-    @Transactional(readOnly = true)
     public OrderEntity getOrderById(String id) {
         if (id == null || id.trim().isEmpty()) {
             throw new IllegalArgumentException("Order ID cannot be empty");
         }
 
         return orderRepository.findById(id)
+                .or(() -> orderRepository.findArchivedById(id))
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with id: " + id));
     }
 
+    /**
+     * Checks the snapshot cache for whether an order is already known to be past a status.
+     * Does not go to MongoDB, so a false result only means the cache cannot tell.
+     *
+     * @param id     ID of the order
+     * @param status Status to compare with
+     * @return true if the cached order is in a later status
+     */
+    public boolean isKnownToBePast(String id, OrderStatus status) {
+        return orderSnapshotCache.getIfPresent(id)
+                .map(order -> order.getStatus().ordinal() > status.ordinal())
+                .orElse(false);
+    }
+
     /**
      * Retrieves all active orders (not delivered or cancelled).
      *
      * @return List of active OrderEntity
      */
-    @Transactional(readOnly = true)
     public List<OrderEntity> getActiveOrders() {
-        return orderRepository.findByStatusNotIn(List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED));
+        return orderRepository.findByStatusNotIn(TERMINAL_STATUSES);
+    }
+
+    /**
+     * Retrieves summaries of all active orders (not delivered or cancelled).
+     *
+     * @return List of active OrderSummaryDTO
+     */
+    public List<OrderSummaryDTO> getActiveOrderSummaries() {
+        return orderRepository.findByStatusNotIn(TERMINAL_STATUSES, OrderSummaryDTO.class);
+    }
+
+    /**
+     * Passes every active order (not delivered or cancelled) to the given action while reading them
+     * from a MongoDB cursor, so memory use does not grow with the number of active orders.
+     * The cursor is read outside of any transaction: a stream to a slow client may take longer than
+     * MongoDB's transaction lifetime limit.
+     *
+     * @param type   OrderEntity for full documents or OrderSummaryDTO for summaries
+     * @param action Action to apply to each active order
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public <T> void forEachActiveOrder(Class<T> type, Consumer<? super T> action) {
+        try (Stream<T> orders = orderRepository.streamByStatusNotIn(TERMINAL_STATUSES, type)) {
+            orders.forEach(action);
+        }
     }
 
     /**
@@ -176,75 +453,61 @@ public class OrderService {
             throw new IllegalArgumentException("New status cannot be null");
         }
 
-        OrderEntity order = getOrderById(orderId);
-
-        // Validate status transition
-        validateStatusTransition(order.getStatus(), newStatus);
-
-        // Update order status
-        order.setStatus(newStatus);
-        order.setUpdatedAt(LocalDateTime.now());
-
-        // Save updated order
-        order = orderRepository.save(order);
+        // Update order status only if the transition is allowed from its current status
+        OrderEntity order = orderRepository.transitionStatus(orderId, ALLOWED_SOURCE_STATUSES.get(newStatus), newStatus)
+                .orElseThrow(() -> rejectedTransition(orderId, newStatus));
+        cacheWrittenOrder(order);
+        if (newStatus == OrderStatus.CANCELLED) {
+            restaurantStatsService.recordCancelled(order);
+        }
 
         // Publish order status update event
         messageSender.sendOrderStatusChangeEvent(order);
 
-        // Now also send notification event
-        messageSender.sendNotificationEvent(order);
-
-        // Add this block to send tracking events when order is confirmed
-        if (newStatus == OrderStatus.CONFIRMED) {
-            // Set default location data if not available
-            if (order.getRestaurantLatitude() == 0 && order.getRestaurantLongitude() == 0) {
-                // Set some default values - replace with actual data if available
-                order.setRestaurantLatitude(40.7128);  // Example: NYC coordinates
-                order.setRestaurantLongitude(-74.0060);
-            }
+        return order;
+    }
 
-            if (order.getCustomerLatitude() == 0 && order.getCustomerLongitude() == 0) {
-                // Set some default values - replace with actual data if available
-                order.setCustomerLatitude(40.7308);  // Example: Different NYC coordinates
-                order.setCustomerLongitude(-73.9973);
-            }
+    /**
+     * Confirms a batch of paid orders with one bulk write and publishes their events in one outbox write.
+     * Orders that are no longer awaiting confirmation are left unchanged. The status updates and the outbox
+     * write share one transaction, so a failed update rolls back the whole batch.
+     *
+     * @param orderIds IDs of the paid orders
+     * @return The confirmed orders
+     */
+    @Transactional
+    public List<OrderEntity> confirmOrders(Collection<String> orderIds) {
+        logger.info("Confirming {} paid orders", orderIds.size());
 
-            messageSender.sendTrackingEvent(order);
-        }
+        List<OrderEntity> confirmed = orderRepository.transitionStatuses(
+                orderIds, ALLOWED_SOURCE_STATUSES.get(OrderStatus.CONFIRMED), OrderStatus.CONFIRMED);
 
-        return order;
+        confirmed.forEach(this::cacheWrittenOrder);
+        messageSender.sendOrderStatusChangeEvents(confirmed);
+        return confirmed;
     }
 
     @Transactional
     public OrderEntity cancelOrder(String orderId) {
         logger.info("Cancelling order: {}", orderId);
 
-        OrderEntity order = getOrderById(orderId);
-
-        // Only allow cancellation for orders that haven't been delivered yet
-        if (order.getStatus() == OrderStatus.DELIVERED) {
+        // Only allow cancellation for orders that haven't been delivered or cancelled yet
+        Optional<OrderEntity> cancelled = orderRepository.transitionStatus(orderId, CANCELLABLE_STATUSES, OrderStatus.CANCELLED);
+        if (cancelled.isEmpty()) {
+            OrderEntity current = getOrderById(orderId);
+            if (current.getStatus() == OrderStatus.CANCELLED) {
+                // Repeated cancel: nothing changed, so stats and events are not recorded again
+                return current;
+            }
             throw new IllegalStateException("Cannot cancel order that has already been delivered");
         }
+        OrderEntity order = cancelled.get();
+        cacheWrittenOrder(order);
+        restaurantStatsService.recordCancelled(order);
 
-        order.setStatus(OrderStatus.CANCELLED);
-        order.setUpdatedAt(LocalDateTime.now());
-
-        // Save cancelled order
-        order = orderRepository.save(order);
-
-        // Publish order cancelled event
+        // Publish order cancelled event; the payment service refunds the order if it was paid
         messageSender.sendOrderStatusChangeEvent(order);
 
-        // Send notification for order cancellation
-        messageSender.sendNotificationEvent(order);
-
-        // If payment was processed, send refund event
-        if (order.getPaymentDetails() != null &&
-                order.getPaymentDetails().getStatus() != null &&
-                order.getPaymentDetails().getStatus().toString().equals("COMPLETED")) {
-            messageSender.sendPaymentRefundEvent(order);
-        }
-
         return order;
     }
 
@@ -270,35 +533,131 @@ public class OrderService {
         }
     }
 
+    /**
+     * Builds the error for a status transition that matched no order.
+     * Only called on the failure path, so the extra read does not slow down successful transitions.
+     *
+     * @param orderId   ID of the order
+     * @param newStatus Status that could not be set
+     * @return Exception describing why the transition was rejected
+     */
+    private RuntimeException rejectedTransition(String orderId, OrderStatus newStatus) {
+        OrderEntity order = getOrderById(orderId);
+        validateStatusTransition(order.getStatus(), newStatus);
+        // The order was in another status when the update ran and has changed since
+        return new IllegalStateException(
+                "Order " + orderId + " was modified concurrently, cannot change status to " + newStatus);
+    }
+
+    /**
+     * Derives the allowed source statuses of each status from validateStatusTransition's rules.
+     *
+     * @return Map of target status to the statuses it may be reached from
+     */
+    private static Map<OrderStatus, Set<OrderStatus>> allowedSourceStatuses() {
+        Map<OrderStatus, Set<OrderStatus>> sources = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus target : OrderStatus.values()) {
+            EnumSet<OrderStatus> allowed = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus current : OrderStatus.values()) {
+                if (!TERMINAL_STATUSES.contains(current) && current.ordinal() <= target.ordinal()) {
+                    allowed.add(current);
+                }
+            }
+            sources.put(target, allowed);
+        }
+        return sources;
+    }
+
+    /**
+     * Validates a requested keyset page size and caps it.
+     *
+     * @param size Requested page size
+     * @return Page size to use
+     */
+    private int cursorPageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(size, MAX_CURSOR_PAGE_SIZE);
+    }
+
+    /**
+     * Reads a keyset page from the orders and the archive collection.
+     *
+     * @param customerId Only orders of this customer, or null for all orders
+     * @param cursor     Cursor returned with the previous page, or null for the first page
+     * @param size       Number of orders per page
+     * @param type       OrderEntity or OrderSummaryDTO
+     * @param cursorOf   Function computing the cursor position of a row
+     * @return Page content and the cursor of the next page
+     */
+    private <T> CursorPageDTO<T> toHistoryPage(String customerId, String cursor, int size,
+                                               Class<T> type, Function<T, OrderCursor> cursorOf) {
+        int pageSize = cursorPageSize(size);
+        OrderCursor position = cursor == null || cursor.isEmpty() ? null : OrderCursor.decode(cursor);
+
+        // Fetch one extra order to find out whether there is a next page
+        List<T> orders = orderRepository.findHistoryPage(customerId,
+                position == null ? null : position.getCreatedAt(),
+                position == null ? null : position.getId(),
+                pageSize + 1, type);
+        return toCursorPage(orders, pageSize, cursorOf);
+    }
+
+    /**
+     * Builds a keyset page from a result fetched with one extra row.
+     *
+     * @param rows     Rows fetched with a limit of pageSize + 1
+     * @param pageSize Page size
+     * @param cursorOf Function computing the cursor position of a row
+     * @return Page content and the cursor of the next page, null if there is none
+     */
+    private <T> CursorPageDTO<T> toCursorPage(List<T> rows, int pageSize, Function<T, OrderCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<T> page = List.copyOf(rows.subList(0, pageSize));
+        return new CursorPageDTO<>(page, cursorOf.apply(page.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Updates the caches after an order was written: stores its snapshot and drops the customer's
+     * cached order page, both once the transaction has committed.
+     *
+     * @param order The order as it was written
+     */
+    private void cacheWrittenOrder(OrderEntity order) {
+        orderSnapshotCache.put(order);
+        customerOrdersCache.evictAfterCommit(order.getCustomerId());
+    }
+
     /**
      * Calculates the total amount of the order based on items and their quantities.
      *
      * @param items List of order items
-     * @return Total amount of the order
+     * @return Total amount of the order in cents
      */
-    private double calculateOrderTotal(List<OrderItem> items) {
-        return items.stream()
-                .mapToDouble(item -> item.getPrice() * item.getQuantity())
-                .sum();
+    private long calculateOrderTotal(List<OrderItem> items) {
+        long total = 0;
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            total = Money.plus(total, Money.times(item.getPrice(), item.getQuantity()));
+        }
+        return total;
     }
 
+    @Transactional
     public void completeOrder(String orderId) {
-        Optional<OrderEntity> optionalOrder = orderRepository.findById(orderId);
+        // Duplicate or late tracking events do not touch orders that are already delivered or cancelled
+        Optional<OrderEntity> optionalOrder = orderRepository.transitionStatus(
+                orderId, ALLOWED_SOURCE_STATUSES.get(OrderStatus.DELIVERED), OrderStatus.DELIVERED);
 
         if (optionalOrder.isPresent()) {
-            OrderEntity order = optionalOrder.get();
-            order.setStatus(OrderStatus.DELIVERED);
-            order.setUpdatedAt(LocalDateTime.now());
-            orderRepository.save(order);
-
-            messageSender.sendNotificationEvent(order);
+            cacheWrittenOrder(optionalOrder.get());
+            messageSender.sendOrderStatusChangeEvent(optionalOrder.get());
             logger.info("Order {} Status Updated to DELIVERED via Tracking Event", orderId);
         } else {
-            logger.warn("Attempted to Complete Non-Existent Order: {}", orderId);
+            logger.warn("Attempted to Complete Non-Existent or Finished Order: {}", orderId);
         }
     }
-
-    public void sendNotificationForEvent(OrderEvent event) {
-        messageSender.sendNotificationEventDirect(event);  // Use this method instead
-    }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.foodfetch.orderService.Service;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.Repository.NearbyRestaurantsQuery;
+import com.foodfetch.orderService.cache.MenuCache;
+import com.foodfetch.orderService.cache.MenuSnapshot;
+import com.foodfetch.orderService.dto.NearbyRestaurantDTO;
+import com.foodfetch.orderService.model.MenuItem;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.Restaurant;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * ReactiveReadService serves the read-heavy endpoints of the reactive profile with the reactive MongoDB driver.
+ * No thread waits for MongoDB: results are emitted as the driver receives them.
+ * It reads the same collections as OrderService, RestaurantService and MenuService, and shares the MenuCache with them.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveReadService {
+
+    // Orders in these statuses are no longer active
+    private static final List<OrderStatus> TERMINAL_STATUSES = List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MenuCache menuCache;
+
+    /**
+     * Constructor for ReactiveReadService
+     *
+     * @param mongoTemplate Reactive template for the reads
+     * @param menuCache     Cache of versioned per-restaurant menus
+     */
+    public ReactiveReadService(ReactiveMongoTemplate mongoTemplate, MenuCache menuCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.menuCache = menuCache;
+    }
+
+    /**
+     * Retrieves an order by its ID, falling through to the archive like OrderService.getOrderById.
+     *
+     * @param id ID of the order
+     * @return The order, or empty if it does not exist
+     */
+    public Mono<OrderEntity> getOrderById(String id) {
+        return mongoTemplate.findById(id, OrderEntity.class)
+                .switchIfEmpty(Mono.defer(() -> mongoTemplate.findById(id, OrderEntity.class, OrderEntity.ARCHIVE_COLLECTION)));
+    }
+
+    /**
+     * Streams all active orders (not delivered or cancelled).
+     *
+     * @param type OrderEntity for full documents or OrderSummaryDTO for summaries, which only fetch the summary fields
+     * @return Active orders as they are read from the cursor
+     */
+    public <T> Flux<T> getActiveOrders(Class<T> type) {
+        return mongoTemplate.query(OrderEntity.class)
+                .as(type)
+                .matching(new Query(Criteria.where("status").nin(TERMINAL_STATUSES)))
+                .all();
+    }
+
+    /**
+     * Streams all restaurants.
+     *
+     * @return Restaurants as they are read from the cursor
+     */
+    public Flux<Restaurant> getAllRestaurants() {
+        return mongoTemplate.findAll(Restaurant.class);
+    }
+
+    /**
+     * Streams one page of the restaurants within a radius of a point, nearest first, like RestaurantService.getNearbyRestaurants.
+     *
+     * @param latitude  Latitude of the customer
+     * @param longitude Longitude of the customer
+     * @param radiusKm  Search radius in kilometers
+     * @param open      Only open (true) or closed (false) restaurants, or null for both
+     * @param pageable  Page of the results
+     * @return Restaurants of the page with their distance in kilometers
+     */
+    public Flux<NearbyRestaurantDTO> getNearbyRestaurants(double latitude, double longitude, double radiusKm,
+                                                          Boolean open, Pageable pageable) {
+        // An invalid search throws here, before the response has started
+        return mongoTemplate.query(Restaurant.class)
+                .near(NearbyRestaurantsQuery.of(latitude, longitude, radiusKm, open, pageable))
+                .all()
+                .map(result -> new NearbyRestaurantDTO(result.getContent(), result.getDistance().getValue()));
+    }
+
+    /**
+     * Retrieves a restaurant by its ID.
+     *
+     * @param id ID of the restaurant
+     * @return The restaurant, or empty if it does not exist
+     */
+    public Mono<Restaurant> getRestaurantById(String id) {
+        return mongoTemplate.findById(id, Restaurant.class);
+    }
+
+    /**
+     * Retrieves the menu snapshot of a restaurant from the MenuCache, reading the items reactively on a miss.
+     *
+     * @param restaurantId ID of the restaurant
+     * @return MenuSnapshot of the restaurant
+     */
+    public Mono<MenuSnapshot> getMenuSnapshot(String restaurantId) {
+        return Mono.justOrEmpty(menuCache.getIfPresent(restaurantId))
+                .switchIfEmpty(Mono.defer(() -> {
+                    long generation = menuCache.generation();
+                    return mongoTemplate
+                            .find(new Query(Criteria.where("restaurantId").is(restaurantId)), MenuItem.class)
+                            .collectList()
+                            .map(items -> menuCache.put(restaurantId, generation, items));
+                }));
+    }
+
+    /**
+     * Retrieves a specific menu item by its ID.
+     *
+     * @param id ID of the menu item
+     * @return The menu item, or empty if it does not exist
+     */
+    public Mono<MenuItem> getMenuItemById(String id) {
+        return mongoTemplate.findById(id, MenuItem.class);
+    }
+}
@@ -1,28 +1,35 @@
 // RestaurantService.java
 package com.foodfetch.orderService.Service;
 
-import com.foodfetch.orderService.model.Restaurant;
 import com.foodfetch.orderService.Repository.RestaurantRepository;
+import com.foodfetch.orderService.cache.RestaurantCache;
+import com.foodfetch.orderService.dto.NearbyRestaurantDTO;
+import com.foodfetch.orderService.model.Restaurant;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 /**
  * RestaurantService is a service class that provides methods to interact with restaurant data.
- * It uses RestaurantRepository to perform CRUD operations on restaurants.
+ * Reads go through RestaurantCache, which loads from RestaurantRepository on a miss.
+ * The nearby search depends on the customer's position and goes to RestaurantRepository directly.
  */
 @Service
 public class RestaurantService {
+    private final RestaurantCache restaurantCache;
     private final RestaurantRepository restaurantRepository;
 
     /**
      * Constructor for RestaurantService
      *
-     * @param restaurantRepository Repository to handle restaurant operations
+     * @param restaurantCache      Read-through cache of restaurants
+     * @param restaurantRepository Repository for the nearby search
      */
     @Autowired
-    public RestaurantService(RestaurantRepository restaurantRepository) {
+    public RestaurantService(RestaurantCache restaurantCache, RestaurantRepository restaurantRepository) {
+        this.restaurantCache = restaurantCache;
         this.restaurantRepository = restaurantRepository;
     }
 
@@ -32,7 +39,7 @@ public class RestaurantService {
      * @return List of Restaurant
      */
     public List<Restaurant> getAllRestaurants() {
-        return restaurantRepository.findAll();
+        return restaurantCache.findAll();
     }
 
     /**
@@ -42,7 +49,28 @@ public class RestaurantService {
      * @return Restaurant
      */
     public Restaurant getRestaurantById(String id) {
-        return restaurantRepository.findById(id)
+        return restaurantCache.findById(id)
                 .orElseThrow(() -> new RuntimeException("Restaurant not found with id: " + id));
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves one page of the restaurants within a radius of a point, nearest first.
+     *
+     * @param latitude  Latitude of the customer
+     * @param longitude Longitude of the customer
+     * @param radiusKm  Search radius in kilometers
+     * @param open      Only open (true) or closed (false) restaurants, or null for both
+     * @param page      Zero-based page number
+     * @param size      Number of restaurants per page
+     * @return List of NearbyRestaurantDTO, shorter than size on the last page
+     */
+    public List<NearbyRestaurantDTO> getNearbyRestaurants(double latitude, double longitude, double radiusKm,
+                                                          Boolean open, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be at least 0 and size at least 1");
+        }
+        return restaurantRepository.findNearby(latitude, longitude, radiusKm, open, PageRequest.of(page, size)).getContent().stream()
+                .map(result -> new NearbyRestaurantDTO(result.getContent(), result.getDistance().getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.foodfetch.orderService.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * RestaurantStatsRepair rebuilds the restaurant rollups of the previous UTC day from the orders once a day.
+ * The rollups are incremented after each order commits; an increment that failed, or was lost when the
+ * instance stopped in between, would otherwise leave the counters of its buckets off for good.
+ */
+@Component
+@ConditionalOnProperty(name = "restaurant-stats.repair.enabled", havingValue = "true")
+public class RestaurantStatsRepair {
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantStatsRepair.class);
+
+    private final RestaurantStatsService restaurantStatsService;
+
+    /**
+     * Constructor for RestaurantStatsRepair
+     *
+     * @param restaurantStatsService Service maintaining the rollups
+     */
+    public RestaurantStatsRepair(RestaurantStatsService restaurantStatsService) {
+        this.restaurantStatsService = restaurantStatsService;
+    }
+
+    /**
+     * Rebuilds the buckets of the previous UTC day.
+     *
+     * @return Number of buckets written
+     */
+    @Scheduled(cron = "${restaurant-stats.repair.cron:0 15 0 * * *}", zone = "UTC")
+    public int repairPreviousDay() {
+        Instant yesterday = Instant.now().minus(Duration.ofDays(1));
+        int buckets = restaurantStatsService.rebuildDay(yesterday);
+        logger.info("Rebuilt {} restaurant stats buckets of {}", buckets, yesterday.truncatedTo(ChronoUnit.DAYS));
+        return buckets;
+    }
+}
@@ -0,0 +1,194 @@
+package com.foodfetch.orderService.Service;
+
+import com.foodfetch.orderService.Repository.RestaurantStatsRepository;
+import com.foodfetch.orderService.dto.RestaurantStatsDTO;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.OrderItem;
+import com.foodfetch.orderService.model.RestaurantStats;
+import com.foodfetch.orderService.model.StatsGranularity;
+import com.foodfetch.orderService.money.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RestaurantStatsService maintains the minute, hour and day rollups of each restaurant's orders and reads them back.
+ * OrderService reports every order it places or cancels; the change is added to the three buckets it falls into
+ * with $inc upserts, so reports read a few pre-aggregated documents instead of scanning the orders collection.
+ * The rollups are written once the order's transaction has committed: they never count a rolled back order,
+ * and the hot bucket documents are not part of the order transactions, where concurrent orders of the same
+ * restaurant would conflict on them. A failed rollup write is logged and does not fail the order; the
+ * RestaurantStatsRepair rebuilds the buckets of past days from the orders, so such a gap does not last.
+ */
+@Service
+public class RestaurantStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantStatsService.class);
+
+    // Upper bound for the buckets of a single report, one day of minutes
+    private static final int MAX_BUCKETS = 1440;
+
+    private final RestaurantStatsRepository statsRepository;
+
+    /**
+     * Constructor for RestaurantStatsService
+     *
+     * @param statsRepository Repository of the rollup documents
+     */
+    @Autowired
+    public RestaurantStatsService(RestaurantStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Counts newly placed orders in the buckets of their creation time.
+     *
+     * @param orders Orders that were created
+     */
+    public void recordPlaced(Collection<OrderEntity> orders) {
+        Map<String, RestaurantStats> deltas = new LinkedHashMap<>();
+        for (OrderEntity order : orders) {
+            int items = 0;
+            for (OrderItem item : order.getItems()) {
+                items += item.getQuantity();
+            }
+            for (StatsGranularity granularity : StatsGranularity.values()) {
+                RestaurantStats delta = delta(deltas, order.getRestaurantId(), granularity, toInstant(order.getCreatedAt()));
+                delta.setOrderCount(delta.getOrderCount() + 1);
+                delta.setGrossAmount(Money.plus(delta.getGrossAmount(), order.getTotalAmount()));
+                delta.setItemCount(delta.getItemCount() + items);
+            }
+        }
+        incrementAfterCommit(deltas.values());
+    }
+
+    /**
+     * Counts a cancellation in the buckets of the time the order was cancelled.
+     *
+     * @param order Order that was cancelled
+     */
+    public void recordCancelled(OrderEntity order) {
+        Map<String, RestaurantStats> deltas = new LinkedHashMap<>();
+        for (StatsGranularity granularity : StatsGranularity.values()) {
+            RestaurantStats delta = delta(deltas, order.getRestaurantId(), granularity, toInstant(order.getUpdatedAt()));
+            delta.setCancelledCount(1);
+            delta.setCancelledAmount(order.getTotalAmount());
+        }
+        incrementAfterCommit(deltas.values());
+    }
+
+    /**
+     * Retrieves the buckets of a restaurant starting in [from, to), oldest first.
+     * Buckets in which nothing happened are left out.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param granularity  Width of the buckets
+     * @param from         Start of the range, or null for the granularity's default range before to
+     * @param to           End of the range, exclusive, or null for now
+     * @return Statistics of each bucket
+     */
+    public List<RestaurantStatsDTO> getStats(String restaurantId, StatsGranularity granularity,
+                                             Instant from, Instant to) {
+        if (restaurantId == null || restaurantId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Restaurant ID cannot be empty");
+        }
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(granularity.getDefaultRange());
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (granularity.bucketsBetween(start, end) > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Range cannot span more than " + MAX_BUCKETS + " "
+                    + granularity.name().toLowerCase() + " buckets");
+        }
+
+        return statsRepository.findBuckets(restaurantId, granularity, granularity.bucketStart(start), end).stream()
+                .map(RestaurantStatsService::toDTO)
+                .toList();
+    }
+
+    /**
+     * Recomputes the minute, hour and day buckets of one UTC day from the orders and the order archive and
+     * replaces the stored ones, dropping increments that were lost or applied twice.
+     * Only days that have ended can be rebuilt: an order placed during the rebuild could otherwise be
+     * counted by both the rebuild and its own increment.
+     *
+     * @param day Any time within the day
+     * @return Number of buckets written
+     */
+    public int rebuildDay(Instant day) {
+        Instant from = StatsGranularity.DAY.bucketStart(day);
+        Instant to = from.plus(Duration.ofDays(1));
+        if (to.isAfter(Instant.now())) {
+            throw new IllegalArgumentException("Only days that have ended can be rebuilt");
+        }
+
+        Map<String, RestaurantStats> buckets = new LinkedHashMap<>();
+        for (RestaurantStats minute : statsRepository.aggregateMinuteBuckets(from, to)) {
+            for (StatsGranularity granularity : StatsGranularity.values()) {
+                RestaurantStats bucket = delta(buckets, minute.getRestaurantId(), granularity, minute.getBucketStart());
+                bucket.setOrderCount(bucket.getOrderCount() + minute.getOrderCount());
+                bucket.setGrossAmount(Money.plus(bucket.getGrossAmount(), minute.getGrossAmount()));
+                bucket.setItemCount(bucket.getItemCount() + minute.getItemCount());
+                bucket.setCancelledCount(bucket.getCancelledCount() + minute.getCancelledCount());
+                bucket.setCancelledAmount(Money.plus(bucket.getCancelledAmount(), minute.getCancelledAmount()));
+            }
+        }
+        statsRepository.replaceBuckets(from, to, buckets.values());
+        return buckets.size();
+    }
+
+    private static RestaurantStats delta(Map<String, RestaurantStats> deltas, String restaurantId,
+                                         StatsGranularity granularity, Instant time) {
+        return deltas.computeIfAbsent(RestaurantStats.idOf(restaurantId, granularity, time),
+                id -> new RestaurantStats(restaurantId, granularity, time));
+    }
+
+    // Order times are stored in the server's zone; the buckets are keyed by the instant
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static RestaurantStatsDTO toDTO(RestaurantStats stats) {
+        long orders = stats.getOrderCount();
+        return new RestaurantStatsDTO(
+                stats.getBucketStart(),
+                orders,
+                stats.getGrossAmount(),
+                stats.getCancelledCount(),
+                stats.getCancelledAmount(),
+                orders == 0 ? 0 : Math.round((double) stats.getGrossAmount() / orders),
+                orders == 0 ? 0 : (double) stats.getItemCount() / orders);
+    }
+
+    private void incrementAfterCommit(Collection<RestaurantStats> deltas) {
+        Runnable increment = () -> {
+            try {
+                statsRepository.increment(deltas);
+            } catch (Exception e) {
+                logger.warn("Failed to update restaurant stats: {}", e.getMessage(), e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment.run();
+            }
+        });
+    }
+}
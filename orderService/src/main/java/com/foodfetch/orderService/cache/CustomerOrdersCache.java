@@ -0,0 +1,103 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.dto.CursorPageDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * CustomerOrdersCache holds the most recent page of each customer's orders, as shown on the "My orders" screen.
+ * Only the first page of pageSize orders is cached; later pages and other sizes are read from MongoDB.
+ * OrderService evicts a customer's entry once a write to one of the customer's orders has committed, so the
+ * customer sees the change on this instance right away; CustomerOrdersCacheInvalidator evicts the entries
+ * of other instances when the order event arrives.
+ * Evicting while a page is loading waits for the load and then removes it, so a page read before a change is not kept.
+ */
+@Component
+public class CustomerOrdersCache {
+
+    private final Cache<String, CursorPageDTO<OrderSummaryDTO>> recentPages;
+
+    // Size of the cached page
+    private final int pageSize;
+
+    /**
+     * Constructor for CustomerOrdersCache
+     *
+     * @param meterRegistry Registry the cache statistics are bound to
+     * @param maxSize       Maximum number of customers kept
+     * @param ttl           Time after which a cached page is reloaded
+     * @param pageSize      Size of the cached page
+     */
+    public CustomerOrdersCache(MeterRegistry meterRegistry,
+                               @Value("${customer-orders.cache.max-size:10000}") long maxSize,
+                               @Value("${customer-orders.cache.ttl:5m}") Duration ttl,
+                               @Value("${customer-orders.cache.page-size:10}") int pageSize) {
+        this.pageSize = pageSize;
+        this.recentPages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, recentPages, "orders.byCustomer");
+    }
+
+    /**
+     * @return Size of the page that is cached
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the most recent page of a customer's orders, loading it on a miss.
+     *
+     * @param customerId ID of the customer
+     * @param loader     Reads the first page of pageSize orders
+     * @return The cached or loaded page
+     */
+    public CursorPageDTO<OrderSummaryDTO> getRecentPage(String customerId, Supplier<CursorPageDTO<OrderSummaryDTO>> loader) {
+        return recentPages.get(customerId, key -> loader.get());
+    }
+
+    /**
+     * Invalidates the cached page of a customer. Called when one of the customer's orders changes.
+     *
+     * @param customerId ID of the customer
+     */
+    public void evict(String customerId) {
+        recentPages.invalidate(customerId);
+    }
+
+    /**
+     * Invalidates the cached page of a customer now and again once the current transaction has committed,
+     * so a page reloaded while the transaction was still open is not kept. Without a transaction the page
+     * is invalidated right away.
+     *
+     * @param customerId ID of the customer, may be null
+     */
+    public void evictAfterCommit(String customerId) {
+        if (customerId == null) {
+            return;
+        }
+        recentPages.invalidate(customerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentPages.invalidate(customerId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.events.OrderEvent;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * CustomerOrdersCacheInvalidator evicts a customer's cached order page whenever an event for one of
+ * the customer's orders is published. Every instance of the service listens on its own temporary
+ * queue bound to order.#, so each instance evicts its own cache. The instance that wrote the order
+ * has already evicted its entry after commit; this covers the other instances.
+ */
+@Component
+public class CustomerOrdersCacheInvalidator {
+    private final CustomerOrdersCache customerOrdersCache;
+
+    /**
+     * Constructor for CustomerOrdersCacheInvalidator
+     *
+     * @param customerOrdersCache Cache to invalidate
+     */
+    public CustomerOrdersCacheInvalidator(CustomerOrdersCache customerOrdersCache) {
+        this.customerOrdersCache = customerOrdersCache;
+    }
+
+    @RabbitListener(queues = "#{orderEventsInvalidationQueue.name}")
+    public void onOrderEvent(OrderEvent event) {
+        if (event.getCustomerId() != null) {
+            customerOrdersCache.evict(event.getCustomerId());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.foodfetch.orderService.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodfetch.orderService.Repository.MenuItemRepository;
+import com.foodfetch.orderService.model.MenuItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MenuCache holds a versioned MenuSnapshot per restaurant.
+ * A snapshot is built once from MenuItemRepository, serialized once, and served until one of the
+ * restaurant's menu items changes or its TTL expires.
+ */
+@Component
+public class MenuCache {
+    private final MenuItemRepository menuItemRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, MenuSnapshot> snapshots;
+
+    // Incremented by every eviction, so a snapshot built from items read before it is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructor for MenuCache
+     *
+     * @param menuItemRepository Repository to handle menu item operations
+     * @param objectMapper       Mapper used to serialize the snapshot, same as the HTTP layer
+     * @param meterRegistry      Registry the cache statistics are bound to
+     * @param maxSize            Maximum number of restaurant menus kept in memory
+     * @param ttl                Time after which a snapshot is rebuilt from MongoDB
+     */
+    public MenuCache(MenuItemRepository menuItemRepository,
+                     ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry,
+                     @Value("${menu.cache.max-size:1000}") long maxSize,
+                     @Value("${menu.cache.ttl:10m}") Duration ttl) {
+        this.menuItemRepository = menuItemRepository;
+        this.objectMapper = objectMapper;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "menus");
+    }
+
+    /**
+     * Returns the current menu snapshot for a restaurant, building it on a miss.
+     *
+     * @param restaurantId ID of the restaurant
+     * @return MenuSnapshot of the restaurant
+     */
+    public MenuSnapshot get(String restaurantId) {
+        return snapshots.get(restaurantId, this::load);
+    }
+
+    /**
+     * Returns the cached menu snapshot of a restaurant without building it.
+     *
+     * @param restaurantId ID of the restaurant
+     * @return The cached snapshot, or empty on a miss
+     */
+    public Optional<MenuSnapshot> getIfPresent(String restaurantId) {
+        return Optional.ofNullable(snapshots.getIfPresent(restaurantId));
+    }
+
+    /**
+     * Returns the current eviction generation. Callers that read menu items themselves capture it before
+     * the read and pass it to put.
+     *
+     * @return Current generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Builds a snapshot from menu items the caller has read and caches it, unless another snapshot was
+     * cached in the meantime or a menu was evicted since the read started. Used by the reactive read path,
+     * which reads the items without blocking.
+     *
+     * @param restaurantId   ID of the restaurant
+     * @param readGeneration Generation captured before the items were read
+     * @param items          Menu items of the restaurant
+     * @return The cached snapshot, or the new one uncached if the items may be stale
+     */
+    public MenuSnapshot put(String restaurantId, long readGeneration, List<MenuItem> items) {
+        MenuSnapshot snapshot = snapshot(restaurantId, items);
+        // Checked inside the compute: an eviction either bumps the generation first or removes this entry after
+        MenuSnapshot cached = snapshots.asMap().computeIfAbsent(restaurantId,
+                key -> generation.get() == readGeneration ? snapshot : null);
+        return cached != null ? cached : snapshot;
+    }
+
+    /**
+     * Invalidates the menu of a single restaurant.
+     *
+     * @param restaurantId ID of the restaurant whose menu changed
+     */
+    public void evict(String restaurantId) {
+        generation.incrementAndGet();
+        snapshots.invalidate(restaurantId);
+    }
+
+    /**
+     * Invalidates the menu that contains a menu item. Used when only the item's ID is known, as on deletes.
+     * A menu item that is in no cached snapshot has nothing to invalidate.
+     *
+     * @param itemId ID of the menu item that changed
+     */
+    public void evictItem(String itemId) {
+        generation.incrementAndGet();
+        snapshots.asMap().values().removeIf(snapshot -> snapshot.containsItem(itemId));
+    }
+
+    /**
+     * Invalidates every cached menu.
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        snapshots.invalidateAll();
+    }
+
+    private MenuSnapshot load(String restaurantId) {
+        return snapshot(restaurantId, menuItemRepository.findByRestaurantId(restaurantId));
+    }
+
+    private MenuSnapshot snapshot(String restaurantId, List<MenuItem> items) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(items);
+            return new MenuSnapshot(restaurantId, items, json, hash(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu for restaurant: " + restaurantId, e);
+        }
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
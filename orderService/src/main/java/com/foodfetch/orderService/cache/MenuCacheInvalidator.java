@@ -0,0 +1,47 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.model.MenuItem;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * MenuCacheInvalidator evicts a restaurant's menu snapshot whenever this service saves one of its menu items.
+ * Deletes only carry the item ID, so they evict the snapshot that contains the item; deletes by
+ * other criteria clear every snapshot.
+ */
+@Component
+public class MenuCacheInvalidator extends AbstractMongoEventListener<MenuItem> {
+    private final MenuCache menuCache;
+
+    /**
+     * Constructor for MenuCacheInvalidator
+     *
+     * @param menuCache Cache to invalidate
+     */
+    public MenuCacheInvalidator(MenuCache menuCache) {
+        this.menuCache = menuCache;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<MenuItem> event) {
+        String restaurantId = event.getSource().getRestaurantId();
+        if (restaurantId != null) {
+            menuCache.evict(restaurantId);
+        } else {
+            menuCache.evictAll();
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<MenuItem> event) {
+        Object id = event.getSource().get("_id");
+        if (id instanceof String || id instanceof ObjectId) {
+            menuCache.evictItem(id.toString());
+        } else {
+            menuCache.evictAll();
+        }
+    }
+}
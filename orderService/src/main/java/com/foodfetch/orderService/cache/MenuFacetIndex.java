@@ -0,0 +1,221 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.dto.MenuSearchResultDTO;
+import com.foodfetch.orderService.model.MenuItem;
+import com.foodfetch.orderService.money.Money;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * MenuFacetIndex is an in-memory faceted index over one restaurant's menu, built once per MenuSnapshot.
+ * Bit i of every set stands for the i-th menu item: there is one set per category, one for vegetarian and
+ * one for available items, and one per price bucket. Item positions are also sorted by price, so any price
+ * range is two binary searches. A query is a few AND/OR operations on sets of a few machine words, and
+ * each facet count is the cardinality of one more AND, so searches never touch the items themselves
+ * until the matches are collected. Instances are immutable and shared between threads.
+ */
+public final class MenuFacetIndex {
+
+    // Lower bounds of the price buckets of the price facet, in cents; the first bucket starts at 0
+    private static final long[] PRICE_BUCKET_BOUNDS = {1000, 2000, 3000};
+
+    private final List<MenuItem> items;
+    private final BitSet all;
+    private final Map<String, BitSet> categories; // by normalized name, in menu order
+    private final Map<String, String> categoryNames; // display name of each normalized name
+    private final BitSet vegetarian;
+    private final BitSet available;
+    private final BitSet[] priceBuckets;
+    private final String[] priceBucketLabels;
+    private final long[] sortedPrices;
+    private final int[] byPrice; // item positions in the order of sortedPrices
+
+    /**
+     * Builds the index of a menu.
+     *
+     * @param items Menu items in menu order
+     */
+    public MenuFacetIndex(List<MenuItem> items) {
+        this.items = List.copyOf(items);
+        int size = this.items.size();
+
+        this.all = new BitSet(size);
+        all.set(0, size);
+        this.categories = new LinkedHashMap<>();
+        this.categoryNames = new LinkedHashMap<>();
+        this.vegetarian = new BitSet(size);
+        this.available = new BitSet(size);
+        this.priceBuckets = new BitSet[PRICE_BUCKET_BOUNDS.length + 1];
+        Arrays.setAll(priceBuckets, bucket -> new BitSet(size));
+
+        for (int i = 0; i < size; i++) {
+            MenuItem item = this.items.get(i);
+            if (item.getCategory() != null && !item.getCategory().isBlank()) {
+                String key = MenuFilter.normalize(item.getCategory());
+                categories.computeIfAbsent(key, k -> new BitSet(size)).set(i);
+                categoryNames.putIfAbsent(key, item.getCategory().trim());
+            }
+            vegetarian.set(i, item.isVegetarian());
+            available.set(i, item.isAvailable());
+            priceBuckets[priceBucket(item.getPrice())].set(i);
+        }
+
+        this.byPrice = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingLong(i -> this.items.get(i).getPrice()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.sortedPrices = Arrays.stream(byPrice).mapToLong(i -> this.items.get(i).getPrice()).toArray();
+
+        this.priceBucketLabels = new String[priceBuckets.length];
+        for (int bucket = 0; bucket < priceBuckets.length; bucket++) {
+            long from = bucket == 0 ? 0 : PRICE_BUCKET_BOUNDS[bucket - 1];
+            priceBucketLabels[bucket] = bucket < PRICE_BUCKET_BOUNDS.length
+                    ? Money.format(from) + "-" + Money.format(PRICE_BUCKET_BOUNDS[bucket])
+                    : Money.format(from) + "+";
+        }
+    }
+
+    /**
+     * Finds the items matching a filter and counts the values of each facet.
+     * A facet is counted with every filter except its own, so the counts of a facet that is being
+     * filtered on still show the alternatives.
+     *
+     * @param filter The filter
+     * @return Matching items in menu order and the facet counts, without counts if the filter leaves them out
+     */
+    public MenuSearchResultDTO search(MenuFilter filter) {
+        BitSet category = categoryMatches(filter);
+        BitSet vegetarianMatches = flagMatches(vegetarian, filter.getVegetarian());
+        BitSet availableMatches = flagMatches(available, filter.getAvailable());
+        BitSet price = priceMatches(filter.getMinPrice(), filter.getMaxPrice());
+
+        BitSet matches = and(category, vegetarianMatches, availableMatches, price);
+        List<MenuItem> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            // The index is shared; callers get their own copies
+            result.add(new MenuItem(items.get(i)));
+        }
+
+        if (!filter.isFacetsIncluded()) {
+            return new MenuSearchResultDTO(result, null);
+        }
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        facets.put("category", categoryCounts(and(null, vegetarianMatches, availableMatches, price)));
+        facets.put("vegetarian", flagCounts(vegetarian, and(category, null, availableMatches, price)));
+        facets.put("available", flagCounts(available, and(category, vegetarianMatches, null, price)));
+        facets.put("price", priceCounts(and(category, vegetarianMatches, availableMatches, null)));
+        return new MenuSearchResultDTO(result, facets);
+    }
+
+    // Union of the requested categories, or null when any category matches
+    private BitSet categoryMatches(MenuFilter filter) {
+        if (filter.getCategories().isEmpty()) {
+            return null;
+        }
+        BitSet matches = new BitSet(items.size());
+        for (String category : filter.getCategories()) {
+            BitSet bits = categories.get(category);
+            if (bits != null) {
+                matches.or(bits);
+            }
+        }
+        return matches;
+    }
+
+    // Items with or without the flag, or null when the flag is not filtered on
+    private BitSet flagMatches(BitSet flag, Boolean wanted) {
+        if (wanted == null) {
+            return null;
+        }
+        if (wanted) {
+            return flag;
+        }
+        BitSet matches = (BitSet) all.clone();
+        matches.andNot(flag);
+        return matches;
+    }
+
+    // Items priced within [minPrice, maxPrice], or null when the price is not filtered on
+    private BitSet priceMatches(Long minPrice, Long maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        int from = minPrice == null ? 0 : firstAtLeast(minPrice);
+        int to = maxPrice == null || maxPrice == Long.MAX_VALUE ? byPrice.length : firstAtLeast(maxPrice + 1);
+        BitSet matches = new BitSet(items.size());
+        for (int i = from; i < to; i++) {
+            matches.set(byPrice[i]);
+        }
+        return matches;
+    }
+
+    // Position of the first sorted price that is at least the given price
+    private int firstAtLeast(long price) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedPrices[mid] < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Intersection of the given sets; null stands for all items
+    private BitSet and(BitSet... sets) {
+        BitSet result = (BitSet) all.clone();
+        for (BitSet set : sets) {
+            if (set != null) {
+                result.and(set);
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Integer> categoryCounts(BitSet base) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        categories.forEach((key, bits) -> counts.put(categoryNames.get(key), intersectionSize(bits, base)));
+        return counts;
+    }
+
+    private static Map<String, Integer> flagCounts(BitSet flag, BitSet base) {
+        int withFlag = intersectionSize(flag, base);
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("true", withFlag);
+        counts.put("false", base.cardinality() - withFlag);
+        return counts;
+    }
+
+    private Map<String, Integer> priceCounts(BitSet base) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < priceBuckets.length; bucket++) {
+            counts.put(priceBucketLabels[bucket], intersectionSize(priceBuckets[bucket], base));
+        }
+        return counts;
+    }
+
+    private static int intersectionSize(BitSet bits, BitSet base) {
+        BitSet intersection = (BitSet) bits.clone();
+        intersection.and(base);
+        return intersection.cardinality();
+    }
+
+    private static int priceBucket(long price) {
+        int bucket = 0;
+        while (bucket < PRICE_BUCKET_BOUNDS.length && price >= PRICE_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,99 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.MultiValueMap;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * MenuFilter is a faceted query over one restaurant's menu, read from the query parameters of the menu endpoint.
+ * Several categories match items in any of them; the other filters must all match.
+ * Prices are given in major units like every amount of the API (category=Burgers&vegetarian=true&maxPrice=9.99).
+ * Facet counts are returned with every search unless facets=false; facets=true alone asks for the counts of the full menu.
+ */
+@Getter
+@AllArgsConstructor
+public class MenuFilter {
+    private final Set<String> categories; // lower case, empty for any category
+    private final Boolean vegetarian;
+    private final Boolean available;
+    private final Long minPrice; // in cents, inclusive
+    private final Long maxPrice; // in cents, inclusive
+    private final Boolean facets; // null when the parameter is absent
+
+    /**
+     * Reads a filter from query parameters. Unknown parameters are ignored.
+     *
+     * @param params category (repeated or comma separated), vegetarian, available, minPrice, maxPrice and facets
+     * @return The filter
+     * @throws IllegalArgumentException if a parameter has an invalid value
+     */
+    public static MenuFilter from(MultiValueMap<String, String> params) {
+        Set<String> categories = new LinkedHashSet<>();
+        for (String value : params.getOrDefault("category", List.of())) {
+            for (String category : value.split(",")) {
+                if (!category.isBlank()) {
+                    categories.add(normalize(category));
+                }
+            }
+        }
+        Long minPrice = price(params.getFirst("minPrice"));
+        Long maxPrice = price(params.getFirst("maxPrice"));
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice");
+        }
+        return new MenuFilter(Set.copyOf(categories),
+                flag("vegetarian", params.getFirst("vegetarian")),
+                flag("available", params.getFirst("available")),
+                minPrice, maxPrice,
+                flag("facets", params.getFirst("facets")));
+    }
+
+    /**
+     * Normalizes a category name for matching, so filters are case insensitive.
+     *
+     * @param category Category name
+     * @return Key of the category
+     */
+    static String normalize(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Checks whether the query asks for anything other than the full menu.
+     *
+     * @return true if a filter is set or facet counts are requested
+     */
+    public boolean isSearch() {
+        return Boolean.TRUE.equals(facets) || !categories.isEmpty() || vegetarian != null || available != null
+                || minPrice != null || maxPrice != null;
+    }
+
+    /**
+     * Checks whether the facet counts should be computed and returned.
+     *
+     * @return false only if facets=false was given
+     */
+    public boolean isFacetsIncluded() {
+        return !Boolean.FALSE.equals(facets);
+    }
+
+    private static Boolean flag(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+            return Boolean.valueOf(value);
+        }
+        throw new IllegalArgumentException(name + " must be true or false");
+    }
+
+    private static Long price(String value) {
+        return value == null || value.isEmpty() ? null : Money.parse(value.trim());
+    }
+}
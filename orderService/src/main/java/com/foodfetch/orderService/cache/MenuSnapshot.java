@@ -0,0 +1,79 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.model.MenuItem;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * MenuSnapshot is an immutable, pre-serialized copy of one restaurant's menu.
+ * The version is a hash of the serialized JSON and is used as the strong ETag of the menu endpoint.
+ * The facet index for filtered menu requests is built with the snapshot and shares its lifetime.
+ * Snapshots are shared by all requests, so the items are copied on the way in and out, and the JSON is copied
+ * once on the way in and handed out as a read-only view, so serving the menu never copies it.
+ */
+public class MenuSnapshot {
+    @Getter
+    private final String restaurantId;
+    private final List<MenuItem> items;
+    private final byte[] json;
+    @Getter
+    private final String version;
+    @Getter
+    private final MenuFacetIndex facets;
+
+    /**
+     * Constructor for MenuSnapshot
+     *
+     * @param restaurantId ID of the restaurant
+     * @param items        Menu items of the restaurant
+     * @param json         The items serialized as a JSON array
+     * @param version      Hash of the JSON
+     */
+    public MenuSnapshot(String restaurantId, List<MenuItem> items, byte[] json, String version) {
+        this.restaurantId = restaurantId;
+        this.items = items.stream().map(MenuItem::new).toList();
+        this.json = json.clone();
+        this.version = version;
+        this.facets = new MenuFacetIndex(this.items);
+    }
+
+    /**
+     * @return Copies of the menu items
+     */
+    public List<MenuItem> getItems() {
+        return items.stream().map(MenuItem::new).toList();
+    }
+
+    /**
+     * @return Read-only view of the menu serialized as a JSON array
+     */
+    public ByteBuffer getJson() {
+        return ByteBuffer.wrap(json).asReadOnlyBuffer();
+    }
+
+    /**
+     * Checks whether the menu contains an item, without copying the items.
+     *
+     * @param itemId ID of the menu item
+     * @return true if one of the items has the ID
+     */
+    public boolean containsItem(String itemId) {
+        for (MenuItem item : items) {
+            if (itemId.equals(item.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the version as a quoted strong ETag value.
+     *
+     * @return ETag header value
+     */
+    public String getETag() {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,98 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * OrderSnapshotCache is a bounded cache of the latest known state of active orders.
+ * OrderService puts every order it creates or updates; orders reaching a terminal status are evicted.
+ * The payment consumers read it through OrderService.isKnownToBePast to skip events for orders that have
+ * already moved on; a miss never goes to MongoDB, the consumers then let the status update decide.
+ * Within a transaction the snapshot is only stored once the transaction has committed, so the cache
+ * never holds a state that was rolled back. The TTL bounds staleness from writes made by other instances.
+ */
+@Component
+public class OrderSnapshotCache {
+
+    // Orders in these statuses are not cached
+    private static final Set<OrderStatus> TERMINAL_STATUSES = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    private final Cache<String, OrderEntity> snapshots;
+
+    /**
+     * Constructor for OrderSnapshotCache
+     *
+     * @param meterRegistry Registry the cache statistics are bound to
+     * @param maxSize       Maximum number of orders kept
+     * @param ttl           Time after which a cached order is dropped
+     */
+    public OrderSnapshotCache(MeterRegistry meterRegistry,
+                              @Value("${order.snapshot-cache.max-size:10000}") long maxSize,
+                              @Value("${order.snapshot-cache.ttl:30m}") Duration ttl) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "orders.snapshots");
+    }
+
+    /**
+     * Returns the cached order without going to MongoDB.
+     *
+     * @param orderId ID of the order
+     * @return The cached order, or empty if it is not cached
+     */
+    public Optional<OrderEntity> getIfPresent(String orderId) {
+        return Optional.ofNullable(snapshots.getIfPresent(orderId));
+    }
+
+    /**
+     * Records the latest state of an order. Orders in a terminal status are evicted instead.
+     *
+     * @param order The order as it was written
+     */
+    public void put(OrderEntity order) {
+        String orderId = order.getId();
+        if (orderId == null) {
+            return;
+        }
+        snapshots.invalidate(orderId);
+        if (isActive(order)) {
+            afterCommit(() -> snapshots.put(orderId, order));
+        } else {
+            afterCommit(() -> snapshots.invalidate(orderId));
+        }
+    }
+
+    private static boolean isActive(OrderEntity order) {
+        return !TERMINAL_STATUSES.contains(order.getStatus());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.Repository.RestaurantRepository;
+import com.foodfetch.orderService.model.Restaurant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * RestaurantCache is a bounded, read-through cache in front of RestaurantRepository.
+ * Restaurants change a few times a day, so lookups by id and name are served from memory and
+ * only go to MongoDB on a miss or after the entry's TTL has expired.
+ * Hit, miss and eviction counts are published to actuator under the "cache.*" metrics.
+ * The cached restaurants are shared by all callers and cannot be modified (see UnmodifiableRestaurant),
+ * so lookups allocate nothing and the same instance is returned until the restaurant is reloaded.
+ */
+@Component
+public class RestaurantCache {
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantCache.class);
+
+    // Single key for the full restaurant list
+    private static final String ALL_KEY = "all";
+
+    private final RestaurantRepository restaurantRepository;
+
+    private final Cache<String, Restaurant> byId;
+    private final Cache<String, Restaurant> byName;
+    private final Cache<String, List<Restaurant>> all;
+
+    /**
+     * Constructor for RestaurantCache
+     *
+     * @param restaurantRepository Repository to handle restaurant operations
+     * @param meterRegistry        Registry the cache statistics are bound to
+     * @param maxSize              Maximum number of restaurants kept per lookup type
+     * @param ttl                  Time after which a cached restaurant is reloaded
+     */
+    public RestaurantCache(RestaurantRepository restaurantRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${restaurant.cache.max-size:1000}") long maxSize,
+                           @Value("${restaurant.cache.ttl:5m}") Duration ttl) {
+        this.restaurantRepository = restaurantRepository;
+        this.byId = buildCache(maxSize, ttl);
+        this.byName = buildCache(maxSize, ttl);
+        this.all = buildCache(1, ttl);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "restaurants.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, byName, "restaurants.byName");
+        CaffeineCacheMetrics.monitor(meterRegistry, all, "restaurants.all");
+    }
+
+    /**
+     * Looks up a restaurant by its ID.
+     *
+     * @param id ID of the restaurant
+     * @return The restaurant, or empty if it does not exist
+     */
+    public Optional<Restaurant> findById(String id) {
+        return Optional.ofNullable(byId.get(id, key ->
+                restaurantRepository.findById(key).map(UnmodifiableRestaurant::new).orElse(null)));
+    }
+
+    /**
+     * Looks up a restaurant by its name.
+     *
+     * @param name Name of the restaurant
+     * @return The restaurant, or empty if it does not exist
+     */
+    public Optional<Restaurant> findByName(String name) {
+        return Optional.ofNullable(byName.get(name, key ->
+                restaurantRepository.findFirstByName(key).map(UnmodifiableRestaurant::new).orElse(null)));
+    }
+
+    /**
+     * Returns every restaurant, loading the list once per TTL.
+     *
+     * @return List of Restaurant
+     */
+    public List<Restaurant> findAll() {
+        return all.get(ALL_KEY, key -> {
+            List<Restaurant> restaurants = restaurantRepository.findAll().stream()
+                    .<Restaurant>map(UnmodifiableRestaurant::new)
+                    .toList();
+            restaurants.forEach(restaurant -> byId.put(restaurant.getId(), restaurant));
+            return restaurants;
+        });
+    }
+
+    /**
+     * Invalidates a single restaurant. Called when a restaurant document is saved or deleted.
+     * A renamed restaurant is also removed under the name it was cached with.
+     *
+     * @param restaurant The restaurant that changed
+     */
+    public void evict(Restaurant restaurant) {
+        String id = restaurant.getId();
+        if (id != null) {
+            byId.invalidate(id);
+            byName.asMap().values().removeIf(cached -> id.equals(cached.getId()));
+        }
+        if (restaurant.getName() != null) {
+            byName.invalidate(restaurant.getName());
+        }
+        all.invalidateAll();
+    }
+
+    /**
+     * Invalidates a single restaurant when only its ID is known.
+     * Name lookups cannot be targeted in that case, so they are cleared as well.
+     *
+     * @param id ID of the restaurant that changed
+     */
+    public void evictById(String id) {
+        byId.invalidate(id);
+        byName.invalidateAll();
+        all.invalidateAll();
+    }
+
+    /**
+     * Invalidates every cached restaurant.
+     */
+    public void evictAll() {
+        logger.info("Evicting all cached restaurants");
+        byId.invalidateAll();
+        byName.invalidateAll();
+        all.invalidateAll();
+    }
+
+    private static <V> Cache<String, V> buildCache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
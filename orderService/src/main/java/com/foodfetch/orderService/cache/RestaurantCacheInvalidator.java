@@ -0,0 +1,48 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.model.Restaurant;
+import com.foodfetch.orderService.pricing.PricingEngine;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * RestaurantCacheInvalidator evicts restaurants from the RestaurantCache, and their compiled pricing
+ * rules from the PricingEngine, whenever this service saves or deletes a restaurant document.
+ * Changes made outside the service are picked up when the cache TTL expires.
+ */
+@Component
+public class RestaurantCacheInvalidator extends AbstractMongoEventListener<Restaurant> {
+    private final RestaurantCache restaurantCache;
+    private final PricingEngine pricingEngine;
+
+    /**
+     * Constructor for RestaurantCacheInvalidator
+     *
+     * @param restaurantCache Cache to invalidate
+     * @param pricingEngine   Compiled pricing rules to invalidate
+     */
+    public RestaurantCacheInvalidator(RestaurantCache restaurantCache, PricingEngine pricingEngine) {
+        this.restaurantCache = restaurantCache;
+        this.pricingEngine = pricingEngine;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Restaurant> event) {
+        restaurantCache.evict(event.getSource());
+        pricingEngine.evict(event.getSource().getId());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Restaurant> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            restaurantCache.evictById(id.toString());
+            pricingEngine.evict(id.toString());
+        } else {
+            restaurantCache.evictAll();
+            pricingEngine.evictAll();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.model.PricingRules;
+import com.foodfetch.orderService.model.Restaurant;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+/**
+ * UnmodifiableRestaurant is the copy of a restaurant that RestaurantCache keeps and shares between callers.
+ * It is made once when the restaurant is loaded; every setter throws, and its pricing rules cannot be
+ * modified either, so a lookup can hand out the cached instance without copying it.
+ * Setters of fields added to Restaurant must be overridden here as well.
+ */
+final class UnmodifiableRestaurant extends Restaurant {
+    private final PricingRules pricingRules;
+
+    /**
+     * Constructor for UnmodifiableRestaurant
+     *
+     * @param restaurant Restaurant as loaded from MongoDB
+     */
+    UnmodifiableRestaurant(Restaurant restaurant) {
+        super(restaurant);
+        this.pricingRules = restaurant.getPricingRules() != null
+                ? new UnmodifiablePricingRules(restaurant.getPricingRules())
+                : null;
+    }
+
+    @Override
+    public PricingRules getPricingRules() {
+        return pricingRules;
+    }
+
+    @Override
+    public void setId(String id) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setName(String name) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setImageUrl(String imageUrl) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setCuisineType(String cuisineType) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setAddress(String address) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setLocation(GeoJsonPoint location) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setRating(double rating) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setDeliveryTime(int deliveryTime) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setDeliveryFee(long deliveryFee) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setOpen(boolean isOpen) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setPricingRules(PricingRules pricingRules) {
+        throw unmodifiable();
+    }
+
+    static UnsupportedOperationException unmodifiable() {
+        return new UnsupportedOperationException("Cached restaurants cannot be modified, save a Restaurant instead");
+    }
+
+    /**
+     * Pricing rules of an UnmodifiableRestaurant; every setter throws.
+     */
+    private static final class UnmodifiablePricingRules extends PricingRules {
+
+        private UnmodifiablePricingRules(PricingRules rules) {
+            super(rules);
+        }
+
+        @Override
+        public void setMinOrderValue(long minOrderValue) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void setPrepTimeMinutes(int prepTimeMinutes) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void setDeliveryFee(long deliveryFee) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void setFreeDeliveryThreshold(long freeDeliveryThreshold) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void setDiscountThreshold(long discountThreshold) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void setDiscountBasisPoints(int discountBasisPoints) {
+            throw unmodifiable();
+        }
+    }
+}
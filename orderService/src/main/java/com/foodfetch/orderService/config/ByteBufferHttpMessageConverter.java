@@ -0,0 +1,59 @@
+package com.foodfetch.orderService.config;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * ByteBufferHttpMessageConverter lets servlet controllers return a ByteBuffer as the response body, as the
+ * reactive stack already does. It writes the remaining bytes without copying them into a new array, so a
+ * read-only view of a cached, pre-serialized body (see MenuSnapshot) can be sent as is. Write only.
+ */
+@Component
+public class ByteBufferHttpMessageConverter extends AbstractHttpMessageConverter<ByteBuffer> {
+
+    /**
+     * Constructor for ByteBufferHttpMessageConverter; the controller sets the content type of the body.
+     */
+    public ByteBufferHttpMessageConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ByteBuffer.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Long getContentLength(ByteBuffer buffer, MediaType contentType) {
+        return (long) buffer.remaining();
+    }
+
+    @Override
+    protected ByteBuffer readInternal(Class<? extends ByteBuffer> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ByteBuffer request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ByteBuffer buffer, HttpOutputMessage outputMessage) throws IOException {
+        // Write from a duplicate, so the position of the caller's buffer is left alone
+        ByteBuffer body = buffer.duplicate();
+        WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+}
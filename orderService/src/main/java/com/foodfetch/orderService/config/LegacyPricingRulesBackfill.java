@@ -0,0 +1,79 @@
+package com.foodfetch.orderService.config;
+
+import com.foodfetch.orderService.cache.RestaurantCache;
+import com.foodfetch.orderService.model.PricingRules;
+import com.foodfetch.orderService.model.Restaurant;
+import com.foodfetch.orderService.pricing.PricingEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LegacyPricingRulesBackfill stores the rules of the restaurants that used to have hardcoded order
+ * factories on their restaurant documents, so their orders keep the same minimums, discounts and fees.
+ * Only documents without pricing rules are updated; rules edited since are left alone.
+ * The bulk update bypasses the Mongo event listeners, so the cached restaurants and compiled rules
+ * are cleared here once restaurants were updated.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.legacy-backfill.enabled", havingValue = "true")
+public class LegacyPricingRulesBackfill {
+    private static final Logger logger = LoggerFactory.getLogger(LegacyPricingRulesBackfill.class);
+
+    // Rules of the former McDonaldsOrderFactory and WendysOrderFactory
+    private static final Map<String, PricingRules> LEGACY_RULES = Map.of(
+            "McDonald's", new PricingRules(500, 10, 0, 0, 2000, 500),
+            "Wendy's", new PricingRules(700, 15, 399, 2500, 0, 0));
+
+    private final MongoTemplate mongoTemplate;
+    private final RestaurantCache restaurantCache;
+    private final PricingEngine pricingEngine;
+
+    /**
+     * Constructor for LegacyPricingRulesBackfill
+     *
+     * @param mongoTemplate   Template used to update the restaurants
+     * @param restaurantCache Cache of restaurants, cleared after the update
+     * @param pricingEngine   Compiled pricing rules, cleared after the update
+     */
+    public LegacyPricingRulesBackfill(MongoTemplate mongoTemplate,
+                                      RestaurantCache restaurantCache,
+                                      PricingEngine pricingEngine) {
+        this.mongoTemplate = mongoTemplate;
+        this.restaurantCache = restaurantCache;
+        this.pricingEngine = pricingEngine;
+    }
+
+    /**
+     * Sets the legacy pricing rules on restaurants that have none yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        AtomicLong total = new AtomicLong();
+        LEGACY_RULES.forEach((name, rules) -> {
+            long updated = mongoTemplate.updateMulti(
+                    new Query(Criteria.where("name").is(name).and("pricingRules").exists(false)),
+                    new Update().set("pricingRules", rules),
+                    Restaurant.class).getModifiedCount();
+            if (updated > 0) {
+                logger.info("Stored legacy pricing rules on {} restaurant(s) named {}", updated, name);
+                total.addAndGet(updated);
+            }
+        });
+        if (total.get() > 0) {
+            // Restaurants read before the update were cached without their rules
+            restaurantCache.evictAll();
+            pricingEngine.evictAll();
+        }
+    }
+}
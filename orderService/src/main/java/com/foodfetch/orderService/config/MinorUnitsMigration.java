@@ -0,0 +1,107 @@
+package com.foodfetch.orderService.config;
+
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MinorUnitsMigration converts amounts stored as doubles in major units (19.98) to longs in cents (1998)
+ * on orders (including archived ones), menu items, restaurants, pending outbox events and stored idempotent responses.
+ * Each update only matches documents that still hold a double, so running it again is a no-op.
+ * It runs while the context starts, before the RabbitMQ listeners, OutboxRelay and the other scheduled
+ * tasks start, so none of them reads an amount that is still a double.
+ */
+@Component
+@ConditionalOnProperty(name = "money.minor-units-migration.enabled", havingValue = "true")
+public class MinorUnitsMigration {
+    private static final Logger logger = LoggerFactory.getLogger(MinorUnitsMigration.class);
+
+    // Amount fields of an order, relative to the order document
+    private static final List<String> ORDER_AMOUNTS = List.of(
+            "totalAmount", "deliveryDetails.deliveryFee", "paymentDetails.amount");
+
+    private static final List<String> PRICING_RULE_AMOUNTS = List.of(
+            "pricingRules.minOrderValue", "pricingRules.deliveryFee",
+            "pricingRules.freeDeliveryThreshold", "pricingRules.discountThreshold");
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for MinorUnitsMigration
+     *
+     * @param mongoTemplate Template used to update the collections
+     */
+    public MinorUnitsMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Converts every remaining double amount.
+     */
+    @PostConstruct
+    public void migrate() {
+        migrateOrders("orders", "");
+        migrateOrders("orders_archive", "");
+        migrateOrders("idempotency_keys", "response.");
+
+        convert("menu", "price");
+
+        convert("restaurants", "deliveryFee");
+        PRICING_RULE_AMOUNTS.forEach(field -> convert("restaurants", field));
+        update("restaurants", "pricingRules.discountRate", List.of(
+                new Document("$set", new Document("pricingRules.discountBasisPoints",
+                        new Document("$toInt", round(multiply("$pricingRules.discountRate", 10_000))))),
+                new Document("$unset", "pricingRules.discountRate")));
+
+        update("order_outbox", "event.totalAmount", List.of(
+                new Document("$set", new Document("event.totalAmountMinor", toMinor("$event.totalAmount"))),
+                new Document("$unset", "event.totalAmount")));
+    }
+
+    private void migrateOrders(String collection, String prefix) {
+        ORDER_AMOUNTS.forEach(field -> convert(collection, prefix + field));
+
+        // Only the items whose price is still a double are converted
+        String items = prefix + "items";
+        update(collection, items + ".price", List.of(new Document("$set", new Document(items,
+                new Document("$map", new Document("input", "$" + items)
+                        .append("as", "item")
+                        .append("in", new Document("$mergeObjects", List.of("$$item",
+                                new Document("price", toMinor("$$item.price"))))))))));
+    }
+
+    private void convert(String collection, String field) {
+        update(collection, field, List.of(new Document("$set", new Document(field, toMinor("$" + field)))));
+    }
+
+    private void update(String collection, String doubleField, List<Document> pipeline) {
+        long modified = mongoTemplate.getCollection(collection)
+                .updateMany(new Document(doubleField, new Document("$type", "double")), pipeline)
+                .getModifiedCount();
+        if (modified > 0) {
+            logger.info("Converted {} on {} document(s) in {} to minor units", doubleField, modified, collection);
+        }
+    }
+
+    // Converts an expression holding a double in major units to a long in minor units; other values are kept
+    private static Document toMinor(String expression) {
+        return new Document("$cond", List.of(
+                new Document("$eq", List.of(new Document("$type", expression), "double")),
+                new Document("$toLong", round(multiply(expression, 100))),
+                expression));
+    }
+
+    private static Document multiply(String expression, int factor) {
+        return new Document("$multiply", List.of(expression, factor));
+    }
+
+    private static Document round(Document expression) {
+        return new Document("$round", List.of(expression, 0));
+    }
+}
@@ -0,0 +1,25 @@
+package com.foodfetch.orderService.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * MongoConfig is responsible for MongoDB specific configuration.
+ * It registers a transaction manager so that @Transactional service methods write the order
+ * and its outbox messages atomically. Every @Transactional method, read-only ones included, starts a real
+ * MongoDB transaction, so methods that only read are not annotated. Transactions need a replica set (Atlas is one); set
+ * mongodb.transactions.enabled=false when running against a standalone mongod.
+ */
+@Configuration
+public class MongoConfig {
+
+    // Transaction manager backing @Transactional in OrderService
+    @Bean
+    @ConditionalOnProperty(name = "mongodb.transactions.enabled", havingValue = "true", matchIfMissing = true)
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
@@ -0,0 +1,64 @@
+package com.foodfetch.orderService.config;
+
+import com.foodfetch.orderService.model.OrderEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * MongoIndexInitializer creates the indexes declared with @Indexed and @CompoundIndex on the
+ * document classes (orders, menu, restaurants, ...) once the application has started.
+ * Spring Data no longer creates them automatically, and without them the repository queries
+ * fall back to collection scans. The order archive gets the indexes of the orders collection.
+ * Creating an index that already exists is a no-op.
+ */
+@Component
+@ConditionalOnProperty(name = "mongodb.indexes.create-on-startup", havingValue = "true", matchIfMissing = true)
+public class MongoIndexInitializer {
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for MongoIndexInitializer
+     *
+     * @param mongoTemplate Template used to create the indexes
+     */
+    public MongoIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Ensures the declared indexes of every mapped document class exist.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+        for (MongoPersistentEntity<?> entity : mongoTemplate.getConverter().getMappingContext().getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class)) {
+                continue;
+            }
+            IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+            resolver.resolveIndexFor(entity.getType()).forEach(index -> {
+                String name = indexOps.ensureIndex(index);
+                logger.info("Ensured index {} on {}", name, entity.getCollection());
+            });
+        }
+
+        IndexOperations archiveIndexOps = mongoTemplate.indexOps(OrderEntity.ARCHIVE_COLLECTION);
+        resolver.resolveIndexFor(OrderEntity.class).forEach(index -> {
+            String name = archiveIndexOps.ensureIndex(index);
+            logger.info("Ensured index {} on {}", name, OrderEntity.ARCHIVE_COLLECTION);
+        });
+    }
+}
@@ -1,47 +1,44 @@
 package com.foodfetch.orderService.config;
 
+import com.foodfetch.events.EventRoutingKeys;
+import com.foodfetch.events.codec.EventMessageConverter;
+import com.foodfetch.events.codec.EventSchemas;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /*
 When an order is created, updated, or cancelled in OrderService, the service uses RabbitMQOrderSender to:
 
-Create an OrderEvent object with the relevant information
-Send that event to the appropriate queue using the RabbitTemplate
-Other services (Payment, Notification) listen to these queues and react accordingly
+Create one OrderEvent object with the relevant information
+Publish it once to the topic exchange with the routing key order.<status>
+Other services (Payment, Tracking, Notification) bind their own queues to the statuses they need and react accordingly
 
 For example, when a new order is created:
 
-OrderService publishes an ORDER_CREATED event
-The Payment Service picks this up from the payment queue and processes payment
-The Notification Service picks it up from the notification queue and sends a confirmation to the customer
-This is a simplified overview of how RabbitMQ can be used in a microservices architecture to facilitate communication between services.
+OrderService publishes an ORDER_CREATED event with the routing key order.created
+The Payment Service picks this up from its queue (bound to order.created) and processes payment
+The Notification Service picks it up from its queue (bound to order.#) and sends a confirmation to the customer
+The Payment Service then publishes payment.completed, which reaches this service's payment queue (bound to payment.#)
  */
 
 @Configuration
 public class RabbitMQConfig {
 
-    // Configuration values for RabbitMQ queues and exchanges
-    @Value("${rabbitmq.queue.order.name}")
-    private String orderQueue;
+    // Receive Payment Events
+    @Value("${rabbitmq.queue.order.payment.name}")
+    private String orderPaymentQueue;
 
-    // Payment queue for payment events
-    @Value("${rabbitmq.queue.payment.name}")
-    private String paymentQueue;
-
-    // Notification queue for notification events
-    @Value("${rabbitmq.queue.notification.name}")
-    private String notificationQueue;
-
-    // Send Events to Track
-    @Value("${rabbitmq.queue.tracking.name}")
-    private String trackingQueue;
+    // Dead letter queue of the payment queue
+    @Value("${rabbitmq.queue.order.payment.dlq.name}")
+    private String orderPaymentDeadLetterQueue;
 
     // Receive Tracking Events
     @Value("${rabbitmq.queue.order.tracking.name}")
@@ -51,42 +48,57 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.exchange.name}")
     private String exchange;
 
-    // Routing keys for different events
-    @Value("${rabbitmq.routing.key.order}")
-    private String orderRoutingKey;
+    // Consumers started for the payment listener, and the most it may scale up to under load
+    @Value("${payment.consumer.concurrency:1}")
+    private int paymentConcurrency;
 
-    // Routing key for payment events
-    @Value("${rabbitmq.routing.key.payment}")
-    private String paymentRoutingKey;
+    @Value("${payment.consumer.max-concurrency:1}")
+    private int paymentMaxConcurrency;
 
-    // Routing key for notification events
-    @Value("${rabbitmq.routing.key.notification}")
-    private String notificationRoutingKey;
+    // Unacknowledged payment events the broker sends each consumer ahead of time
+    @Value("${payment.consumer.prefetch:250}")
+    private int paymentPrefetch;
 
-    // Routing key for tracking events
-    @Value("${rabbitmq.routing.key.tracking}")
-    private String trackingRoutingKey;
+    // Payment events handed to the batch consumer at once
+    @Value("${payment.consumer.batch.size:50}")
+    private int paymentBatchSize;
 
-    // Routing Key for Completed Tracking Events
-    @Value("${rabbitmq.routing.key.tracking.completed}")
-    private String trackingCompletedRoutingKey;
+    // How long the batch consumer waits for more payment events before handling a partial batch
+    @Value("${payment.consumer.batch.receive-timeout-ms:100}")
+    private long paymentBatchReceiveTimeoutMs;
 
-    // Order queue for order events
-    @Bean
-    public Queue orderQueue() {
-        return new Queue(orderQueue);
-    }
+    // Consumers started for the tracking listener, and the most it may scale up to under load
+    @Value("${tracking.consumer.concurrency:1}")
+    private int trackingConcurrency;
+
+    @Value("${tracking.consumer.max-concurrency:1}")
+    private int trackingMaxConcurrency;
+
+    // Unacknowledged tracking events the broker sends each consumer ahead of time
+    @Value("${tracking.consumer.prefetch:250}")
+    private int trackingPrefetch;
+
+    // Tracking events acked together
+    @Value("${tracking.consumer.batch.size:1}")
+    private int trackingBatchSize;
 
-    // Payment queue for payment events
+    @Value("${messaging.events.binary.enabled:false}")
+    private boolean binaryEvents;
+
+    // Payment events for this service; events rejected by PaymentEventBatchConsumer are dead-lettered
+    // through the default exchange to the payment dead letter queue
     @Bean
-    public Queue paymentQueue() {
-        return new Queue(paymentQueue);
+    public Queue orderPaymentQueue() {
+        return QueueBuilder.durable(orderPaymentQueue)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(orderPaymentDeadLetterQueue)
+                .build();
     }
 
-    // Notification queue for notification events
+    // Payment events whose order could not be confirmed after a redelivery, kept for inspection
     @Bean
-    public Queue notificationQueue() {
-        return new Queue(notificationQueue);
+    public Queue orderPaymentDeadLetterQueue() {
+        return new Queue(orderPaymentDeadLetterQueue);
     }
 
     // Order Tracking Events
@@ -101,46 +113,100 @@ public class RabbitMQConfig {
         return new TopicExchange(exchange);
     }
 
-    // Binding between order queue and exchange
+    // Every payment event (payment.completed, payment.failed, ...) goes to the payment queue of this service
     @Bean
-    public Binding orderBinding() {
+    public Binding orderPaymentBinding() {
         return BindingBuilder
-                .bind(orderQueue())
+                .bind(orderPaymentQueue())
                 .to(exchange())
-                .with(orderRoutingKey);
+                .with(EventRoutingKeys.ALL_PAYMENT_EVENTS);
     }
 
-    // Binding between payment queue and exchange
+    // Every delivery status change (delivery.preparing, delivery.delivered, ...) goes to the tracking queue of this service
     @Bean
-    public Binding paymentBinding() {
+    public Binding orderTrackingBinding() {
         return BindingBuilder
-                .bind(paymentQueue())
+                .bind(orderTrackingQueue())
                 .to(exchange())
-                .with(paymentRoutingKey);
+                .with(EventRoutingKeys.ALL_DELIVERY_EVENTS);
     }
 
-    // Binding between notification queue and exchange
+    // Temporary queue of this instance for its own order events; evicts the cached customer order pages
     @Bean
-    public Binding notificationBinding() {
-        return BindingBuilder
-                .bind(notificationQueue())
-                .to(exchange())
-                .with(notificationRoutingKey);
+    public Queue orderEventsInvalidationQueue() {
+        return new AnonymousQueue();
     }
 
-    // Order and Tracking Binding
+    // Every order status change (order.created, order.delivered, ...) also goes to the invalidation queue
     @Bean
-    public Binding orderTrackingBinding() {
+    public Binding orderEventsInvalidationBinding() {
         return BindingBuilder
-                .bind(orderTrackingQueue())
+                .bind(orderEventsInvalidationQueue())
                 .to(exchange())
-                .with(trackingCompletedRoutingKey);
+                .with(EventRoutingKeys.ALL_ORDER_EVENTS);
     }
 
-    // Message converter: convert Java objects to JSON (serialization) and vice versa (deserialization)
+    // Message converter: convert Java objects to JSON or the binary event encoding (serialization) and vice versa
+    // (deserialization); incoming messages are decoded according to their content type
     @Bean
     public MessageConverter converter() {
-        return new Jackson2JsonMessageConverter();
+        return new EventMessageConverter(new Jackson2JsonMessageConverter(), EventSchemas.codec(), binaryEvents);
+    }
+
+    // Listener container for PaymentEventConsumer: acks each payment event on its own, so the batch size
+    // of the batch consumer does not apply and a failure never rejects events that were already handled
+    @Bean
+    public SimpleRabbitListenerContainerFactory paymentContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(converter());
+        configureConsumers(factory, paymentConcurrency, paymentMaxConcurrency, paymentPrefetch, 1);
+        return factory;
+    }
+
+    // Listener container for PaymentEventBatchConsumer: delivers payment events in batches, acked manually per message
+    @Bean
+    public SimpleRabbitListenerContainerFactory paymentBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(converter());
+        configureConsumers(factory, paymentConcurrency, paymentMaxConcurrency, paymentPrefetch, paymentBatchSize);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setReceiveTimeout(paymentBatchReceiveTimeoutMs);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    // Listener container for TrackingEventConsumer
+    @Bean
+    public SimpleRabbitListenerContainerFactory trackingContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(converter());
+        configureConsumers(factory, trackingConcurrency, trackingMaxConcurrency, trackingPrefetch, trackingBatchSize);
+        return factory;
+    }
+
+    /**
+     * Applies consumer tuning to a listener container factory.
+     * The prefetch is raised to the batch size if needed, so a consumer can always fill a batch.
+     *
+     * @param factory        Factory to configure
+     * @param concurrency    Consumers started per listener
+     * @param maxConcurrency Consumers a listener may scale up to while messages keep arriving
+     * @param prefetch       Unacknowledged messages the broker sends each consumer ahead of time
+     * @param batchSize      Messages delivered as one batch, or acked together for single-message listeners
+     */
+    public static void configureConsumers(SimpleRabbitListenerContainerFactory factory,
+                                          int concurrency, int maxConcurrency, int prefetch, int batchSize) {
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, maxConcurrency));
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setBatchSize(batchSize);
     }
 
     // Configure RabbitTemplate: what an application uses to send messages to RabbitMQ
@@ -0,0 +1,48 @@
+package com.foodfetch.orderService.config;
+
+import com.foodfetch.orderService.controller.ReactiveReadHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * ReactiveWebConfig sets up the reactive web stack, selected with the "reactive" profile
+ * (spring.main.web-application-type=reactive in application-reactive.properties).
+ * The read-heavy endpoints are served by ReactiveReadHandler on the reactive MongoDB driver. Router functions
+ * are consulted before annotated controllers, so they take over these paths from the servlet controllers.
+ * The remaining controller methods still block on MongoDB and RabbitMQ; they are run on virtual threads
+ * instead of the event loop.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    // Runs blocking controller methods, i.e. those that do not return a Mono or Flux
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("blocking-web-");
+        executor.setVirtualThreads(true);
+        configurer.setExecutor(executor);
+    }
+
+    // Reactive routes of the read-heavy endpoints; /api/orders/active and /api/restaurants/nearby are matched
+    // before the {orderId} and {id} routes
+    @Bean
+    public RouterFunction<ServerResponse> reactiveReadRoutes(ReactiveReadHandler handler) {
+        return route(GET("/api/orders/active"), handler::getActiveOrders)
+                .andRoute(GET("/api/orders/{orderId}"), handler::getOrderById)
+                .andRoute(GET("/api/restaurants"), handler::getAllRestaurants)
+                .andRoute(GET("/api/restaurants/nearby"), handler::getNearbyRestaurants)
+                .andRoute(GET("/api/restaurants/{id}"), handler::getRestaurantById)
+                .andRoute(GET("/api/menu/restaurants/{restaurantId}"), handler::getMenuByRestaurant)
+                .andRoute(GET("/api/menu/{itemId}"), handler::getMenuItem);
+    }
+}
@@ -0,0 +1,63 @@
+package com.foodfetch.orderService.controller;
+
+import com.foodfetch.orderService.Service.OrderService;
+import com.foodfetch.orderService.dto.CursorPageDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * CustomerController handles HTTP requests for the orders of a customer.
+ */
+@RestController
+@RequestMapping("/api/customers")
+public class CustomerController {
+    private static final Logger logger = LoggerFactory.getLogger(CustomerController.class);
+
+    private final OrderService orderService;
+
+    /**
+     * Constructor for CustomerController
+     *
+     * @param orderService Service to handle order-related operations
+     */
+    @Autowired
+    public CustomerController(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    /**
+     * Endpoint to retrieve a customer's orders newest first with keyset pagination.
+     * Pass the nextCursor of a response to get the following page.
+     * With archived=true the archived delivered and cancelled orders are included.
+     *
+     * @param customerId ID of the customer
+     * @param cursor Cursor from the previous page, omitted for the first page
+     * @param size Number of items per page
+     * @param archived Whether to include archived orders
+     * @return Page of OrderSummaryDTO with the cursor of the next page
+     */
+    @GetMapping("/{customerId}/orders")
+    public ResponseEntity<CursorPageDTO<OrderSummaryDTO>> getCustomerOrders(
+        @PathVariable(name = "customerId") String customerId,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", defaultValue = "10") int size,
+        @RequestParam(name = "archived", defaultValue = "false") boolean archived) {
+
+        try {
+            return ResponseEntity.ok(orderService.getCustomerOrders(customerId, cursor, size, archived));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid customer orders request: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error retrieving orders of customer {}", customerId, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to retrieve orders: " + e.getMessage());
+        }
+    }
+}
@@ -1,13 +1,17 @@
 // MenuController.java
 package com.foodfetch.orderService.controller;
 
+import com.foodfetch.orderService.cache.MenuFilter;
+import com.foodfetch.orderService.cache.MenuSnapshot;
 import com.foodfetch.orderService.model.MenuItem;
 import com.foodfetch.orderService.Service.MenuService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * MenuController handles HTTP requests related to menu operations.
@@ -28,13 +32,38 @@ public class MenuController {
     }
 
     /**
-     * Endpoint to get all menu items
+     * Endpoint to get all menu items of a restaurant, or the items matching a filter.
+     * Without filter parameters the response is the full menu as a JSON list of MenuItem. With category,
+     * vegetarian, available, minPrice, maxPrice or facets=true it is a MenuSearchResultDTO with the
+     * matching items and the facet counts, answered from the menu's facet index.
+     * Either response carries the menu's strong ETag; a request whose If-None-Match matches it
+     * is answered with 304 Not Modified and no body.
      *
-     * @return List of MenuItem
+     * @param restaurantId ID of the restaurant
+     * @param params       Filter parameters, see MenuFilter
+     * @return Pre-serialized JSON list of MenuItem, or MenuSearchResultDTO
      */
     @GetMapping("/restaurants/{restaurantId}")
-    public ResponseEntity<List<MenuItem>> getMenuByRestaurant(@PathVariable String restaurantId) {
-        return ResponseEntity.ok(menuService.getMenuItemsByRestaurant(restaurantId));
+    public ResponseEntity<?> getMenuByRestaurant(@PathVariable String restaurantId,
+                                                 @RequestParam MultiValueMap<String, String> params) {
+        MenuFilter filter;
+        try {
+            filter = MenuFilter.from(params);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        MenuSnapshot snapshot = menuService.getMenuSnapshot(restaurantId);
+        // Spring compares the ETag with If-None-Match and turns a match into a 304
+        if (filter.isSearch()) {
+            return ResponseEntity.ok()
+                    .eTag(snapshot.getETag())
+                    .body(snapshot.getFacets().search(filter));
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
     }
 
     /**
@@ -1,9 +1,18 @@
 package com.foodfetch.orderService.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.dto.BatchOrderResultDTO;
+import com.foodfetch.orderService.dto.CursorPageDTO;
 import com.foodfetch.orderService.dto.OrderRequestDTO;
 import com.foodfetch.orderService.dto.OrderStatusUpdateDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import com.foodfetch.orderService.exception.IdempotencyConflictException;
 import com.foodfetch.orderService.model.OrderEntity;
-import com.foodfetch.orderService.model.OrderStatus;
+import com.foodfetch.orderService.Service.IdempotencyService;
 import com.foodfetch.orderService.Service.OrderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,10 +22,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -27,32 +40,54 @@ import java.util.List;
 public class OrderController {
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
 
+    // Number of streamed orders written between flushes of the response
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
+    // Value of the view parameter selecting full order documents instead of summaries
+    private static final String FULL_VIEW = "full";
+
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+
+    // Writer for streamed responses: one order per line, flushed in batches rather than per order
+    private final ObjectWriter streamWriter;
 
     /**
      * Constructor for OrderController
      *
-     * @param orderService Service to handle order-related operations
+     * @param orderService       Service to handle order-related operations
+     * @param idempotencyService Service to make order creation safe to retry
+     * @param objectMapper       Mapper used to write streamed responses
      */
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, IdempotencyService idempotencyService, ObjectMapper objectMapper) {
         this.orderService = orderService;
+        this.idempotencyService = idempotencyService;
+        this.streamWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
     }
 
     /**
-     * Endpoint to create a new order
+     * Endpoint to create a new order.
+     * With an Idempotency-Key header, retries of the same request return the originally created order.
      *
-     * @param request OrderRequestDTO containing order details
+     * @param request        OrderRequestDTO containing order details
+     * @param idempotencyKey Optional client-chosen key identifying this request
      * @return Created OrderEntity
      */
     @PostMapping
-    public ResponseEntity<OrderEntity> createOrder(@RequestBody OrderRequestDTO request) {
+    public ResponseEntity<OrderEntity> createOrder(@RequestBody OrderRequestDTO request,
+                                                   @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            OrderEntity order = orderService.createOrder(
-                    request.getRestaurantName(),
-                    request.getItems()
-            );
+            OrderEntity order = idempotencyKey == null
+                    ? orderService.createOrder(request.getCustomerId(), request.getRestaurantName(), request.getItems())
+                    : idempotencyService.execute(idempotencyKey, request,
+                            () -> orderService.createOrder(request.getCustomerId(), request.getRestaurantName(), request.getItems()));
             return ResponseEntity.ok(order);
+        } catch (IdempotencyConflictException e) {
+            logger.warn("Idempotency conflict: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("Invalid order request: {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
@@ -63,6 +98,27 @@ public class OrderController {
         }
     }
 
+    /**
+     * Endpoint to create several orders in one request.
+     * Each order succeeds or fails on its own; the response lists the outcome per order.
+     *
+     * @param requests List of OrderRequestDTO containing order details
+     * @return List of BatchOrderResultDTO, in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchOrderResultDTO>> createOrders(@RequestBody List<OrderRequestDTO> requests) {
+        try {
+            return ResponseEntity.ok(orderService.createOrders(requests));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid batch order request: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error creating batch of orders", e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to create orders: " + e.getMessage());
+        }
+    }
+
     /**
      * Endpoint to retrieve all orders with pagination and sorting
      *
@@ -70,20 +126,65 @@ public class OrderController {
      * @param size Number of items per page
      * @param sortBy Field to sort by
      * @param sortDir Sort direction (asc or desc)
-     * @return Page of OrderEntity
+     * @param view summary (default) or full for complete order documents
+     * @return Page of OrderSummaryDTO, or of OrderEntity for the full view
      */
     @GetMapping
-    public ResponseEntity<Page<OrderEntity>> getAllOrders(
+    public ResponseEntity<Page<?>> getAllOrders(
         @RequestParam(name = "page", defaultValue = "0") int page,
         @RequestParam(name = "size", defaultValue = "10") int size,
         @RequestParam(name = "sortBy", defaultValue = "createdAt") String sortBy,
-        @RequestParam(name = "sortDir", defaultValue = "desc") String sortDir) {
+        @RequestParam(name = "sortDir", defaultValue = "desc") String sortDir,
+        @RequestParam(name = "view", defaultValue = "summary") String view) {
 
         try {
             Sort.Direction direction = Sort.Direction.fromString(sortDir);
             Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-            Page<OrderEntity> orders = orderService.getAllOrders(pageable);
+            Page<?> orders = isFullView(view)
+                    ? orderService.getAllOrders(pageable)
+                    : orderService.getOrderSummaries(pageable);
+            return ResponseEntity.ok(orders);
+        } catch (Exception e) {
+            logger.error("Error retrieving orders", e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to retrieve orders: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Endpoint to retrieve orders newest first with keyset pagination.
+     * Selected with mode=cursor; pass the nextCursor of a response to get the following page.
+     * No total count is computed, so deep pages cost the same as the first one.
+     * With archived=true the archived delivered and cancelled orders are included.
+     *
+     * @param cursor Cursor from the previous page, omitted for the first page
+     * @param size Number of items per page
+     * @param view summary (default) or full for complete order documents
+     * @param archived Whether to include archived orders
+     * @return Page of OrderSummaryDTO or OrderEntity with the cursor of the next page
+     */
+    @GetMapping(params = "mode=cursor")
+    public ResponseEntity<CursorPageDTO<?>> getOrdersByCursor(
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", defaultValue = "10") int size,
+        @RequestParam(name = "view", defaultValue = "summary") String view,
+        @RequestParam(name = "archived", defaultValue = "false") boolean archived) {
+
+        try {
+            CursorPageDTO<?> orders;
+            if (archived) {
+                orders = isFullView(view)
+                        ? orderService.getOrderHistoryByCursor(cursor, size)
+                        : orderService.getOrderHistorySummariesByCursor(cursor, size);
+            } else {
+                orders = isFullView(view)
+                        ? orderService.getOrdersByCursor(cursor, size)
+                        : orderService.getOrderSummariesByCursor(cursor, size);
+            }
             return ResponseEntity.ok(orders);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid order cursor request: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         } catch (Exception e) {
             logger.error("Error retrieving orders", e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
@@ -157,16 +258,70 @@ public class OrderController {
     /**
      * Endpoint to retrieve all active orders
      *
-     * @return List of active OrderEntity
+     * @param view summary (default) or full for complete order documents
+     * @return List of active OrderSummaryDTO, or of OrderEntity for the full view
      */
     @GetMapping("/active")
-    public ResponseEntity<List<OrderEntity>> getActiveOrders() {
+    public ResponseEntity<List<?>> getActiveOrders(
+        @RequestParam(name = "view", defaultValue = "summary") String view) {
         try {
-            return ResponseEntity.ok(orderService.getActiveOrders());
+            List<?> orders = isFullView(view)
+                    ? orderService.getActiveOrders()
+                    : orderService.getActiveOrderSummaries();
+            return ResponseEntity.ok(orders);
         } catch (Exception e) {
             logger.error("Error retrieving active orders", e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                     "Failed to retrieve active orders: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Endpoint to stream all active orders as newline-delimited JSON.
+     * Selected with Accept: application/x-ndjson; orders are written as they are read from the
+     * database cursor instead of being collected into a list first.
+     *
+     * @param view summary (default) or full for complete order documents
+     * @return One active OrderSummaryDTO, or OrderEntity for the full view, per line
+     */
+    @GetMapping(value = "/active", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamActiveOrders(
+        @RequestParam(name = "view", defaultValue = "summary") String view) {
+        Class<?> type = isFullView(view) ? OrderEntity.class : OrderSummaryDTO.class;
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = streamWriter.createGenerator(outputStream)) {
+                int[] written = {0};
+                orderService.forEachActiveOrder(type, order -> {
+                    try {
+                        streamWriter.writeValue(generator, order);
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                // Terminates the last line; no orders means an empty body
+                if (written[0] > 0) {
+                    generator.writeRaw('\n');
+                }
+            } catch (UncheckedIOException e) {
+                logger.error("Error streaming active orders", e);
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Checks whether a list endpoint should return full order documents.
+     *
+     * @param view Value of the view request parameter
+     * @return true for the full view, false for summaries
+     */
+    private static boolean isFullView(String view) {
+        return FULL_VIEW.equalsIgnoreCase(view);
+    }
+}
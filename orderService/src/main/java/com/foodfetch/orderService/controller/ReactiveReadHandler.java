@@ -0,0 +1,180 @@
+package com.foodfetch.orderService.controller;
+
+import com.foodfetch.orderService.Service.ReactiveReadService;
+import com.foodfetch.orderService.cache.MenuFilter;
+import com.foodfetch.orderService.dto.NearbyRestaurantDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import com.foodfetch.orderService.model.MenuItem;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.Restaurant;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveReadHandler answers the read-heavy endpoints in the reactive profile.
+ * The paths, parameters and response bodies are the same as those of OrderController, RestaurantController
+ * and MenuController; the routes are registered by ReactiveWebConfig ahead of the annotated controllers.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveReadHandler {
+    private static final String FULL_VIEW = "full";
+
+    private final ReactiveReadService readService;
+
+    /**
+     * Constructor for ReactiveReadHandler
+     *
+     * @param readService Service for the reactive reads
+     */
+    public ReactiveReadHandler(ReactiveReadService readService) {
+        this.readService = readService;
+    }
+
+    /**
+     * GET /api/orders/{orderId}
+     *
+     * @param request Request with the orderId path variable
+     * @return The order, or 404 if it does not exist
+     */
+    public Mono<ServerResponse> getOrderById(ServerRequest request) {
+        String orderId = request.pathVariable("orderId");
+        return readService.getOrderById(orderId)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Order not found with id: " + orderId)))
+                .flatMap(order -> ServerResponse.ok().bodyValue(order));
+    }
+
+    /**
+     * GET /api/orders/active, as a JSON array or, with Accept: application/x-ndjson, one order per line.
+     * Either way the orders are written as they arrive from the database cursor.
+     *
+     * @param request Request with the optional view parameter
+     * @return Active OrderSummaryDTO, or OrderEntity for the full view
+     */
+    public Mono<ServerResponse> getActiveOrders(ServerRequest request) {
+        boolean ndjson = request.headers().accept().contains(MediaType.APPLICATION_NDJSON);
+        MediaType contentType = ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        if (isFullView(request)) {
+            return ServerResponse.ok().contentType(contentType)
+                    .body(readService.getActiveOrders(OrderEntity.class), OrderEntity.class);
+        }
+        return ServerResponse.ok().contentType(contentType)
+                .body(readService.getActiveOrders(OrderSummaryDTO.class), OrderSummaryDTO.class);
+    }
+
+    /**
+     * GET /api/restaurants
+     *
+     * @param request Request
+     * @return All restaurants
+     */
+    public Mono<ServerResponse> getAllRestaurants(ServerRequest request) {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                .body(readService.getAllRestaurants(), Restaurant.class);
+    }
+
+    /**
+     * GET /api/restaurants/nearby
+     *
+     * @param request Request with the lat, lng, radius, open, page and size parameters
+     * @return Nearby restaurants, nearest first, or 400 for an invalid search
+     */
+    public Mono<ServerResponse> getNearbyRestaurants(ServerRequest request) {
+        try {
+            double lat = Double.parseDouble(requiredParam(request, "lat"));
+            double lng = Double.parseDouble(requiredParam(request, "lng"));
+            double radius = Double.parseDouble(request.queryParam("radius").orElse("5"));
+            Boolean open = request.queryParam("open").map(Boolean::valueOf).orElse(null);
+            int page = Integer.parseInt(request.queryParam("page").orElse("0"));
+            int size = Integer.parseInt(request.queryParam("size").orElse("20"));
+            if (page < 0 || size < 1) {
+                throw new IllegalArgumentException("Page must be at least 0 and size at least 1");
+            }
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                    .body(readService.getNearbyRestaurants(lat, lng, radius, open, PageRequest.of(page, size)),
+                            NearbyRestaurantDTO.class);
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/restaurants/{id}
+     *
+     * @param request Request with the id path variable
+     * @return The restaurant, or 404 if it does not exist
+     */
+    public Mono<ServerResponse> getRestaurantById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        return readService.getRestaurantById(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Restaurant not found with id: " + id)))
+                .flatMap(restaurant -> ServerResponse.ok().bodyValue(restaurant));
+    }
+
+    /**
+     * GET /api/menu/restaurants/{restaurantId}, with the strong ETag of the menu snapshot.
+     * A request whose If-None-Match matches it is answered with 304 Not Modified and no body.
+     * Filter parameters are handled like in MenuController.
+     *
+     * @param request Request with the restaurantId path variable and the optional filter parameters
+     * @return Pre-serialized JSON list of MenuItem, or MenuSearchResultDTO when filtered
+     */
+    public Mono<ServerResponse> getMenuByRestaurant(ServerRequest request) {
+        MenuFilter filter;
+        try {
+            filter = MenuFilter.from(request.queryParams());
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage()));
+        }
+        return readService.getMenuSnapshot(request.pathVariable("restaurantId"))
+                .flatMap(snapshot -> {
+                    if (request.headers().header(HttpHeaders.IF_NONE_MATCH).contains(snapshot.getETag())) {
+                        return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getETag()).build();
+                    }
+                    if (filter.isSearch()) {
+                        return ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .eTag(snapshot.getETag())
+                                .bodyValue(snapshot.getFacets().search(filter));
+                    }
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .eTag(snapshot.getETag())
+                            .bodyValue(snapshot.getJson());
+                });
+    }
+
+    /**
+     * GET /api/menu/{itemId}
+     *
+     * @param request Request with the itemId path variable
+     * @return The menu item, or 404 if it does not exist
+     */
+    public Mono<ServerResponse> getMenuItem(ServerRequest request) {
+        String itemId = request.pathVariable("itemId");
+        return readService.getMenuItemById(itemId)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Menu item not found with id: " + itemId)))
+                .flatMap(item -> ServerResponse.ok().bodyValue(item));
+    }
+
+    private static String requiredParam(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .orElseThrow(() -> new IllegalArgumentException("Required parameter '" + name + "' is not present"));
+    }
+
+    private static boolean isFullView(ServerRequest request) {
+        return request.queryParam("view").map(FULL_VIEW::equalsIgnoreCase).orElse(false);
+    }
+}
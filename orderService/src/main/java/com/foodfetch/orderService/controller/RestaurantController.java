@@ -1,11 +1,20 @@
 package com.foodfetch.orderService.controller;
 
+import com.foodfetch.orderService.dto.NearbyRestaurantDTO;
+import com.foodfetch.orderService.dto.RestaurantStatsDTO;
 import com.foodfetch.orderService.model.Restaurant;
+import com.foodfetch.orderService.model.StatsGranularity;
 import com.foodfetch.orderService.Service.RestaurantService;
+import com.foodfetch.orderService.Service.RestaurantStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -14,16 +23,21 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/restaurants")
 public class RestaurantController {
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantController.class);
+
     private final RestaurantService restaurantService;
+    private final RestaurantStatsService restaurantStatsService;
 
     /**
      * Constructor for RestaurantController
      *
-     * @param restaurantService Service to handle restaurant-related operations
+     * @param restaurantService      Service to handle restaurant-related operations
+     * @param restaurantStatsService Service reading the order rollups of each restaurant
      */
     @Autowired
-    public RestaurantController(RestaurantService restaurantService) {
+    public RestaurantController(RestaurantService restaurantService, RestaurantStatsService restaurantStatsService) {
         this.restaurantService = restaurantService;
+        this.restaurantStatsService = restaurantStatsService;
     }
 
     /**
@@ -36,6 +50,35 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurantService.getAllRestaurants());
     }
 
+    /**
+     * Endpoint to find the restaurants near a customer, nearest first.
+     * Only restaurants with a location within the radius are returned, a page at a time.
+     *
+     * @param lat    Latitude of the customer
+     * @param lng    Longitude of the customer
+     * @param radius Search radius in kilometers, at most 50
+     * @param open   Only open (true) or closed (false) restaurants, omitted for both
+     * @param page   Zero-based page number
+     * @param size   Number of restaurants per page, at most 50
+     * @return List of NearbyRestaurantDTO with the distance of each restaurant
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyRestaurantDTO>> getNearbyRestaurants(
+        @RequestParam(name = "lat") double lat,
+        @RequestParam(name = "lng") double lng,
+        @RequestParam(name = "radius", defaultValue = "5") double radius,
+        @RequestParam(name = "open", required = false) Boolean open,
+        @RequestParam(name = "page", defaultValue = "0") int page,
+        @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        try {
+            return ResponseEntity.ok(restaurantService.getNearbyRestaurants(lat, lng, radius, open, page, size));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid nearby restaurants request: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     /**
      * Endpoint to get a specific restaurant by its ID
      *
@@ -46,4 +89,30 @@ public class RestaurantController {
     public ResponseEntity<Restaurant> getRestaurantById(@PathVariable String id) {
         return ResponseEntity.ok(restaurantService.getRestaurantById(id));
     }
-}
\ No newline at end of file
+
+    /**
+     * Endpoint to get the order statistics of a restaurant per minute, hour or day.
+     * Each bucket holds the orders placed, their gross amount, the cancellations and the average basket.
+     * Without a range the last hour of minutes, day of hours or 30 days are returned.
+     *
+     * @param id          ID of the restaurant
+     * @param granularity minute, hour or day
+     * @param from        Start of the range, ISO instant such as 2024-05-01T12:00:00Z
+     * @param to          End of the range, exclusive, ISO instant
+     * @return List of RestaurantStatsDTO, oldest first, without the buckets in which nothing happened
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<List<RestaurantStatsDTO>> getRestaurantStats(
+        @PathVariable String id,
+        @RequestParam(name = "granularity", defaultValue = "hour") String granularity,
+        @RequestParam(name = "from", required = false) Instant from,
+        @RequestParam(name = "to", required = false) Instant to) {
+
+        try {
+            return ResponseEntity.ok(restaurantStatsService.getStats(id, StatsGranularity.parse(granularity), from, to));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid restaurant stats request: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
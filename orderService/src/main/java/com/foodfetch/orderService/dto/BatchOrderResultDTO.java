@@ -0,0 +1,20 @@
+package com.foodfetch.orderService.dto;
+
+import com.foodfetch.orderService.model.OrderEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * BatchOrderResultDTO is a Data Transfer Object for the outcome of one order in a batch request.
+ * It contains the position of the order in the request and either the created order or the error message.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResultDTO {
+    private int index;
+    private boolean success;
+    private OrderEntity order;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.foodfetch.orderService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * CursorPageDTO is a Data Transfer Object for one page of a keyset-paginated listing.
+ * It contains the page content and an opaque cursor for the next page, which is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.foodfetch.orderService.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.foodfetch.orderService.model.MenuItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MenuSearchResultDTO is a Data Transfer Object for a filtered menu.
+ * It contains the matching items in menu order and the facet counts: for each facet (category, vegetarian,
+ * available, price), the number of items per value that match all the other filters, so a client can show
+ * how many items each further choice would leave. The counts are omitted when the request sets facets=false.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuSearchResultDTO {
+    private List<MenuItem> items;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Map<String, Integer>> facets;
+}
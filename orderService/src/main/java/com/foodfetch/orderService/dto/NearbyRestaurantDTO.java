@@ -0,0 +1,18 @@
+package com.foodfetch.orderService.dto;
+
+import com.foodfetch.orderService.model.Restaurant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * NearbyRestaurantDTO is a Data Transfer Object for one result of the nearby restaurant search.
+ * It contains the restaurant and its distance from the searched point in kilometers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyRestaurantDTO {
+    private Restaurant restaurant;
+    private double distanceKm;
+}
@@ -22,4 +22,5 @@ public class OrderRequestDTO {
     private List<OrderItem> items;
     private String paymentMethod;
     private String deliveryAddress;
+    private String customerId;
 }
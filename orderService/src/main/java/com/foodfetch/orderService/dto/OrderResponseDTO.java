@@ -1,6 +1,7 @@
 package com.foodfetch.orderService.dto;
 
-import com.foodfetch.orderService.model.OrderStatus;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.money.MinorUnits;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -19,7 +20,8 @@ public class OrderResponseDTO {
     private String id;
     private String restaurantName;
     private OrderStatus status;
-    private double totalAmount;
+    @MinorUnits
+    private long totalAmount;
     private String deliveryAddress;
     private LocalDateTime estimatedDeliveryTime;
 }
\ No newline at end of file
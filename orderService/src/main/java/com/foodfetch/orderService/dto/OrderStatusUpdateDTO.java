@@ -1,6 +1,6 @@
 package com.foodfetch.orderService.dto;
 
-import com.foodfetch.orderService.model.OrderStatus;
+import com.foodfetch.events.OrderStatus;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -0,0 +1,32 @@
+package com.foodfetch.orderService.dto;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.money.MinorUnits;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * OrderSummaryDTO is a Data Transfer Object for order list views.
+ * It is read from MongoDB as a field projection, so items, payment and delivery details
+ * and coordinates are neither fetched nor serialized.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDTO {
+    // Field projection matching the properties below, for queries that cannot derive it
+    public static final String FIELDS =
+            "{ 'customerId': 1, 'restaurantId': 1, 'status': 1, 'totalAmount': 1, 'createdAt': 1, 'updatedAt': 1 }";
+
+    private String id;
+    private String customerId;
+    private String restaurantId;
+    private OrderStatus status;
+    @MinorUnits
+    private long totalAmount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
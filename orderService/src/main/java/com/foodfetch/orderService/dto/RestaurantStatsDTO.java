@@ -0,0 +1,29 @@
+package com.foodfetch.orderService.dto;
+
+import com.foodfetch.orderService.money.MinorUnits;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * RestaurantStatsDTO is a Data Transfer Object for one bucket of a restaurant's order statistics.
+ * The bucket start is a UTC instant. The averages are derived from the stored counters; cancelled orders
+ * stay in the gross figures.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantStatsDTO {
+    private Instant bucketStart;
+    private long orderCount;
+    @MinorUnits
+    private long grossAmount;
+    private long cancelledCount;
+    @MinorUnits
+    private long cancelledAmount;
+    @MinorUnits
+    private long averageBasketAmount;
+    private double averageBasketItems;
+}
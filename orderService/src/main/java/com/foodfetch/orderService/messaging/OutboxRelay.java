@@ -0,0 +1,88 @@
+package com.foodfetch.orderService.messaging;
+
+import com.foodfetch.orderService.Repository.OutboxRepository;
+import com.foodfetch.orderService.model.OutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * OutboxRelay drains the order outbox to RabbitMQ in the background.
+ * Each batch is published on one channel and confirmed with a single wait for publisher confirms;
+ * messages are only removed from the outbox once the whole batch has been confirmed, so delivery
+ * is at-least-once and survives broker outages.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${rabbitmq.exchange.name}")
+    private String exchange;
+
+    // Maximum number of messages published per confirm round
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    // How long to wait for the broker to confirm a batch
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    /**
+     * Constructor for OutboxRelay
+     *
+     * @param outboxRepository Repository for pending outbox messages
+     * @param rabbitTemplate   RabbitTemplate to send messages
+     */
+    public OutboxRelay(OutboxRepository outboxRepository, RabbitTemplate rabbitTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    /**
+     * Publishes pending outbox messages until the outbox is empty or the broker stops confirming.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    public void relay() {
+        List<OutboxMessage> batch;
+        do {
+            batch = outboxRepository.findByOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (batch.isEmpty() || !publishBatch(batch)) {
+                return;
+            }
+            outboxRepository.deleteAllById(batch.stream().map(OutboxMessage::getId).toList());
+            logger.debug("Relayed {} outbox messages", batch.size());
+        } while (batch.size() == batchSize);
+    }
+
+    /**
+     * Publishes a batch on a single channel and waits for all publisher confirms.
+     *
+     * @param batch The messages to publish, oldest first
+     * @return true if the broker confirmed every message in the batch
+     */
+    private boolean publishBatch(List<OutboxMessage> batch) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (OutboxMessage message : batch) {
+                    operations.convertAndSend(exchange, message.getRoutingKey(), message.getEvent());
+                }
+                operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+            return true;
+        } catch (Exception e) {
+            logger.warn("Outbox batch of {} messages not confirmed, will retry: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.foodfetch.orderService.messaging;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.events.PaymentEvent;
+import com.foodfetch.orderService.Service.OrderService;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PaymentEventBatchConsumer consumes payment events from the payment queue in batches.
+ * The container hands over up to payment.consumer.batch.size messages, or fewer once no message
+ * has arrived for payment.consumer.batch.receive-timeout-ms. All successful payments in a batch are
+ * confirmed with one bulk write and their events are written to the outbox together.
+ * Each message is acked on its own. The confirmations of a batch succeed or fail together: if the bulk
+ * write fails, every paid message of the batch is requeued once; a message that fails again after its
+ * redelivery is rejected and dead-lettered to the payment dead letter queue. The other messages are acked.
+ * Payments for orders the snapshot cache already shows as confirmed are acked without a write.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.consumer.batch.enabled", havingValue = "true")
+public class PaymentEventBatchConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentEventBatchConsumer.class);
+    private final OrderService orderService;
+
+    public PaymentEventBatchConsumer(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    /**
+     * Consumes a batch of payment events from the payment queue and processes them.
+     *
+     * @param messages The payment events received from RabbitMQ
+     * @param channel  Channel the messages were received on, used to ack them
+     */
+    @RabbitListener(queues = "${rabbitmq.queue.order.payment.name}", containerFactory = "paymentBatchContainerFactory")
+    public void consumePaymentEvents(List<Message<PaymentEvent>> messages, Channel channel) {
+        logger.info("Received batch of {} payment events", messages.size());
+
+        // Delivery tags of successful payments, per order
+        Map<String, List<Long>> paidOrders = new LinkedHashMap<>();
+        // Delivery tags of messages that have been delivered before
+        Set<Long> redelivered = new HashSet<>();
+
+        for (Message<PaymentEvent> message : messages) {
+            long deliveryTag = message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+            PaymentEvent paymentEvent = message.getPayload();
+            if (Boolean.TRUE.equals(message.getHeaders().get(AmqpHeaders.REDELIVERED, Boolean.class))) {
+                redelivered.add(deliveryTag);
+            }
+
+            String eventType = paymentEvent.getEventType();
+            String orderId = paymentEvent.getOrderId();
+
+            if (orderId == null || orderId.trim().isEmpty()) {
+                logger.error("Payment event missing orderId: {}", paymentEvent);
+                ack(channel, deliveryTag);
+                continue;
+            }
+
+            if (PaymentEvent.PAYMENT_PROCESSED.equals(eventType) && orderService.isKnownToBePast(orderId, OrderStatus.CREATED)) {
+                // Redelivered payment for an order that is already confirmed
+                logger.info("Order {} already confirmed, ignoring duplicate payment event", orderId);
+                ack(channel, deliveryTag);
+            } else if (PaymentEvent.PAYMENT_PROCESSED.equals(eventType)) {
+                paidOrders.computeIfAbsent(orderId, id -> new ArrayList<>(1)).add(deliveryTag);
+            } else {
+                if (PaymentEvent.PAYMENT_FAILED.equals(eventType)) {
+                    logger.warn("Payment failed for order {}", orderId);
+                } else if (PaymentEvent.PAYMENT_REFUNDED.equals(eventType)) {
+                    logger.info("Payment refunded for order {}", orderId);
+                }
+                ack(channel, deliveryTag);
+            }
+        }
+
+        if (paidOrders.isEmpty()) {
+            return;
+        }
+
+        boolean failed = false;
+        try {
+            orderService.confirmOrders(paidOrders.keySet());
+        } catch (Exception e) {
+            logger.error("Error confirming batch of {} paid orders: {}", paidOrders.size(), e.getMessage(), e);
+            failed = true;
+        }
+
+        for (List<Long> deliveryTags : paidOrders.values()) {
+            for (long deliveryTag : deliveryTags) {
+                if (failed) {
+                    nack(channel, deliveryTag, !redelivered.contains(deliveryTag));
+                } else {
+                    ack(channel, deliveryTag);
+                }
+            }
+        }
+    }
+
+    private void ack(Channel channel, long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (IOException e) {
+            logger.error("Failed to ack payment event {}: {}", deliveryTag, e.getMessage());
+        }
+    }
+
+    private void nack(Channel channel, long deliveryTag, boolean requeue) {
+        try {
+            // Requeue so the payment is retried once, otherwise the broker dead-letters it
+            channel.basicNack(deliveryTag, false, requeue);
+        } catch (IOException e) {
+            logger.error("Failed to nack payment event {}: {}", deliveryTag, e.getMessage());
+        }
+    }
+}
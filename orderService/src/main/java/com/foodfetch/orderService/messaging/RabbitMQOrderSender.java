@@ -1,236 +1,144 @@
 package com.foodfetch.orderService.messaging;
 
+import com.foodfetch.events.EventRoutingKeys;
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.Repository.OutboxRepository;
 import com.foodfetch.orderService.model.OrderEntity;
-import com.foodfetch.orderService.model.OrderStatus;
+import com.foodfetch.orderService.model.OutboxMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * RabbitMQOrderSender is responsible for sending order-related events to RabbitMQ.
- * It handles events such as order status changes, payment processing, and notifications.
+ * Every order status change is published once, with the routing key order.&lt;status&gt;;
+ * the payment, tracking and notification services bind their queues to the statuses they need,
+ * so the broker fans the event out instead of the order service publishing it per consumer.
+ * Events are not published directly: they are written to the order outbox in the caller's
+ * transaction and delivered by the OutboxRelay, so broker latency stays off the request thread.
  */
 @Service
 public class RabbitMQOrderSender {
 
     private static final Logger logger = LoggerFactory.getLogger(RabbitMQOrderSender.class);
 
-    // RabbitTemplate is used to send messages to RabbitMQ
-    private final RabbitTemplate rabbitTemplate;
-
-    // Configuration values for RabbitMQ
-    @Value("${rabbitmq.exchange.name}")
-    private String exchange;
-
-    @Value("${rabbitmq.routing.key.order}")
-    private String orderRoutingKey;
-
-    @Value("${rabbitmq.routing.key.payment}")
-    private String paymentRoutingKey;
-
-    @Value("${rabbitmq.routing.key.notification}")
-    private String notificationRoutingKey;
-
-    @Value("${rabbitmq.routing.key.tracking}")
-    private String trackingRoutingKey;
+    // Outbox the events are written to; the OutboxRelay publishes them to RabbitMQ
+    private final OutboxRepository outboxRepository;
 
     /**
      * Constructor for RabbitMQOrderSender
      *
-     * @param rabbitTemplate RabbitTemplate to send messages
+     * @param outboxRepository Repository for pending outbox messages
      */
-    public RabbitMQOrderSender(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public RabbitMQOrderSender(OutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
     }
 
     /**
-     * Sends an order status change event to RabbitMQ
+     * Sends the status change event of an order to RabbitMQ
      *
      * @param order The order entity containing order details
      */
     public void sendOrderStatusChangeEvent(OrderEntity order) {
-        // Log the order status change event
         logger.info("Sending order status change event for order: {}", order.getId());
-
-        // Create an OrderEvent object to encapsulate order details
-        OrderEvent event = new OrderEvent();
-        event.setOrderId(order.getId());
-        event.setOrderStatus(order.getStatus());
-        event.setRestaurantId(order.getRestaurantId());
-        event.setTotalAmount(order.getTotalAmount());
-        event.setTimestamp(LocalDateTime.now());
-        event.setRestaurantLat(order.getRestaurantLatitude());
-        event.setRestaurantLong(order.getRestaurantLongitude());
-        event.setCustomerLat(order.getCustomerLatitude());
-        event.setCustomerLong(order.getCustomerLongitude());
-
-        // Set event type based on order status
-        switch (order.getStatus()) {
-            case CREATED:
-                event.setEventType(OrderEvent.ORDER_CREATED);
-                break;
-            case CONFIRMED:
-                event.setEventType(OrderEvent.ORDER_CONFIRMED);
-                break;
-            case CANCELLED:
-                event.setEventType(OrderEvent.ORDER_CANCELLED);
-                break;
-            case DELIVERED:
-                event.setEventType(OrderEvent.ORDER_COMPLETED);
-                break;
-            default:
-                event.setEventType(OrderEvent.ORDER_UPDATED);
-        }
-
-        // Send to order queue
-        rabbitTemplate.convertAndSend(exchange, orderRoutingKey, event);
-
-        // For CONFIRMED orders, also send to tracking queue
-        if (order.getStatus() == OrderStatus.CONFIRMED) {
-            logger.info("Sending confirmed order to tracking service: {}", order.getId());
-            rabbitTemplate.convertAndSend(exchange, trackingRoutingKey, event);
-        }
+        outboxRepository.save(toOutboxMessage(order));
     }
 
     /**
-     * Sends a payment processing event when an order is confirmed
+     * Sends the status change events of several orders in one outbox write.
+     * The relay then publishes them as one confirmed batch.
      *
-     * @param order The order entity containing order details
+     * @param orders The orders whose status changed
      */
-    public void sendPaymentProcessingEvent(OrderEntity order) {
-        logger.info("Sending payment processing event for order: {}", order.getId());
-
-        // Create an OrderEvent object to encapsulate order details
-        OrderEvent event = new OrderEvent();
-        event.setOrderId(order.getId());
-        event.setOrderStatus(order.getStatus());
-        event.setRestaurantId(order.getRestaurantId());
-        event.setTotalAmount(order.getTotalAmount());
-        event.setTimestamp(LocalDateTime.now());
-        event.setEventType(OrderEvent.ORDER_CREATED);
-
-        // Include payment information if available
-        if (order.getPaymentDetails() != null) {
-            event.setPaymentMethod(order.getPaymentDetails().getPaymentMethod());
+    public void sendOrderStatusChangeEvents(List<OrderEntity> orders) {
+        if (orders.isEmpty()) {
+            return;
         }
+        logger.info("Sending order status change events for {} orders", orders.size());
 
-        // Send to payment queue
-        rabbitTemplate.convertAndSend(exchange, paymentRoutingKey, event);
+        List<OutboxMessage> messages = new ArrayList<>(orders.size());
+        for (OrderEntity order : orders) {
+            messages.add(toOutboxMessage(order));
+        }
+        outboxRepository.saveAll(messages);
     }
 
     /**
-     * Sends a payment refund event when an order is cancelled
+     * Sets placeholder coordinates on the event of a confirmed order that has no location data, for the
+     * tracking service. Only the event gets them; the order itself is neither changed nor persisted with them.
      *
-     * @param order The order entity containing order details
+     * @param event Event of a confirmed order
      */
-    public void sendPaymentRefundEvent(OrderEntity order) {
-        logger.info("Sending payment refund event for order: {}", order.getId());
-
-        // Create an OrderEvent object to encapsulate order details
-        OrderEvent event = new OrderEvent();
-        event.setOrderId(order.getId());
-        event.setOrderStatus(order.getStatus());
-        event.setRestaurantId(order.getRestaurantId());
-        event.setTotalAmount(order.getTotalAmount());
-        event.setTimestamp(LocalDateTime.now());
-        event.setEventType(OrderEvent.ORDER_CANCELLED);
+    private static void applyDefaultLocations(OrderEvent event) {
+        // Set default location data if not available
+        if (event.getRestaurantLat() == 0 && event.getRestaurantLong() == 0) {
+            // Set some default values - replace with actual data if available
+            event.setRestaurantLat(40.7128);  // Example: NYC coordinates
+            event.setRestaurantLong(-74.0060);
+        }
 
-        // Send to payment queue
-        rabbitTemplate.convertAndSend(exchange, paymentRoutingKey, event);
+        if (event.getCustomerLat() == 0 && event.getCustomerLong() == 0) {
+            // Set some default values - replace with actual data if available
+            event.setCustomerLat(40.7308);  // Example: Different NYC coordinates
+            event.setCustomerLong(-73.9973);
+        }
     }
 
     /**
-     * Sends a notification event when an order is confirmed or updated
+     * Creates the outbox message of an order status change event.
+     * The event carries everything its consumers need: the amount and payment method for the
+     * payment service, the coordinates for the tracking service and the customer for notifications.
      *
      * @param order The order entity containing order details
+     * @return The message, routed by the new status of the order
      */
-    public void sendNotificationEvent(OrderEntity order) {
-        logger.info("Sending notification event for order: {}", order.getId());
-
+    private static OutboxMessage toOutboxMessage(OrderEntity order) {
         // Create an OrderEvent object to encapsulate order details
         OrderEvent event = new OrderEvent();
         event.setOrderId(order.getId());
         event.setOrderStatus(order.getStatus());
         event.setRestaurantId(order.getRestaurantId());
         event.setCustomerId(order.getCustomerId());
-        event.setTotalAmount(order.getTotalAmount());
+        event.setTotalAmountMinor(order.getTotalAmount());
         event.setTimestamp(LocalDateTime.now());
         event.setRestaurantLat(order.getRestaurantLatitude());
         event.setRestaurantLong(order.getRestaurantLongitude());
         event.setCustomerLat(order.getCustomerLatitude());
         event.setCustomerLong(order.getCustomerLongitude());
 
-        // Map the order status to appropriate notification type
-        String notificationType = mapToNotificationType(order.getStatus());
-        event.setEventType(notificationType);
-
-        // Send to notification queue
-        rabbitTemplate.convertAndSend(exchange, notificationRoutingKey, event);
-    }
-
-    /**
-     * Sends a tracking event when an order is confirmed
-     *
-     * @param order The order entity containing order details
-     */
-    public void sendTrackingEvent(OrderEntity order) {
-        logger.info("Sending tracking event for order: {}", order.getId());
-
-        // Create an OrderEvent object specifically for tracking
-        OrderEvent event = new OrderEvent();
-        event.setOrderId(order.getId());
-        event.setOrderStatus(order.getStatus());
-        event.setRestaurantId(order.getRestaurantId());
-        event.setTotalAmount(order.getTotalAmount());
-        event.setTimestamp(LocalDateTime.now());
-        event.setCustomerId(order.getCustomerId());
-
-        // Set location data
-        event.setRestaurantLat(order.getRestaurantLatitude());
-        event.setRestaurantLong(order.getRestaurantLongitude());
-        event.setCustomerLat(order.getCustomerLatitude());
-        event.setCustomerLong(order.getCustomerLongitude());
-
-        // Set event type
-        event.setEventType(OrderEvent.ORDER_CONFIRMED);
-
-        // Send to tracking queue
-        rabbitTemplate.convertAndSend(exchange, trackingRoutingKey, event);
-    }
+        // The tracking service starts a delivery from the confirmed order event
+        if (order.getStatus() == OrderStatus.CONFIRMED) {
+            applyDefaultLocations(event);
+        }
 
-    /**
-     * Maps order status to notification type
-     *
-     * @param status The order status
-     * @return The corresponding notification type
-     */
+        // Include payment information if available
+        if (order.getPaymentDetails() != null) {
+            event.setPaymentMethod(order.getPaymentDetails().getPaymentMethod());
+        }
 
-    private String mapToNotificationType(OrderStatus status) {
-        switch (status) {
+        // Set event type based on order status
+        switch (order.getStatus()) {
             case CREATED:
-                return "order-created";
+                event.setEventType(OrderEvent.ORDER_CREATED);
+                break;
             case CONFIRMED:
-                return "order-confirmed"; // always assume that the payment is successful
-            case PREPARING:
-                return "order-preparation";
-            case IN_TRANSIT:
-                return "delivery-update";
+                event.setEventType(OrderEvent.ORDER_CONFIRMED);
+                break;
+            case CANCELLED:
+                event.setEventType(OrderEvent.ORDER_CANCELLED);
+                break;
             case DELIVERED:
-                return "order-arrival";
+                event.setEventType(OrderEvent.ORDER_COMPLETED);
+                break;
             default:
-                return "order-status-update";
+                event.setEventType(OrderEvent.ORDER_UPDATED);
         }
-    }
-
-    // Add this to RabbitMQOrderSender.java
-    public void sendNotificationEventDirect(OrderEvent event) {
-        logger.info("Sending direct notification event for order: {}", event.getOrderId());
 
-        // Send to notification queue
-        rabbitTemplate.convertAndSend(exchange, notificationRoutingKey, event);
+        return new OutboxMessage(EventRoutingKeys.order(order.getStatus()), event);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package com.foodfetch.orderService.messaging;
 
-import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.events.DeliveryEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
@@ -8,8 +8,10 @@ import org.springframework.stereotype.Component;
 
 import com.foodfetch.orderService.Service.OrderService;
 
-import java.time.LocalDateTime;
-
+/**
+ * TrackingEventConsumer completes orders when the tracking service reports them delivered.
+ * The notification service receives the delivery events itself, so the other statuses need no action here.
+ */
 @Component
 public class TrackingEventConsumer {
 
@@ -21,59 +23,14 @@ public class TrackingEventConsumer {
     this.orderService = orderService;
   }
 
-  @RabbitListener(queues = "${rabbitmq.queue.order.tracking.name}")
-  public void handleTrackingEvent(TrackingEvent event) {
+  @RabbitListener(queues = "${rabbitmq.queue.order.tracking.name}", containerFactory = "trackingContainerFactory")
+  public void handleTrackingEvent(DeliveryEvent event) {
     logger.info("Received tracking event: {}", event);
 
-    String status = event.getStatus();
-    String notificationType = null;
-
-    // Map tracking status to notification type
-    switch (status) {
-      case "PREPARING":
-        notificationType = "order-preparation";
-        break;
-      case "IN_TRANSIT":
-        notificationType = "order-in-transit";
-        break;
-      case "DELIVERED":
-        notificationType = "order-arrival";
-        break;
-      default:
-        notificationType = "order-status-update";
-    }
-
     // Only update to DELIVERED status when it's actually delivered
-    if ("DELIVERED".equals(status)) {
-      // Update the order status in the database but don't send a notification from here
-      // as the TrackingService already sent one
+    if ("DELIVERED".equals(event.getStatus())) {
+      // Publishes the order completed event, which the notification service announces
       orderService.completeOrder(event.getOrderId());
-      // Don't send a second notification since the TrackingService already sent one
-    } else {
-      // Existing code for other statuses...
-      OrderEntity order = orderService.getOrderById(event.getOrderId());
-      if (order != null) {
-        // Send notification with the mapped type
-        OrderEvent notificationEvent = new OrderEvent();
-        notificationEvent.setOrderId(order.getId());
-        notificationEvent.setEventType(notificationType);
-
-        // Set the status to match the event
-        switch (status) {
-          case "PREPARING":
-            notificationEvent.setOrderStatus(com.foodfetch.orderService.model.OrderStatus.PREPARING);
-            break;
-          case "IN_TRANSIT":
-            notificationEvent.setOrderStatus(com.foodfetch.orderService.model.OrderStatus.IN_TRANSIT);
-            break;
-          default:
-            notificationEvent.setOrderStatus(order.getStatus());
-        }
-
-        notificationEvent.setTimestamp(LocalDateTime.now());
-        // Send notification
-        orderService.sendNotificationForEvent(notificationEvent);
-      }
     }
   }
 }
@@ -1,11 +1,12 @@
 package com.foodfetch.orderService.model;
 
+import com.foodfetch.orderService.money.MinorUnits;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 /**
  * DeliveryDetails is a class that represents the details of a delivery.
- * It contains information about the delivery ID, driver ID, delivery address, estimated delivery time, and delivery fee.
+ * It contains information about the delivery ID, driver ID, delivery address, estimated delivery time, and delivery fee in cents.
  */
 @Data
 public class DeliveryDetails {
@@ -13,5 +14,6 @@ public class DeliveryDetails {
     private String driverId;
     private String deliveryAddress;
     private LocalDateTime estimatedDeliveryTime;
-    private double deliveryFee;
+    @MinorUnits
+    private long deliveryFee;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.foodfetch.orderService.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * IdempotencyRecord stores the outcome of an order creation request sent with an Idempotency-Key header.
+ * It is inserted as pending before the order is created and completed with the response afterwards;
+ * MongoDB removes it once expiresAt has passed.
+ */
+@Data
+@Document(collection = "idempotency_keys") // MongoDB collection name
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    @Id
+    private String key;
+    private String requestHash;
+    private boolean completed;
+    private OrderEntity response;
+    private LocalDateTime createdAt;
+
+    @Indexed(expireAfter = "0s")
+    private LocalDateTime expiresAt;
+}
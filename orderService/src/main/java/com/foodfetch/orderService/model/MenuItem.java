@@ -1,26 +1,49 @@
 // MenuItem.java
 package com.foodfetch.orderService.model;
 
+import com.foodfetch.orderService.money.MinorUnits;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * MenuItem is a class that represents a menu item in a restaurant.
- * It contains information about the item ID, name, description, price, restaurant ID, category, image URL,
+ * It contains information about the item ID, name, description, price in cents, restaurant ID, category, image URL,
  * whether it is vegetarian or not, and whether it is available or not.
  */
 @Data
+@NoArgsConstructor
 @Document(collection = "menu") // MongoDB collection name
 public class MenuItem {
     @Id
     private String id;
     private String name;
     private String description;
-    private double price;
+    @MinorUnits
+    private long price;
+    @Indexed
     private String restaurantId;
     private String category;
     private String imageUrl;
     private boolean isVegetarian;
     private boolean isAvailable;
+
+    /**
+     * Copy constructor, used to hand out cached menu items without sharing them.
+     *
+     * @param other Menu item to copy
+     */
+    public MenuItem(MenuItem other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.description = other.description;
+        this.price = other.price;
+        this.restaurantId = other.restaurantId;
+        this.category = other.category;
+        this.imageUrl = other.imageUrl;
+        this.isVegetarian = other.isVegetarian;
+        this.isAvailable = other.isAvailable;
+    }
 }
@@ -1,5 +1,7 @@
 package com.foodfetch.orderService.model;
 
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.money.MinorUnits;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,6 +9,8 @@ import lombok.NoArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,20 +18,34 @@ import java.util.List;
 /**
  * OrderEntity is a class that represents an order in the system.
  * It contains information about the order ID, customer ID, restaurant ID, list of items,
- * order status, total amount, payment details, delivery details, and timestamps for creation and update.
+ * order status, total amount in cents, payment details, delivery details, and timestamps for creation and update.
+ * The compound indexes cover the status filter, the newest-first listings and per restaurant lookups and the keyset pages of a customer's orders.
+ * Delivered and cancelled orders are moved to the archive collection after a while by the OrderArchiver;
+ * it holds the same documents and is created with the same indexes.
  */
 @Data
 @Document(collection = "orders") // MongoDB collection name
+@CompoundIndexes({
+        @CompoundIndex(name = "status_createdAt", def = "{'status': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "status_updatedAt", def = "{'status': 1, 'updatedAt': 1}"),
+        @CompoundIndex(name = "createdAt_id", def = "{'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "restaurantId_createdAt", def = "{'restaurantId': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "customerId_createdAt_id", def = "{'customerId': 1, 'createdAt': -1, '_id': -1}")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderEntity {
+    // Collection of archived delivered and cancelled orders
+    public static final String ARCHIVE_COLLECTION = "orders_archive";
+
     @Id
     private String id;
     private String customerId;
     private String restaurantId;
     private List<OrderItem> items;
     private OrderStatus status;
-    private double totalAmount;
+    @MinorUnits
+    private long totalAmount;
     private PaymentDetails paymentDetails;
     private DeliveryDetails deliveryDetails;
     private LocalDateTime createdAt;
@@ -41,10 +59,10 @@ public class OrderEntity {
      * Constructor to create an OrderEntity with the specified restaurant ID, total amount, and list of items.
      *
      * @param restaurantId the ID of the restaurant
-     * @param totalAmount  the total amount of the order
+     * @param totalAmount  the total amount of the order in cents
      * @param items        the list of items in the order
      */
-    public OrderEntity(String restaurantId, double totalAmount, List<OrderItem> items) {
+    public OrderEntity(String restaurantId, long totalAmount, List<OrderItem> items) {
         this.restaurantId = restaurantId;
         this.totalAmount = totalAmount;
         this.items = items;
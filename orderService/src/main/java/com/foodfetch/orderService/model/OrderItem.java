@@ -1,12 +1,13 @@
 package com.foodfetch.orderService.model;
 
+import com.foodfetch.orderService.money.MinorUnits;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
  * OrderItem represents an item in an order.
- * It contains the necessary information about the item.
+ * It contains the necessary information about the item. The price is the unit price in cents.
  */
 @Data
 @NoArgsConstructor
@@ -15,6 +16,7 @@ public class OrderItem {
     private String itemId;
     private String name;
     private int quantity;
-    private double price;
+    @MinorUnits
+    private long price;
     private String specialInstructions;
 }
@@ -0,0 +1,39 @@
+package com.foodfetch.orderService.model;
+
+import com.foodfetch.events.OrderEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxMessage is a pending RabbitMQ publish stored in the orders database.
+ * It is written in the same transaction as the order change that produced it
+ * and removed by the OutboxRelay once the broker has confirmed it.
+ */
+@Data
+@Document(collection = "order_outbox") // MongoDB collection name
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+    @Id
+    private String id;
+    private String routingKey;
+    private OrderEvent event;
+    private LocalDateTime createdAt;
+
+    /**
+     * Constructor to create an OutboxMessage for the given routing key and event.
+     *
+     * @param routingKey the routing key to publish with
+     * @param event      the event to publish
+     */
+    public OutboxMessage(String routingKey, OrderEvent event) {
+        this.routingKey = routingKey;
+        this.event = event;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -1,15 +1,18 @@
 package com.foodfetch.orderService.model;
 
+import com.foodfetch.events.PaymentStatus;
+import com.foodfetch.orderService.money.MinorUnits;
 import lombok.Data;
 
 /**
  * PaymentDetails is a class that represents the details of a payment.
- * It contains information about the payment ID, status, payment method, and amount.
+ * It contains information about the payment ID, status, payment method, and amount in cents.
  */
 @Data
 public class PaymentDetails {
     private String paymentId;
     private PaymentStatus status;
     private String paymentMethod;
-    private double amount;
+    @MinorUnits
+    private long amount;
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.foodfetch.orderService.model;
+
+import com.foodfetch.orderService.money.MinorUnits;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * PricingRules holds a restaurant's order rules, stored with the restaurant document.
+ * Amounts are in cents and the discount in basis points. A threshold or discount of 0 disables the corresponding rule.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricingRules {
+    // Smallest order amount the restaurant accepts
+    @MinorUnits
+    private long minOrderValue;
+
+    // Minutes until an order is expected to be delivered
+    private int prepTimeMinutes;
+
+    // Delivery fee charged on orders that do not qualify for free delivery
+    @MinorUnits
+    private long deliveryFee;
+
+    // Orders above this amount are delivered for free
+    @MinorUnits
+    private long freeDeliveryThreshold;
+
+    // Orders above this amount get discountBasisPoints off their total, e.g. 500 for 5%
+    @MinorUnits
+    private long discountThreshold;
+    private int discountBasisPoints;
+
+    /**
+     * Copy constructor, used to hand out cached restaurants without sharing their rules.
+     *
+     * @param other Pricing rules to copy
+     */
+    public PricingRules(PricingRules other) {
+        this(other.minOrderValue, other.prepTimeMinutes, other.deliveryFee,
+                other.freeDeliveryThreshold, other.discountThreshold, other.discountBasisPoints);
+    }
+}
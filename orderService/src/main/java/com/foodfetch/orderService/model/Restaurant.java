@@ -1,24 +1,58 @@
 package com.foodfetch.orderService.model;
 
+import com.foodfetch.orderService.money.MinorUnits;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * Restaurant represents a restaurant in the system.
- * It contains the necessary information about the restaurant.
+ * It contains the necessary information about the restaurant, including the pricing rules applied to its orders.
+ * The location is a GeoJSON point (longitude, latitude) with a 2dsphere index for the nearby search;
+ * restaurants without a location are not found by it.
  */
 @Data
+@NoArgsConstructor
 @Document(collection = "restaurants") // MongoDB collection name
 public class Restaurant {
     @Id
     private String id;
+    @Indexed
     private String name;
     private String imageUrl;
     private String cuisineType;
     private String address;
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint location;
     private double rating;
     private int deliveryTime; // in minutes
-    private double deliveryFee;
+    @MinorUnits
+    private long deliveryFee; // in cents
     private boolean isOpen;
+    private PricingRules pricingRules;
+
+    /**
+     * Copy constructor, used to hand out cached restaurants without sharing them.
+     * The location is immutable and shared; the pricing rules are copied.
+     *
+     * @param other Restaurant to copy
+     */
+    public Restaurant(Restaurant other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.imageUrl = other.imageUrl;
+        this.cuisineType = other.cuisineType;
+        this.address = other.address;
+        this.location = other.location;
+        this.rating = other.rating;
+        this.deliveryTime = other.deliveryTime;
+        this.deliveryFee = other.deliveryFee;
+        this.isOpen = other.isOpen;
+        this.pricingRules = other.pricingRules != null ? new PricingRules(other.pricingRules) : null;
+    }
 }
@@ -0,0 +1,63 @@
+package com.foodfetch.orderService.model;
+
+import com.foodfetch.orderService.money.MinorUnits;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * RestaurantStats is a pre-aggregated rollup of the orders of one restaurant in one minute, hour or day.
+ * It holds the number of orders placed, their gross totalAmount and item count, and the cancellations.
+ * The documents are only ever changed with $inc upserts, keyed by restaurant, granularity and bucket start
+ * in UTC, so concurrent writers do not need to read them first. Buckets without any order do not exist.
+ */
+@Data
+@NoArgsConstructor
+@Document(collection = "restaurant_stats") // MongoDB collection name
+@CompoundIndex(name = "restaurantId_granularity_bucketStart", def = "{'restaurantId': 1, 'granularity': 1, 'bucketStart': 1}")
+public class RestaurantStats {
+    @Id
+    private String id;
+    private String restaurantId;
+    private StatsGranularity granularity;
+    @Indexed // Lets RestaurantStatsRepair replace the buckets of a day without a collection scan
+    private Instant bucketStart;
+    private long orderCount;
+    @MinorUnits
+    private long grossAmount; // in cents
+    private long itemCount;
+    private long cancelledCount;
+    @MinorUnits
+    private long cancelledAmount; // in cents
+
+    /**
+     * Creates an empty bucket for the given restaurant and time.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param granularity  Width of the bucket
+     * @param time         Any time within the bucket
+     */
+    public RestaurantStats(String restaurantId, StatsGranularity granularity, Instant time) {
+        this.restaurantId = restaurantId;
+        this.granularity = granularity;
+        this.bucketStart = granularity.bucketStart(time);
+        this.id = idOf(restaurantId, granularity, time);
+    }
+
+    /**
+     * Builds the deterministic ID of a bucket, so upserts of the same bucket always hit the same document.
+     *
+     * @param restaurantId ID of the restaurant
+     * @param granularity  Width of the bucket
+     * @param time         Any time within the bucket
+     * @return ID of the bucket
+     */
+    public static String idOf(String restaurantId, StatsGranularity granularity, Instant time) {
+        return restaurantId + ":" + granularity + ":" + granularity.bucketStart(time);
+    }
+}
@@ -0,0 +1,65 @@
+package com.foodfetch.orderService.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * StatsGranularity is the width of a RestaurantStats bucket.
+ * Buckets are aligned in UTC, so every hour and day has the same length and daylight saving time
+ * changes of the server's zone neither merge nor split buckets.
+ * Each granularity also has the range a report covers when no range is requested.
+ */
+public enum StatsGranularity {
+    MINUTE(ChronoUnit.MINUTES, Duration.ofHours(1)),
+    HOUR(ChronoUnit.HOURS, Duration.ofDays(1)),
+    DAY(ChronoUnit.DAYS, Duration.ofDays(30));
+
+    private final ChronoUnit unit;
+    private final Duration defaultRange;
+
+    StatsGranularity(ChronoUnit unit, Duration defaultRange) {
+        this.unit = unit;
+        this.defaultRange = defaultRange;
+    }
+
+    /**
+     * Parses a granularity name, ignoring case.
+     *
+     * @param name minute, hour or day
+     * @return The granularity
+     */
+    public static StatsGranularity parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Granularity must be one of minute, hour or day");
+        }
+    }
+
+    /**
+     * Returns the start of the bucket a time falls into.
+     *
+     * @param time Time of the change
+     * @return Start of the bucket
+     */
+    public Instant bucketStart(Instant time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Counts the buckets that start in [from, to).
+     *
+     * @param from Start of the range
+     * @param to   End of the range, exclusive
+     * @return Number of buckets
+     */
+    public long bucketsBetween(Instant from, Instant to) {
+        return unit.between(bucketStart(from), bucketStart(to.minusNanos(1))) + 1;
+    }
+
+    public Duration getDefaultRange() {
+        return defaultRange;
+    }
+}
@@ -0,0 +1,23 @@
+package com.foodfetch.orderService.money;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a long field holding an amount in minor units.
+ * In JSON the amount is written and read as a decimal in major units (999 is 9.99), so API clients
+ * keep sending and receiving prices as before while the field itself stays exact.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = MinorUnitsJson.Serializer.class)
+@JsonDeserialize(using = MinorUnitsJson.Deserializer.class)
+public @interface MinorUnits {
+}
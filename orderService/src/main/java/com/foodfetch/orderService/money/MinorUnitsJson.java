@@ -0,0 +1,64 @@
+package com.foodfetch.orderService.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer and deserializer for fields annotated with {@link MinorUnits}.
+ */
+public final class MinorUnitsJson {
+
+    private MinorUnitsJson() {
+    }
+
+    /**
+     * Writes an amount in minor units as a JSON decimal number in major units.
+     */
+    public static class Serializer extends StdScalarSerializer<Long> {
+        public Serializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public void serialize(Long amountMinor, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(Money.format(amountMinor));
+        }
+    }
+
+    /**
+     * Reads a JSON decimal number (or numeric string) in major units into minor units.
+     * The number's text is parsed directly, so 19.99 becomes exactly 1999.
+     */
+    public static class Deserializer extends StdScalarDeserializer<Long> {
+        public Deserializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                    && token != JsonToken.VALUE_STRING) {
+                return (Long) ctxt.handleUnexpectedToken(Long.class, p);
+            }
+            String text = p.getText().trim();
+            try {
+                return Money.parse(text);
+            } catch (NumberFormatException e) {
+                return (Long) ctxt.handleWeirdStringValue(Long.class, text, "not an amount with at most %d decimals", Money.SCALE);
+            }
+        }
+
+        @Override
+        public Long getNullValue(DeserializationContext ctxt) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.foodfetch.orderService.money;
+
+/**
+ * Money holds the arithmetic for amounts kept as primitive longs in minor units (cents).
+ * Prices, totals and fees are exact from the order request to the payment; no floating point is involved.
+ * The arithmetic methods allocate nothing and throw ArithmeticException on overflow.
+ */
+public final class Money {
+
+    // Digits after the decimal point of an amount in major units
+    public static final int SCALE = 2;
+    public static final long MINOR_PER_MAJOR = 100;
+
+    // 100% expressed in basis points
+    public static final int BASIS_POINTS = 10_000;
+
+    private Money() {
+    }
+
+    /**
+     * Multiplies a unit price by a quantity.
+     *
+     * @param unitMinor Unit price in minor units
+     * @param quantity  Number of units
+     * @return The line total in minor units
+     */
+    public static long times(long unitMinor, int quantity) {
+        return Math.multiplyExact(unitMinor, quantity);
+    }
+
+    /**
+     * Adds two amounts.
+     *
+     * @param aMinor First amount in minor units
+     * @param bMinor Second amount in minor units
+     * @return The sum in minor units
+     */
+    public static long plus(long aMinor, long bMinor) {
+        return Math.addExact(aMinor, bMinor);
+    }
+
+    /**
+     * Computes a share of an amount, rounded half up to the nearest minor unit.
+     *
+     * @param amountMinor Amount in minor units
+     * @param basisPoints Share in basis points, e.g. 500 for 5%
+     * @return The share in minor units
+     */
+    public static long percentOf(long amountMinor, int basisPoints) {
+        return Math.floorDiv(Math.addExact(Math.multiplyExact(amountMinor, basisPoints), BASIS_POINTS / 2), BASIS_POINTS);
+    }
+
+    /**
+     * Parses a decimal amount in major units, such as "9.99" or "10", into minor units.
+     * The text is read digit by digit, so the result is exact.
+     *
+     * @param text The decimal amount
+     * @return The amount in minor units
+     * @throws NumberFormatException if the text is not a plain decimal or has non-zero digits beyond the scale
+     */
+    public static long parse(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+        if (i == length) {
+            throw invalid(text);
+        }
+
+        long minor = 0;
+        int fractionDigits = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw invalid(text);
+            }
+            if (fractionDigits >= SCALE) {
+                // Digits beyond the scale are only accepted as trailing zeros
+                if (c != '0') {
+                    throw invalid(text);
+                }
+                continue;
+            }
+            try {
+                minor = Math.addExact(Math.multiplyExact(minor, 10), c - '0');
+            } catch (ArithmeticException e) {
+                throw invalid(text);
+            }
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+
+        for (int scale = Math.max(fractionDigits, 0); scale < SCALE; scale++) {
+            try {
+                minor = Math.multiplyExact(minor, 10);
+            } catch (ArithmeticException e) {
+                throw invalid(text);
+            }
+        }
+        return negative ? -minor : minor;
+    }
+
+    /**
+     * Formats an amount as a decimal in major units, such as "9.99".
+     *
+     * @param amountMinor Amount in minor units
+     * @return The decimal amount with exactly two fraction digits
+     */
+    public static String format(long amountMinor) {
+        long abs = Math.absExact(amountMinor);
+        long fraction = abs % MINOR_PER_MAJOR;
+        return (amountMinor < 0 ? "-" : "") + abs / MINOR_PER_MAJOR + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    private static NumberFormatException invalid(CharSequence text) {
+        return new NumberFormatException("Invalid amount: " + text);
+    }
+}
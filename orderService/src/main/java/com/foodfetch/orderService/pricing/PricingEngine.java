@@ -0,0 +1,48 @@
+package com.foodfetch.orderService.pricing;
+
+import com.foodfetch.orderService.model.Restaurant;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * PricingEngine keeps the compiled PricingEvaluator of each restaurant.
+ * An evaluator is reused for as long as the restaurant lookup returns the same restaurant instance;
+ * once the RestaurantCache reloads a changed restaurant, its rules are compiled again.
+ */
+@Component
+public class PricingEngine {
+    private final ConcurrentMap<String, PricingEvaluator> evaluators = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the evaluator for a restaurant, compiling its rules if they are new or have changed.
+     *
+     * @param restaurant The restaurant
+     * @return Evaluator for the restaurant's orders
+     */
+    public PricingEvaluator evaluatorFor(Restaurant restaurant) {
+        PricingEvaluator evaluator = evaluators.get(restaurant.getId());
+        if (evaluator != null && evaluator.isCompiledFrom(restaurant)) {
+            return evaluator;
+        }
+        return evaluators.compute(restaurant.getId(), (id, current) ->
+                current != null && current.isCompiledFrom(restaurant) ? current : PricingEvaluator.compile(restaurant));
+    }
+
+    /**
+     * Drops the evaluator of a restaurant. Called when the restaurant document is saved or deleted.
+     *
+     * @param restaurantId ID of the restaurant
+     */
+    public void evict(String restaurantId) {
+        evaluators.remove(restaurantId);
+    }
+
+    /**
+     * Drops every evaluator.
+     */
+    public void evictAll() {
+        evaluators.clear();
+    }
+}
@@ -0,0 +1,108 @@
+package com.foodfetch.orderService.pricing;
+
+import com.foodfetch.orderService.model.DeliveryDetails;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.OrderItem;
+import com.foodfetch.orderService.model.PricingRules;
+import com.foodfetch.orderService.model.Restaurant;
+import com.foodfetch.orderService.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PricingEvaluator applies one restaurant's pricing rules to new orders.
+ * It is compiled once from the restaurant document: every rule is resolved to a final primitive field
+ * and the error message is built up front, so creating an order allocates nothing beyond the order itself.
+ * Instances are immutable and shared between threads.
+ */
+public final class PricingEvaluator {
+
+    // Placeholder coordinates for restaurants without a location; customers are placed next to the restaurant
+    private static final double DEFAULT_LATITUDE = 34.0522; // Example: Los Angeles
+    private static final double DEFAULT_LONGITUDE = -118.2437;
+    private static final double CUSTOMER_OFFSET = 0.01; // Nearby location
+
+    // Restaurant this evaluator was compiled from; a different instance means the restaurant changed
+    private final Restaurant source;
+
+    private final String restaurantId;
+    private final double latitude;
+    private final double longitude;
+    private final long minOrderValue;
+    private final String minOrderMessage;
+    private final long prepTimeMinutes;
+    private final long deliveryFee;
+    private final long freeDeliveryThreshold;
+    private final long discountThreshold;
+    private final int discountBasisPoints;
+
+    private PricingEvaluator(Restaurant source, PricingRules rules) {
+        this.source = source;
+        this.restaurantId = source.getId();
+        this.latitude = source.getLocation() != null ? source.getLocation().getY() : DEFAULT_LATITUDE;
+        this.longitude = source.getLocation() != null ? source.getLocation().getX() : DEFAULT_LONGITUDE;
+        this.minOrderValue = rules.getMinOrderValue();
+        this.minOrderMessage = source.getName() + " orders must be at least $" + Money.format(rules.getMinOrderValue());
+        this.prepTimeMinutes = rules.getPrepTimeMinutes();
+        this.deliveryFee = rules.getDeliveryFee();
+        this.freeDeliveryThreshold = rules.getFreeDeliveryThreshold() > 0 ? rules.getFreeDeliveryThreshold() : Long.MAX_VALUE;
+        this.discountThreshold = rules.getDiscountBasisPoints() > 0 ? rules.getDiscountThreshold() : Long.MAX_VALUE;
+        this.discountBasisPoints = rules.getDiscountBasisPoints();
+    }
+
+    /**
+     * Compiles the pricing rules of a restaurant.
+     * Restaurants without rules accept any amount and use their listed delivery time and fee.
+     *
+     * @param restaurant The restaurant
+     * @return Evaluator for the restaurant's orders
+     */
+    public static PricingEvaluator compile(Restaurant restaurant) {
+        PricingRules rules = restaurant.getPricingRules();
+        if (rules == null) {
+            rules = new PricingRules(0, restaurant.getDeliveryTime(), restaurant.getDeliveryFee(), 0, 0, 0);
+        }
+        return new PricingEvaluator(restaurant, rules);
+    }
+
+    /**
+     * Checks whether this evaluator was compiled from the given restaurant instance.
+     *
+     * @param restaurant The restaurant
+     * @return true if the evaluator is up to date for the restaurant
+     */
+    public boolean isCompiledFrom(Restaurant restaurant) {
+        return source == restaurant;
+    }
+
+    /**
+     * Validates an order amount against the rules and builds the (unsaved) order.
+     *
+     * @param amount The total amount of the order items in cents
+     * @param items  The list of items in the order
+     * @return A new OrderEntity with the restaurant's fees, discounts and delivery estimate applied
+     */
+    public OrderEntity createOrder(long amount, List<OrderItem> items) {
+        if (amount < minOrderValue) {
+            throw new IllegalArgumentException(minOrderMessage);
+        }
+
+        OrderEntity order = new OrderEntity(restaurantId, amount, items);
+        order.setRestaurantLatitude(latitude);
+        order.setRestaurantLongitude(longitude);
+        order.setCustomerLatitude(latitude + CUSTOMER_OFFSET);
+        order.setCustomerLongitude(longitude + CUSTOMER_OFFSET);
+
+        DeliveryDetails deliveryDetails = new DeliveryDetails();
+        deliveryDetails.setEstimatedDeliveryTime(LocalDateTime.now().plusMinutes(prepTimeMinutes));
+        deliveryDetails.setDeliveryFee(amount > freeDeliveryThreshold ? 0 : deliveryFee);
+        order.setDeliveryDetails(deliveryDetails);
+
+        if (amount > discountThreshold) {
+            order.setTotalAmount(amount - Money.percentOf(amount, discountBasisPoints));
+        }
+
+        return order;
+    }
+}
@@ -4,7 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest(properties = {
-    "spring.data.mongodb.uri=mongodb://localhost:27017/test"  //dummy mongo setup
+    "spring.data.mongodb.uri=mongodb://localhost:27017/test",  //dummy mongo setup
+    "mongodb.indexes.create-on-startup=false",  //no index creation against the dummy mongo
+    "pricing.legacy-backfill.enabled=false",  //no restaurant updates against the dummy mongo
+    "money.minor-units-migration.enabled=false"  //no amount conversion against the dummy mongo
 })
 public class OrderServiceApplicationTest {
 //tests that spring boot can launch
@@ -0,0 +1,124 @@
+package com.foodfetch.orderService;
+
+import com.foodfetch.orderService.Repository.OrderRepository;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.OrderItem;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the servlet stack with the reactive profile under load.
+ * The service is started twice against a MongoDB container, once per stack, and 5,000 concurrent
+ * clients each fetch an order a few times. Reports requests/sec, p99 latency and the error count.
+ * The clients run in the same JVM as the service, so its heap is not reported; compare memory per
+ * connection with the load generated from a separate process.
+ * Run with ./gradlew benchmark --tests '*ReactiveLoadBenchmark'.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+public class ReactiveLoadBenchmark {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final int CLIENTS = 5_000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    @Test
+    void compareWebStacks() throws Exception {
+        System.out.printf("%-10s %14s %10s %8s%n", "stack", "requests/sec", "p99 ms", "errors");
+        for (boolean reactive : List.of(false, true)) {
+            try (ConfigurableApplicationContext context = start(reactive)) {
+                Result result = load(context);
+                System.out.printf("%-10s %14.0f %10.1f %8d%n", reactive ? "reactive" : "servlet",
+                        result.requestsPerSecond(), result.p99Millis(), result.errors());
+                assertTrue(result.errors() < CLIENTS * REQUESTS_PER_CLIENT, "Every request failed");
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean reactive) {
+        return new SpringApplicationBuilder(orderServiceApplication.class)
+                .profiles(reactive ? new String[]{"reactive"} : new String[0])
+                .run("--server.port=0",
+                        "--spring.data.mongodb.uri=" + mongo.getReplicaSetUrl("foodfetch_reactive_load"),
+                        // The load only exercises HTTP and MongoDB; keep the broker out of it
+                        "--spring.rabbitmq.listener.simple.auto-startup=false",
+                        "--outbox.relay.interval-ms=3600000");
+    }
+
+    private static Result load(ConfigurableApplicationContext context) throws InterruptedException {
+        OrderRepository orderRepository = context.getBean(OrderRepository.class);
+        OrderEntity order = orderRepository.save(new OrderEntity("rest1", 1250,
+                List.of(new OrderItem("item1", "Big Mac", 1, 1250, ""))));
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        URI uri = URI.create("http://localhost:" + port + "/api/orders/" + order.getId());
+
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(CLIENTS);
+        CountDownLatch go = new CountDownLatch(1);
+        long start;
+        try (ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(httpExecutor)
+                     .connectTimeout(Duration.ofSeconds(30))
+                     .build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(2)).GET().build();
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long sent = System.nanoTime();
+                        try {
+                            if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[completed.getAndIncrement()] = System.nanoTime() - sent;
+                    }
+                    return null;
+                });
+            }
+            ready.await();
+            start = System.nanoTime();
+            go.countDown();
+            clients.shutdown();
+            assertTrue(clients.awaitTermination(10, TimeUnit.MINUTES), "Clients did not finish");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        double p99Millis = latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1e6;
+        return new Result(latencies.length / seconds, p99Millis, errors.get());
+    }
+
+    private record Result(double requestsPerSecond, double p99Millis, int errors) {
+    }
+}
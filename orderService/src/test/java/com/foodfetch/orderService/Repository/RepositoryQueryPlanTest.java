@@ -0,0 +1,295 @@
+package com.foodfetch.orderService.Repository;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.config.MongoIndexInitializer;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import com.foodfetch.orderService.model.MenuItem;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.OrderItem;
+import com.foodfetch.orderService.model.Restaurant;
+import com.foodfetch.orderService.model.RestaurantStats;
+import com.foodfetch.orderService.model.StatsGranularity;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every repository query against a real MongoDB with the declared indexes, captures the
+ * find commands the driver sends, and fails if explain() shows any of them as a COLLSCAN.
+ * Add new repository queries to {@link #runRepositoryQueries()} when they are introduced.
+ */
+@DataMongoTest
+@Import({MongoIndexInitializer.class, RepositoryQueryPlanTest.CommandCaptureConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+public class RepositoryQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    // find commands sent by the driver while the repository queries run
+    private static final List<BsonDocument> findCommands = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CommandCaptureConfig {
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCapture() {
+            return builder -> builder.addCommandListener(new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    if ("find".equals(event.getCommandName())) {
+                        findCommands.add(event.getCommand().clone());
+                    }
+                }
+            });
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoIndexInitializer indexInitializer;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    private RestaurantStatsRepository restaurantStatsRepository;
+
+    @BeforeEach
+    void setup() {
+        indexInitializer.ensureIndexes();
+
+        Restaurant restaurant = new Restaurant();
+        restaurant.setName("McDonald's");
+        restaurantRepository.save(restaurant);
+
+        MenuItem menuItem = new MenuItem();
+        menuItem.setRestaurantId(restaurant.getId());
+        menuItemRepository.save(menuItem);
+
+        orderRepository.save(new OrderEntity(restaurant.getId(), 1250,
+                List.of(new OrderItem("item1", "Big Mac", 1, 1250, ""))));
+
+        findCommands.clear();
+    }
+
+    @Test
+    void testRepositoryQueriesUseIndexes() {
+        runRepositoryQueries();
+
+        assertFalse(findCommands.isEmpty(), "No find commands were captured");
+        List<String> collectionScans = new ArrayList<>();
+        for (BsonDocument command : findCommands) {
+            if (isFullRead(command)) {
+                continue;
+            }
+            Document plan = explain(command);
+            if (containsStage(plan, "COLLSCAN")) {
+                collectionScans.add(command.getString("find").getValue() + " " + command.getDocument("filter", new BsonDocument()).toJson()
+                        + " sort " + command.getDocument("sort", new BsonDocument()).toJson());
+            }
+        }
+
+        assertTrue(collectionScans.isEmpty(), "Queries falling back to COLLSCAN: " + collectionScans);
+    }
+
+    @Test
+    void testArchivedOrdersStayReadable() {
+        OrderEntity delivered = new OrderEntity("rest1", 900, List.of(new OrderItem("item1", "Fries", 1, 900, "")));
+        delivered.setStatus(OrderStatus.DELIVERED);
+        delivered.setCreatedAt(LocalDateTime.now().minusDays(40));
+        delivered.setUpdatedAt(LocalDateTime.now().minusDays(40));
+        delivered = orderRepository.save(delivered);
+
+        assertEquals(1, orderRepository.archiveOrders(List.of(OrderStatus.DELIVERED), LocalDateTime.now().minusDays(30), 10));
+
+        assertTrue(orderRepository.findById(delivered.getId()).isEmpty());
+        assertEquals(900, orderRepository.findArchivedById(delivered.getId()).orElseThrow().getTotalAmount());
+
+        // The history holds the active order from setup followed by the archived one
+        List<OrderSummaryDTO> history = orderRepository.findHistoryPage(null, null, null, 10, OrderSummaryDTO.class);
+        assertEquals(delivered.getId(), history.get(history.size() - 1).getId());
+        assertEquals(orderRepository.count() + mongoTemplate.getCollection(OrderEntity.ARCHIVE_COLLECTION).countDocuments(),
+                history.size());
+    }
+
+    @Test
+    void testNearbyRestaurantsNearestFirst() {
+        Restaurant near = geoRestaurant("Near", 34.0530, -118.2440, true);
+        Restaurant far = geoRestaurant("Far", 34.0900, -118.2437, true);
+        geoRestaurant("Closed", 34.0525, -118.2437, false);
+        geoRestaurant("Out of range", 34.5000, -118.2437, true);
+
+        GeoResults<Restaurant> results = restaurantRepository.findNearby(34.0522, -118.2437, 10, true, PageRequest.of(0, 20));
+
+        assertEquals(List.of(near.getId(), far.getId()),
+                results.getContent().stream().map(result -> result.getContent().getId()).toList());
+        assertTrue(results.getContent().get(1).getDistance().getValue() > 4);
+        assertEquals(List.of(far.getId()),
+                restaurantRepository.findNearby(34.0522, -118.2437, 10, true, PageRequest.of(1, 1)).getContent().stream()
+                        .map(result -> result.getContent().getId()).toList());
+    }
+
+    @Test
+    void testRestaurantStatsMinuteBucketsAreRecomputedFromOrders() {
+        Instant time = Instant.parse("2024-05-01T12:30:15Z");
+        OrderEntity cancelled = new OrderEntity("rest2", 1250, List.of(new OrderItem("item1", "Fries", 2, 625, "")));
+        cancelled.setStatus(OrderStatus.CANCELLED);
+        cancelled.setCreatedAt(LocalDateTime.ofInstant(time, ZoneId.systemDefault()));
+        cancelled.setUpdatedAt(LocalDateTime.ofInstant(time.plusSeconds(3_600), ZoneId.systemDefault()));
+        orderRepository.save(cancelled);
+        restaurantStatsRepository.increment(List.of(new RestaurantStats("rest2", StatsGranularity.DAY, time)));
+
+        List<RestaurantStats> minutes = restaurantStatsRepository.aggregateMinuteBuckets(
+                Instant.parse("2024-05-01T00:00:00Z"), Instant.parse("2024-05-02T00:00:00Z"));
+        assertEquals(2, minutes.size());
+        RestaurantStats placed = minutes.stream().filter(bucket -> bucket.getOrderCount() == 1).findFirst().orElseThrow();
+        assertEquals(Instant.parse("2024-05-01T12:30:00Z"), placed.getBucketStart());
+        assertEquals(1250, placed.getGrossAmount());
+        assertEquals(2, placed.getItemCount());
+
+        restaurantStatsRepository.replaceBuckets(Instant.parse("2024-05-01T00:00:00Z"), Instant.parse("2024-05-02T00:00:00Z"),
+                List.of(placed));
+        assertEquals(List.of(placed.getId()), restaurantStatsRepository.findAll().stream()
+                .filter(bucket -> bucket.getRestaurantId().equals("rest2")).map(RestaurantStats::getId).toList());
+    }
+
+    @Test
+    void testRestaurantStatsIncrementsAddUp() {
+        Instant time = Instant.parse("2024-05-01T12:30:15Z");
+        RestaurantStats placed = new RestaurantStats("rest1", StatsGranularity.HOUR, time);
+        placed.setOrderCount(1);
+        placed.setGrossAmount(1250);
+        placed.setItemCount(2);
+        RestaurantStats cancelled = new RestaurantStats("rest1", StatsGranularity.HOUR, time.plusSeconds(600));
+        cancelled.setCancelledCount(1);
+        cancelled.setCancelledAmount(1250);
+
+        restaurantStatsRepository.increment(List.of(placed));
+        restaurantStatsRepository.increment(List.of(placed, cancelled));
+
+        List<RestaurantStats> buckets = restaurantStatsRepository.findBuckets("rest1", StatsGranularity.HOUR,
+                time.minusSeconds(3_600), time.plusSeconds(3_600));
+        assertEquals(1, buckets.size());
+        RestaurantStats bucket = buckets.get(0);
+        assertEquals(Instant.parse("2024-05-01T12:00:00Z"), bucket.getBucketStart());
+        assertEquals(2, bucket.getOrderCount());
+        assertEquals(2500, bucket.getGrossAmount());
+        assertEquals(4, bucket.getItemCount());
+        assertEquals(1, bucket.getCancelledCount());
+        assertEquals(1250, bucket.getCancelledAmount());
+    }
+
+    // Each repository query with representative arguments
+    private void runRepositoryQueries() {
+        List<OrderStatus> terminal = List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+        orderRepository.findByStatusNotIn(terminal);
+        orderRepository.findByStatusNotIn(terminal, OrderSummaryDTO.class);
+        orderRepository.findAllBy(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")), OrderSummaryDTO.class);
+        try (Stream<OrderEntity> orders = orderRepository.streamByStatusNotIn(terminal, OrderEntity.class)) {
+            orders.forEach(order -> { });
+        }
+        orderRepository.findAllByOrderByCreatedAtDescIdDesc(Limit.of(10));
+        orderRepository.findAllByOrderByCreatedAtDescIdDesc(Limit.of(10), OrderSummaryDTO.class);
+        orderRepository.findPageBefore(LocalDateTime.now(), new ObjectId(), Limit.of(10));
+        orderRepository.findSummaryPageBefore(LocalDateTime.now(), new ObjectId(), Limit.of(10));
+        orderRepository.transitionStatuses(List.of(new ObjectId().toHexString()), List.of(OrderStatus.CREATED), OrderStatus.CONFIRMED);
+        orderRepository.archiveOrders(terminal, LocalDateTime.now().minusDays(30), 10);
+        orderRepository.findArchivedById(new ObjectId().toHexString());
+        orderRepository.findByCustomerIdOrderByCreatedAtDescIdDesc("customer1", Limit.of(10), OrderSummaryDTO.class);
+        orderRepository.findCustomerSummaryPageBefore("customer1", LocalDateTime.now(), new ObjectId(), Limit.of(10));
+
+        menuItemRepository.findByRestaurantId("rest1");
+        restaurantRepository.findFirstByName("McDonald's");
+        restaurantRepository.findNearby(34.0522, -118.2437, 5, true, PageRequest.of(0, 20));
+        outboxRepository.findByOrderByIdAsc(PageRequest.of(0, 10));
+        idempotencyRepository.findById("key-1");
+        restaurantStatsRepository.findBuckets("rest1", StatsGranularity.HOUR, Instant.now().minusSeconds(86_400), Instant.now());
+    }
+
+    private Restaurant geoRestaurant(String name, double latitude, double longitude, boolean open) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setName(name);
+        restaurant.setLocation(new GeoJsonPoint(longitude, latitude));
+        restaurant.setOpen(open);
+        return restaurantRepository.save(restaurant);
+    }
+
+    // Unfiltered, unsorted reads such as findAll() scan by design
+    private static boolean isFullRead(BsonDocument command) {
+        return command.getDocument("filter", new BsonDocument()).isEmpty()
+                && command.getDocument("sort", new BsonDocument()).isEmpty();
+    }
+
+    private Document explain(BsonDocument command) {
+        BsonDocument find = new BsonDocument();
+        for (String key : command.keySet()) {
+            // Drop session and routing fields the driver adds to the wire command
+            if (!key.startsWith("$") && !key.equals("lsid") && !key.equals("txnNumber")) {
+                find.put(key, command.get(key));
+            }
+        }
+        BsonDocument explain = new BsonDocument("explain", find).append("verbosity", new BsonString("queryPlanner"));
+        Document result = mongoTemplate.getDb().runCommand(explain);
+        return result.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+    }
+
+    private static boolean containsStage(Object node, String stage) {
+        if (node instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
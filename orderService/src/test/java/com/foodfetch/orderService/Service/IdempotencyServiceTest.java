@@ -0,0 +1,132 @@
+package com.foodfetch.orderService.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodfetch.orderService.Repository.IdempotencyRepository;
+import com.foodfetch.orderService.dto.OrderRequestDTO;
+import com.foodfetch.orderService.exception.IdempotencyConflictException;
+import com.foodfetch.orderService.model.IdempotencyRecord;
+import com.foodfetch.orderService.model.OrderEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    private IdempotencyService idempotencyService;
+    private OrderRequestDTO request;
+    private OrderEntity mockOrder;
+    private AtomicInteger calls;
+    private Supplier<OrderEntity> action;
+
+    @BeforeEach
+    void setup() {
+        idempotencyService = new IdempotencyService(idempotencyRepository, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), Optional.empty(), Duration.ofHours(24), Duration.ofMinutes(1), 100, Duration.ofMinutes(10));
+
+        request = new OrderRequestDTO();
+        request.setRestaurantName("Pizza Place");
+
+        mockOrder = new OrderEntity();
+        mockOrder.setId("order123");
+
+        calls = new AtomicInteger();
+        action = () -> {
+            calls.incrementAndGet();
+            return mockOrder;
+        };
+    }
+
+    @Test
+    void testExecute_RetryReplaysStoredResponse() {
+        when(idempotencyRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        assertEquals("order123", idempotencyService.execute("key-1", request, action).getId());
+        assertEquals("order123", idempotencyService.execute("key-1", request, action).getId());
+
+        assertEquals(1, calls.get());
+        verify(idempotencyRepository, times(1)).insert(any(IdempotencyRecord.class));
+        verify(idempotencyRepository, times(1)).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void testExecute_ReplaysReturnCopies() {
+        when(idempotencyRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        OrderEntity first = idempotencyService.execute("key-1", request, action);
+        OrderEntity replay = idempotencyService.execute("key-1", request, action);
+        replay.setCustomerId("changed");
+
+        assertNotSame(first, replay);
+        assertNull(idempotencyService.execute("key-1", request, action).getCustomerId());
+    }
+
+    @Test
+    void testExecute_CompletesKeyInActionTransaction() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        idempotencyService = new IdempotencyService(idempotencyRepository, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), Optional.of(transactionManager), Duration.ofHours(24),
+                Duration.ofMinutes(1), 100, Duration.ofMinutes(10));
+        when(idempotencyRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        idempotencyService.execute("key-1", request, action);
+
+        InOrder inOrder = inOrder(transactionManager, idempotencyRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(idempotencyRepository).save(any(IdempotencyRecord.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testExecute_DifferentRequestWithSameKeyIsRejected() {
+        when(idempotencyRepository.findById("key-1")).thenReturn(Optional.empty());
+        idempotencyService.execute("key-1", request, action);
+
+        OrderRequestDTO other = new OrderRequestDTO();
+        other.setRestaurantName("Burger Place");
+
+        assertThrows(IdempotencyConflictException.class, () -> idempotencyService.execute("key-1", other, action));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testExecute_InProgressKeyIsRejected() {
+        IdempotencyRecord pending = new IdempotencyRecord("key-1", "hash", false, null,
+                LocalDateTime.now(), LocalDateTime.now().plusMinutes(1));
+        when(idempotencyRepository.findById("key-1")).thenReturn(Optional.empty()).thenReturn(Optional.of(pending));
+        when(idempotencyRepository.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("duplicate"));
+
+        assertThrows(IdempotencyConflictException.class, () -> idempotencyService.execute("key-1", request, action));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testExecute_FailureReleasesKey() {
+        when(idempotencyRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute("key-1", request, () -> {
+            throw new IllegalArgumentException("Restaurant not found");
+        }));
+
+        verify(idempotencyRepository).deleteById("key-1");
+        verify(idempotencyRepository, never()).save(any(IdempotencyRecord.class));
+    }
+}
@@ -0,0 +1,56 @@
+package com.foodfetch.orderService.Service;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.Repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class OrderArchiverTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderArchiver orderArchiver;
+
+    @BeforeEach
+    void setup() {
+        orderArchiver = new OrderArchiver(orderRepository, Duration.ofDays(30), 2);
+    }
+
+    @Test
+    void testArchive_MovesBatchesUntilLessThanFull() {
+        when(orderRepository.archiveOrders(any(), any(), anyInt())).thenReturn(2, 2, 1);
+
+        assertEquals(5, orderArchiver.archive());
+
+        verify(orderRepository, times(3)).archiveOrders(
+                eq(List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED)), any(), eq(2));
+    }
+
+    @Test
+    void testArchive_OnlyOrdersOlderThanAge() {
+        when(orderRepository.archiveOrders(any(), any(), anyInt())).thenReturn(0);
+
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+        assertEquals(0, orderArchiver.archive());
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(orderRepository).archiveOrders(any(), cutoff.capture(), anyInt());
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusDays(29)));
+    }
+}
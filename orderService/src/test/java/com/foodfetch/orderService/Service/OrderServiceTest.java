@@ -1,28 +1,39 @@
 package com.foodfetch.orderService.Service;
 
-import com.foodfetch.orderService.Factory.FactoryRegistry;
-import com.foodfetch.orderService.Factory.OrderFactory;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.cache.CustomerOrdersCache;
+import com.foodfetch.orderService.cache.OrderSnapshotCache;
+import com.foodfetch.orderService.cache.RestaurantCache;
+import com.foodfetch.orderService.dto.BatchOrderResultDTO;
+import com.foodfetch.orderService.dto.CursorPageDTO;
+import com.foodfetch.orderService.dto.OrderRequestDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
 import com.foodfetch.orderService.Repository.OrderRepository;
-import com.foodfetch.orderService.Repository.RestaurantRepository;
 import com.foodfetch.orderService.exception.OrderNotFoundException;
 import com.foodfetch.orderService.exception.ResourceNotFoundException;
 import com.foodfetch.orderService.messaging.RabbitMQOrderSender;
 import com.foodfetch.orderService.model.OrderEntity;
 import com.foodfetch.orderService.model.OrderItem;
-import com.foodfetch.orderService.model.OrderStatus;
+import com.foodfetch.orderService.model.PricingRules;
 import com.foodfetch.orderService.model.Restaurant;
+import com.foodfetch.orderService.pricing.PricingEngine;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,20 +44,26 @@ public class OrderServiceTest {
     @InjectMocks
     private OrderService orderService;
 
-    @Mock
-    private FactoryRegistry factoryRegistry;
+    @Spy
+    private PricingEngine pricingEngine = new PricingEngine();
 
     @Mock
-    private RestaurantRepository restaurantRepository;
+    private RestaurantCache restaurantCache;
 
     @Mock
     private OrderRepository orderRepository;
 
     @Mock
-    private RabbitMQOrderSender messageSender;
+    private OrderSnapshotCache orderSnapshotCache;
+
+    @Mock
+    private CustomerOrdersCache customerOrdersCache;
 
     @Mock
-    private OrderFactory orderFactory;
+    private RestaurantStatsService restaurantStatsService;
+
+    @Mock
+    private RabbitMQOrderSender messageSender;
 
     private Restaurant mockRestaurant;
     private OrderEntity mockOrder;
@@ -59,7 +76,7 @@ public class OrderServiceTest {
         mockRestaurant.setName("Pizza Place");
 
         mockItems = List.of(
-            new OrderItem("item1", "Pizza", 2, 9.99, "")
+            new OrderItem("item1", "Pizza", 2, 999, "")
         );
 
         mockOrder = new OrderEntity();
@@ -71,27 +88,109 @@ public class OrderServiceTest {
 
     @Test
     void testCreateOrder_Success() {
-        when(restaurantRepository.findFirstByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
-        when(factoryRegistry.getFactory("Pizza Place")).thenReturn(orderFactory);
-        when(orderFactory.createOrder("rest1", 19.98, mockItems)).thenReturn(mockOrder);
-        when(orderRepository.save(mockOrder)).thenReturn(mockOrder);
+        when(restaurantCache.findByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+        when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> {
+            OrderEntity order = invocation.getArgument(0);
+            order.setId("order123");
+            return order;
+        });
 
-        OrderEntity result = orderService.createOrder("Pizza Place", mockItems);
+        OrderEntity result = orderService.createOrder("customer1", "Pizza Place", mockItems);
 
         assertNotNull(result);
         assertEquals("order123", result.getId());
-        verify(messageSender).sendOrderStatusChangeEvent(mockOrder);
-        verify(messageSender).sendNotificationEvent(mockOrder);
-        verify(messageSender).sendPaymentProcessingEvent(mockOrder);
+        assertEquals("rest1", result.getRestaurantId());
+        assertEquals("customer1", result.getCustomerId());
+        assertEquals(1998, result.getTotalAmount());
+        verify(restaurantStatsService).recordPlaced(List.of(result));
+        verify(customerOrdersCache).evictAfterCommit("customer1");
+        verify(messageSender).sendOrderStatusChangeEvent(result);
+        verifyNoMoreInteractions(messageSender);
+    }
+
+    @Test
+    void testCreateOrder_AppliesRestaurantPricingRules() {
+        mockRestaurant.setPricingRules(new PricingRules(5000, 10, 0, 0, 0, 0));
+        when(restaurantCache.findByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> orderService.createOrder("customer1", "Pizza Place", mockItems));
+
+        assertEquals("Pizza Place orders must be at least $50.00", e.getMessage());
+        verify(orderRepository, never()).save(any());
     }
 
     @Test
     void testCreateOrder_ThrowsIfRestaurantMissing() {
-        when(restaurantRepository.findFirstByName("Missing")).thenReturn(Optional.empty());
+        when(restaurantCache.findByName("Missing")).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
-            orderService.createOrder("Missing", mockItems);
+            orderService.createOrder("customer1", "Missing", mockItems);
+        });
+    }
+
+    @Test
+    void testCreateOrders_ReportsPerOrderResults() {
+        OrderRequestDTO valid = new OrderRequestDTO("Pizza Place", mockItems, null, null, "customer1");
+        OrderRequestDTO secondValid = new OrderRequestDTO("Pizza Place", mockItems, null, null, "customer1");
+        OrderRequestDTO missing = new OrderRequestDTO("Missing", mockItems, null, null, "customer1");
+        when(restaurantCache.findByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+        when(restaurantCache.findByName("Missing")).thenReturn(Optional.empty());
+        when(orderRepository.insert(anyList())).thenAnswer(invocation -> {
+            List<OrderEntity> orders = invocation.getArgument(0);
+            for (int i = 0; i < orders.size(); i++) {
+                orders.get(i).setId("order" + i);
+            }
+            return orders;
         });
+
+        List<BatchOrderResultDTO> results = orderService.createOrders(List.of(valid, missing, secondValid));
+
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("Restaurant not found: Missing", results.get(1).getError());
+        assertEquals("order1", results.get(2).getOrder().getId());
+        verify(restaurantCache, times(1)).findByName("Pizza Place");
+        verify(pricingEngine, times(2)).evaluatorFor(mockRestaurant);
+        verify(messageSender).sendOrderStatusChangeEvents(List.of(results.get(0).getOrder(), results.get(2).getOrder()));
+        verify(restaurantStatsService).recordPlaced(List.of(results.get(0).getOrder(), results.get(2).getOrder()));
+    }
+
+    @Test
+    void testCreateOrders_ReportsInvalidElementsPerOrder() {
+        OrderRequestDTO valid = new OrderRequestDTO("Pizza Place", mockItems, null, null, "customer1");
+        OrderRequestDTO nullItem = new OrderRequestDTO("Pizza Place", Arrays.asList((OrderItem) null), null, null, "customer1");
+        OrderRequestDTO zeroQuantity = new OrderRequestDTO("Pizza Place",
+                List.of(new OrderItem("item1", "Pizza", 0, 999, "")), null, null, "customer1");
+        when(restaurantCache.findByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+        when(orderRepository.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BatchOrderResultDTO> results = orderService.createOrders(Arrays.asList(valid, null, nullItem, zeroQuantity));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("Order cannot be null", results.get(1).getError());
+        assertEquals("Order item 0 cannot be null", results.get(2).getError());
+        assertEquals("Order item 0 must have a positive quantity", results.get(3).getError());
+        verify(orderRepository).insert(List.of(results.get(0).getOrder()));
+    }
+
+    @Test
+    void testCreateOrders_ReportsUnexpectedErrorPerOrder() {
+        OrderRequestDTO valid = new OrderRequestDTO("Pizza Place", mockItems, null, null, "customer1");
+        OrderRequestDTO broken = new OrderRequestDTO("Broken Place", mockItems, null, null, "customer1");
+        when(restaurantCache.findByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+        when(restaurantCache.findByName("Broken Place")).thenThrow(new IllegalStateException("boom"));
+        when(orderRepository.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BatchOrderResultDTO> results = orderService.createOrders(List.of(broken, valid));
+
+        assertEquals("Failed to create order: boom", results.get(0).getError());
+        assertTrue(results.get(1).isSuccess());
+    }
+
+    @Test
+    void testCreateOrders_RejectsEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrders(List.of()));
     }
 
     @Test
@@ -110,6 +209,28 @@ public class OrderServiceTest {
         assertThrows(OrderNotFoundException.class, () -> {
             orderService.getOrderById("unknown");
         });
+        verify(orderRepository).findArchivedById("unknown");
+    }
+
+    @Test
+    void testGetOrderById_FallsThroughToArchive() {
+        mockOrder.setStatus(OrderStatus.DELIVERED);
+        when(orderRepository.findById("order123")).thenReturn(Optional.empty());
+        when(orderRepository.findArchivedById("order123")).thenReturn(Optional.of(mockOrder));
+
+        OrderEntity result = orderService.getOrderById("order123");
+
+        assertEquals("order123", result.getId());
+        assertEquals(OrderStatus.DELIVERED, result.getStatus());
+    }
+
+    @Test
+    void testGetOrderById_SkipsArchiveForActiveOrder() {
+        when(orderRepository.findById("order123")).thenReturn(Optional.of(mockOrder));
+
+        orderService.getOrderById("order123");
+
+        verify(orderRepository, never()).findArchivedById(any());
     }
 
     @Test
@@ -122,6 +243,127 @@ public class OrderServiceTest {
         assertEquals(1, result.getTotalElements());
     }
 
+    @Test
+    void testGetOrdersByCursor_FirstPageHasNextCursor() {
+        OrderEntity second = new OrderEntity();
+        second.setId(new ObjectId().toHexString());
+        second.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+        OrderEntity third = new OrderEntity();
+        third.setId(new ObjectId().toHexString());
+        third.setCreatedAt(LocalDateTime.of(2025, 1, 1, 11, 0));
+        mockOrder.setId(new ObjectId().toHexString());
+        when(orderRepository.findAllByOrderByCreatedAtDescIdDesc(Limit.of(3)))
+                .thenReturn(List.of(mockOrder, second, third));
+
+        CursorPageDTO<OrderEntity> page = orderService.getOrdersByCursor(null, 2);
+
+        assertEquals(2, page.getContent().size());
+        OrderCursor cursor = OrderCursor.decode(page.getNextCursor());
+        assertEquals(second.getCreatedAt(), cursor.getCreatedAt());
+        assertEquals(second.getId(), cursor.getId().toHexString());
+    }
+
+    @Test
+    void testGetOrdersByCursor_LastPage() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2025, 1, 1, 12, 0), new ObjectId());
+        when(orderRepository.findPageBefore(cursor.getCreatedAt(), cursor.getId(), Limit.of(3)))
+                .thenReturn(List.of(mockOrder));
+
+        CursorPageDTO<OrderEntity> page = orderService.getOrdersByCursor(cursor.encode(), 2);
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetOrderHistoryByCursor_ReadsBothCollectionsFromCursor() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2025, 1, 1, 12, 0), new ObjectId());
+        OrderEntity archived = new OrderEntity();
+        archived.setId(new ObjectId().toHexString());
+        archived.setCreatedAt(LocalDateTime.of(2024, 6, 1, 12, 0));
+        mockOrder.setId(new ObjectId().toHexString());
+        mockOrder.setCreatedAt(LocalDateTime.of(2024, 12, 1, 12, 0));
+        when(orderRepository.findHistoryPage(null, cursor.getCreatedAt(), cursor.getId(), 2, OrderEntity.class))
+                .thenReturn(List.of(mockOrder, archived));
+
+        CursorPageDTO<OrderEntity> page = orderService.getOrderHistoryByCursor(cursor.encode(), 1);
+
+        assertEquals(List.of(mockOrder), page.getContent());
+        assertEquals(mockOrder.getCreatedAt(), OrderCursor.decode(page.getNextCursor()).getCreatedAt());
+    }
+
+    @Test
+    void testGetOrderHistorySummariesByCursor_FirstPage() {
+        OrderSummaryDTO summary = new OrderSummaryDTO();
+        summary.setId(new ObjectId().toHexString());
+        when(orderRepository.findHistoryPage(null, null, null, 11, OrderSummaryDTO.class)).thenReturn(List.of(summary));
+
+        CursorPageDTO<OrderSummaryDTO> page = orderService.getOrderHistorySummariesByCursor(null, 10);
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetCustomerOrders_FirstPageFromCache() {
+        OrderSummaryDTO summary = new OrderSummaryDTO();
+        summary.setId(new ObjectId().toHexString());
+        summary.setCreatedAt(LocalDateTime.now());
+        when(customerOrdersCache.getPageSize()).thenReturn(10);
+        when(customerOrdersCache.getRecentPage(eq("customer1"), any()))
+                .thenAnswer(invocation -> ((Supplier<CursorPageDTO<OrderSummaryDTO>>) invocation.getArgument(1)).get());
+        when(orderRepository.findByCustomerIdOrderByCreatedAtDescIdDesc("customer1", Limit.of(11), OrderSummaryDTO.class))
+                .thenReturn(List.of(summary));
+
+        CursorPageDTO<OrderSummaryDTO> page = orderService.getCustomerOrders("customer1", null, 10, false);
+
+        assertEquals(List.of(summary), page.getContent());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetCustomerOrders_OtherPageSizeBypassesCache() {
+        when(customerOrdersCache.getPageSize()).thenReturn(10);
+        when(orderRepository.findByCustomerIdOrderByCreatedAtDescIdDesc("customer1", Limit.of(6), OrderSummaryDTO.class))
+                .thenReturn(List.of());
+
+        orderService.getCustomerOrders("customer1", null, 5, false);
+
+        verify(customerOrdersCache, never()).getRecentPage(any(), any());
+    }
+
+    @Test
+    void testGetCustomerOrders_NextPageReadsFromCursor() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2025, 1, 1, 12, 0), new ObjectId());
+        when(orderRepository.findCustomerSummaryPageBefore("customer1", cursor.getCreatedAt(), cursor.getId(), Limit.of(11)))
+                .thenReturn(List.of());
+
+        CursorPageDTO<OrderSummaryDTO> page = orderService.getCustomerOrders("customer1", cursor.encode(), 10, false);
+
+        assertTrue(page.getContent().isEmpty());
+        verifyNoInteractions(customerOrdersCache);
+    }
+
+    @Test
+    void testGetCustomerOrders_IncludingArchived() {
+        when(orderRepository.findHistoryPage("customer1", null, null, 11, OrderSummaryDTO.class)).thenReturn(List.of());
+
+        orderService.getCustomerOrders("customer1", null, 10, true);
+
+        verifyNoInteractions(customerOrdersCache);
+    }
+
+    @Test
+    void testGetCustomerOrders_EmptyCustomerId() {
+        assertThrows(IllegalArgumentException.class, () -> orderService.getCustomerOrders(" ", null, 10, false));
+    }
+
+    @Test
+    void testGetOrdersByCursor_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> orderService.getOrdersByCursor("not-a-cursor", 10));
+    }
+
     @Test
     void testGetActiveOrders() {
         when(orderRepository.findByStatusNotIn(anyList())).thenReturn(List.of(mockOrder));
@@ -131,37 +373,146 @@ public class OrderServiceTest {
         assertEquals(1, activeOrders.size());
     }
 
+    @Test
+    void testGetActiveOrderSummaries() {
+        OrderSummaryDTO summary = new OrderSummaryDTO();
+        summary.setId("order123");
+        when(orderRepository.findByStatusNotIn(anyList(), eq(OrderSummaryDTO.class))).thenReturn(List.of(summary));
+
+        List<OrderSummaryDTO> activeOrders = orderService.getActiveOrderSummaries();
+
+        assertEquals("order123", activeOrders.get(0).getId());
+    }
+
     @Test
     void testUpdateOrderStatus_ValidTransition() {
-        when(orderRepository.findById("order123")).thenReturn(Optional.of(mockOrder));
-        when(orderRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        OrderEntity confirmed = new OrderEntity();
+        confirmed.setId("order123");
+        confirmed.setStatus(OrderStatus.CONFIRMED);
+        when(orderRepository.transitionStatus(eq("order123"), any(), eq(OrderStatus.CONFIRMED)))
+                .thenReturn(Optional.of(confirmed));
 
         OrderEntity updated = orderService.updateOrderStatus("order123", OrderStatus.CONFIRMED);
 
         assertEquals(OrderStatus.CONFIRMED, updated.getStatus());
-        verify(messageSender).sendOrderStatusChangeEvent(any());
-        verify(messageSender).sendNotificationEvent(any());
+        verify(orderRepository, never()).save(any());
+        // One event for the tracking, notification and payment services
+        verify(messageSender).sendOrderStatusChangeEvent(confirmed);
+        verifyNoMoreInteractions(messageSender);
+        // The placeholder locations go into the event only, not into the persisted and cached order
+        assertEquals(0.0, confirmed.getRestaurantLatitude());
     }
 
     @Test
     void testUpdateOrderStatus_InvalidTransition() {
         mockOrder.setStatus(OrderStatus.DELIVERED);
+        when(orderRepository.transitionStatus(eq("order123"), any(), eq(OrderStatus.CANCELLED)))
+                .thenReturn(Optional.empty());
         when(orderRepository.findById("order123")).thenReturn(Optional.of(mockOrder));
 
         assertThrows(IllegalStateException.class, () ->
             orderService.updateOrderStatus("order123", OrderStatus.CANCELLED));
+        verify(messageSender, never()).sendOrderStatusChangeEvent(any());
+    }
+
+    @Test
+    void testUpdateOrderStatus_OnlyFromEarlierActiveStatuses() {
+        when(orderRepository.transitionStatus(eq("order123"), any(), eq(OrderStatus.PREPARING)))
+                .thenReturn(Optional.of(mockOrder));
+
+        orderService.updateOrderStatus("order123", OrderStatus.PREPARING);
+
+        verify(orderRepository).transitionStatus("order123",
+                EnumSet.of(OrderStatus.CREATED, OrderStatus.CONFIRMED, OrderStatus.PREPARING), OrderStatus.PREPARING);
+    }
+
+    @Test
+    void testUpdateOrderStatus_NotFound() {
+        when(orderRepository.transitionStatus(eq("missing"), any(), eq(OrderStatus.CONFIRMED)))
+                .thenReturn(Optional.empty());
+        when(orderRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(OrderNotFoundException.class, () ->
+            orderService.updateOrderStatus("missing", OrderStatus.CONFIRMED));
     }
 
     @Test
     void testCancelOrder_Successful() {
-        mockOrder.setStatus(OrderStatus.CONFIRMED);
-        when(orderRepository.findById("order123")).thenReturn(Optional.of(mockOrder));
-        when(orderRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        OrderEntity cancelledOrder = new OrderEntity();
+        cancelledOrder.setId("order123");
+        cancelledOrder.setCustomerId("customer1");
+        cancelledOrder.setStatus(OrderStatus.CANCELLED);
+        when(orderRepository.transitionStatus(eq("order123"), any(), eq(OrderStatus.CANCELLED)))
+                .thenReturn(Optional.of(cancelledOrder));
 
         OrderEntity cancelled = orderService.cancelOrder("order123");
 
         assertEquals(OrderStatus.CANCELLED, cancelled.getStatus());
+        verify(restaurantStatsService).recordCancelled(cancelled);
+        verify(customerOrdersCache).evictAfterCommit("customer1");
         verify(messageSender).sendOrderStatusChangeEvent(cancelled);
-        verify(messageSender).sendNotificationEvent(cancelled);
+        verifyNoMoreInteractions(messageSender);
+    }
+
+    @Test
+    void testCancelOrder_AlreadyCancelledIsNoOp() {
+        mockOrder.setStatus(OrderStatus.CANCELLED);
+        when(orderRepository.transitionStatus(eq("order123"), any(), eq(OrderStatus.CANCELLED)))
+                .thenReturn(Optional.empty());
+        when(orderRepository.findById("order123")).thenReturn(Optional.of(mockOrder));
+
+        OrderEntity cancelled = orderService.cancelOrder("order123");
+
+        assertSame(mockOrder, cancelled);
+        verify(orderRepository).transitionStatus(eq("order123"),
+                argThat(statuses -> !statuses.contains(OrderStatus.CANCELLED)), eq(OrderStatus.CANCELLED));
+        verifyNoInteractions(restaurantStatsService, messageSender);
+    }
+
+    @Test
+    void testCancelOrder_AlreadyDelivered() {
+        mockOrder.setStatus(OrderStatus.DELIVERED);
+        when(orderRepository.transitionStatus(eq("order123"), any(), eq(OrderStatus.CANCELLED)))
+                .thenReturn(Optional.empty());
+        when(orderRepository.findById("order123")).thenReturn(Optional.of(mockOrder));
+
+        assertThrows(IllegalStateException.class, () -> orderService.cancelOrder("order123"));
+        verifyNoInteractions(restaurantStatsService);
+    }
+
+    @Test
+    void testCompleteOrder_SkipsFinishedOrders() {
+        when(orderRepository.transitionStatus(eq("order123"), any(), eq(OrderStatus.DELIVERED)))
+                .thenReturn(Optional.empty());
+
+        orderService.completeOrder("order123");
+
+        verify(messageSender, never()).sendOrderStatusChangeEvent(any());
+    }
+
+    @Test
+    void testConfirmOrders_PublishesEventsForUpdatedOrders() {
+        OrderEntity confirmed = new OrderEntity();
+        confirmed.setId("order123");
+        confirmed.setStatus(OrderStatus.CONFIRMED);
+        when(orderRepository.transitionStatuses(List.of("order123", "order456"),
+                EnumSet.of(OrderStatus.CREATED, OrderStatus.CONFIRMED), OrderStatus.CONFIRMED))
+                .thenReturn(List.of(confirmed));
+
+        List<OrderEntity> result = orderService.confirmOrders(List.of("order123", "order456"));
+
+        assertEquals(1, result.size());
+        assertEquals(0.0, confirmed.getRestaurantLatitude());
+        verify(messageSender).sendOrderStatusChangeEvents(List.of(confirmed));
+    }
+
+    @Test
+    void testUpdateOrderStatus_UpdatesSnapshot() {
+        when(orderRepository.transitionStatus(eq("order123"), any(), eq(OrderStatus.PREPARING)))
+                .thenReturn(Optional.of(mockOrder));
+
+        orderService.updateOrderStatus("order123", OrderStatus.PREPARING);
+
+        verify(orderSnapshotCache).put(mockOrder);
     }
 }
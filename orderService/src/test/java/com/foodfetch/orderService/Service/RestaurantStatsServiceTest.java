@@ -0,0 +1,161 @@
+package com.foodfetch.orderService.Service;
+
+import com.foodfetch.orderService.Repository.RestaurantStatsRepository;
+import com.foodfetch.orderService.dto.RestaurantStatsDTO;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.OrderItem;
+import com.foodfetch.orderService.model.RestaurantStats;
+import com.foodfetch.orderService.model.StatsGranularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class RestaurantStatsServiceTest {
+
+    private static final Instant TIME = Instant.parse("2024-05-01T12:30:15Z");
+
+    @Mock
+    private RestaurantStatsRepository statsRepository;
+
+    private RestaurantStatsService statsService;
+
+    @BeforeEach
+    void setup() {
+        statsService = new RestaurantStatsService(statsRepository);
+    }
+
+    @Test
+    void testRecordPlaced_MergesOrdersIntoEachGranularity() {
+        OrderEntity first = order("rest1", 1250, 2, TIME);
+        OrderEntity second = order("rest1", 750, 1, TIME.plusSeconds(20));
+
+        statsService.recordPlaced(List.of(first, second));
+
+        Map<StatsGranularity, RestaurantStats> deltas = captureDeltas();
+        assertEquals(3, deltas.size());
+        RestaurantStats minute = deltas.get(StatsGranularity.MINUTE);
+        assertEquals(Instant.parse("2024-05-01T12:30:00Z"), minute.getBucketStart());
+        assertEquals(2, minute.getOrderCount());
+        assertEquals(2000, minute.getGrossAmount());
+        assertEquals(3, minute.getItemCount());
+        // Days start at midnight UTC, whatever the server's zone
+        assertEquals(Instant.parse("2024-05-01T00:00:00Z"), deltas.get(StatsGranularity.DAY).getBucketStart());
+    }
+
+    @Test
+    void testRecordCancelled_UsesCancellationTime() {
+        OrderEntity order = order("rest1", 1250, 2, TIME.minusSeconds(86_400));
+        order.setUpdatedAt(local(TIME));
+
+        statsService.recordCancelled(order);
+
+        RestaurantStats hour = captureDeltas().get(StatsGranularity.HOUR);
+        assertEquals(Instant.parse("2024-05-01T12:00:00Z"), hour.getBucketStart());
+        assertEquals(0, hour.getOrderCount());
+        assertEquals(1, hour.getCancelledCount());
+        assertEquals(1250, hour.getCancelledAmount());
+    }
+
+    @Test
+    void testRecordPlaced_RepositoryFailureDoesNotPropagate() {
+        doThrow(new RuntimeException("down")).when(statsRepository).increment(any());
+
+        assertDoesNotThrow(() -> statsService.recordPlaced(List.of(order("rest1", 1250, 1, TIME))));
+    }
+
+    @Test
+    void testGetStats_DerivesAverages() {
+        RestaurantStats bucket = new RestaurantStats("rest1", StatsGranularity.HOUR, TIME);
+        bucket.setOrderCount(3);
+        bucket.setGrossAmount(1000);
+        bucket.setItemCount(4);
+        Instant from = TIME.minusSeconds(7_200);
+        when(statsRepository.findBuckets("rest1", StatsGranularity.HOUR, Instant.parse("2024-05-01T10:00:00Z"), TIME))
+                .thenReturn(List.of(bucket));
+
+        List<RestaurantStatsDTO> stats = statsService.getStats("rest1", StatsGranularity.HOUR, from, TIME);
+
+        assertEquals(1, stats.size());
+        assertEquals(333, stats.get(0).getAverageBasketAmount());
+        assertEquals(4 / 3.0, stats.get(0).getAverageBasketItems(), 1e-9);
+    }
+
+    @Test
+    void testGetStats_RejectsTooManyBuckets() {
+        assertThrows(IllegalArgumentException.class,
+                () -> statsService.getStats("rest1", StatsGranularity.MINUTE, TIME.minusSeconds(2 * 86_400), TIME));
+        assertThrows(IllegalArgumentException.class,
+                () -> statsService.getStats("rest1", StatsGranularity.HOUR, TIME, TIME.minusSeconds(3_600)));
+        verifyNoInteractions(statsRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRebuildDay_RollsMinutesUpAndReplacesTheDay() {
+        RestaurantStats placed = new RestaurantStats("rest1", StatsGranularity.MINUTE, TIME);
+        placed.setOrderCount(2);
+        placed.setGrossAmount(2000);
+        RestaurantStats cancelled = new RestaurantStats("rest1", StatsGranularity.MINUTE, TIME.plusSeconds(3_600));
+        cancelled.setCancelledCount(1);
+        cancelled.setCancelledAmount(1250);
+        Instant dayStart = Instant.parse("2024-05-01T00:00:00Z");
+        Instant dayEnd = Instant.parse("2024-05-02T00:00:00Z");
+        when(statsRepository.aggregateMinuteBuckets(dayStart, dayEnd)).thenReturn(List.of(placed, cancelled));
+
+        assertEquals(5, statsService.rebuildDay(TIME));
+
+        ArgumentCaptor<Collection<RestaurantStats>> buckets = ArgumentCaptor.forClass(Collection.class);
+        verify(statsRepository).replaceBuckets(eq(dayStart), eq(dayEnd), buckets.capture());
+        RestaurantStats day = buckets.getValue().stream()
+                .filter(bucket -> bucket.getGranularity() == StatsGranularity.DAY)
+                .findFirst().orElseThrow();
+        assertEquals(2, day.getOrderCount());
+        assertEquals(2000, day.getGrossAmount());
+        assertEquals(1, day.getCancelledCount());
+        assertEquals(1250, day.getCancelledAmount());
+    }
+
+    @Test
+    void testRebuildDay_RejectsTheCurrentDay() {
+        assertThrows(IllegalArgumentException.class, () -> statsService.rebuildDay(Instant.now()));
+        verifyNoInteractions(statsRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<StatsGranularity, RestaurantStats> captureDeltas() {
+        ArgumentCaptor<Collection<RestaurantStats>> deltas = ArgumentCaptor.forClass(Collection.class);
+        verify(statsRepository).increment(deltas.capture());
+        return deltas.getValue().stream()
+                .collect(Collectors.toMap(RestaurantStats::getGranularity, Function.identity()));
+    }
+
+    private static OrderEntity order(String restaurantId, long totalAmount, int quantity, Instant createdAt) {
+        OrderEntity order = new OrderEntity(restaurantId, totalAmount,
+                List.of(new OrderItem("item1", "Pizza", quantity, totalAmount / quantity, "")));
+        order.setCreatedAt(local(createdAt));
+        order.setUpdatedAt(local(createdAt));
+        return order;
+    }
+
+    // Orders hold times in the server's zone
+    private static LocalDateTime local(Instant time) {
+        return LocalDateTime.ofInstant(time, ZoneId.systemDefault());
+    }
+}
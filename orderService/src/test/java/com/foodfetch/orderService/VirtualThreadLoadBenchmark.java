@@ -0,0 +1,122 @@
+package com.foodfetch.orderService;
+
+import com.foodfetch.orderService.Repository.OrderRepository;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.OrderItem;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares platform and virtual request threads under load.
+ * The service is started twice against a MongoDB container, once per thread mode, and 5,000 concurrent
+ * clients each fetch an order a few times; every request blocks on a MongoDB read. Reports requests/sec,
+ * the error count and the peak number of platform threads in the JVM.
+ * Run with ./gradlew benchmark --tests '*VirtualThreadLoadBenchmark'.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+public class VirtualThreadLoadBenchmark {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final int CLIENTS = 5_000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    @Test
+    void compareThreadModes() throws Exception {
+        System.out.printf("%-10s %14s %8s %22s%n", "threads", "requests/sec", "errors", "peak platform threads");
+        for (boolean virtualThreads : List.of(false, true)) {
+            try (ConfigurableApplicationContext context = start(virtualThreads)) {
+                Result result = load(context);
+                System.out.printf("%-10s %14.0f %8d %22d%n", virtualThreads ? "virtual" : "platform",
+                        result.requestsPerSecond(), result.errors(), result.peakThreads());
+                assertTrue(result.errors() < CLIENTS * REQUESTS_PER_CLIENT, "Every request failed");
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(orderServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.data.mongodb.uri=" + mongo.getReplicaSetUrl("foodfetch_load"),
+                // The load only exercises HTTP and MongoDB; keep the broker out of it
+                "--spring.rabbitmq.listener.simple.auto-startup=false",
+                "--outbox.relay.interval-ms=3600000");
+    }
+
+    private static Result load(ConfigurableApplicationContext context) throws InterruptedException {
+        OrderRepository orderRepository = context.getBean(OrderRepository.class);
+        OrderEntity order = orderRepository.save(new OrderEntity("rest1", 1250,
+                List.of(new OrderItem("item1", "Big Mac", 1, 1250, ""))));
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        URI uri = URI.create("http://localhost:" + port + "/api/orders/" + order.getId());
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(CLIENTS);
+        CountDownLatch go = new CountDownLatch(1);
+        long start;
+        // Clients and the HTTP client run on virtual threads so they do not add platform threads of their own
+        try (ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(httpExecutor)
+                     .connectTimeout(Duration.ofSeconds(30))
+                     .build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(2)).GET().build();
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        try {
+                            if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            ready.await();
+            start = System.nanoTime();
+            go.countDown();
+            clients.shutdown();
+            assertTrue(clients.awaitTermination(10, TimeUnit.MINUTES), "Clients did not finish");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        return new Result(CLIENTS * REQUESTS_PER_CLIENT / seconds, errors.get(), threads.getPeakThreadCount());
+    }
+
+    private record Result(double requestsPerSecond, int errors, int peakThreads) {
+    }
+}
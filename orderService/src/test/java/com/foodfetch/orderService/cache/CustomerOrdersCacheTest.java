@@ -0,0 +1,97 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.orderService.dto.CursorPageDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomerOrdersCacheTest {
+
+    private CustomerOrdersCache customerOrdersCache;
+    private CustomerOrdersCacheInvalidator invalidator;
+    private AtomicInteger loads;
+    private Supplier<CursorPageDTO<OrderSummaryDTO>> loader;
+
+    @BeforeEach
+    void setup() {
+        customerOrdersCache = new CustomerOrdersCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), 10);
+        invalidator = new CustomerOrdersCacheInvalidator(customerOrdersCache);
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return new CursorPageDTO<>(List.of(new OrderSummaryDTO()), null);
+        };
+    }
+
+    @Test
+    void testGetRecentPage_LoadsOnce() {
+        customerOrdersCache.getRecentPage("customer1", loader);
+        customerOrdersCache.getRecentPage("customer1", loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvictAfterCommit_EvictsAgainOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            customerOrdersCache.getRecentPage("customer1", loader);
+            customerOrdersCache.evictAfterCommit("customer1");
+            // A read while the transaction is still open loads the page from before the write
+            customerOrdersCache.getRecentPage("customer1", loader);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        customerOrdersCache.getRecentPage("customer1", loader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testEvictAfterCommit_WithoutTransactionEvictsNow() {
+        customerOrdersCache.getRecentPage("customer1", loader);
+
+        customerOrdersCache.evictAfterCommit("customer1");
+        customerOrdersCache.evictAfterCommit(null);
+
+        customerOrdersCache.getRecentPage("customer1", loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testOrderEvent_EvictsOnlyThatCustomer() {
+        customerOrdersCache.getRecentPage("customer1", loader);
+        customerOrdersCache.getRecentPage("customer2", loader);
+
+        OrderEvent event = new OrderEvent();
+        event.setCustomerId("customer1");
+        invalidator.onOrderEvent(event);
+
+        customerOrdersCache.getRecentPage("customer1", loader);
+        customerOrdersCache.getRecentPage("customer2", loader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testOrderEvent_WithoutCustomerIsIgnored() {
+        customerOrdersCache.getRecentPage("customer1", loader);
+
+        invalidator.onOrderEvent(new OrderEvent());
+
+        customerOrdersCache.getRecentPage("customer1", loader);
+        assertEquals(1, loads.get());
+    }
+}
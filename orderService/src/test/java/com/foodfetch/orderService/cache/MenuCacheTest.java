@@ -0,0 +1,84 @@
+package com.foodfetch.orderService.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodfetch.orderService.Repository.MenuItemRepository;
+import com.foodfetch.orderService.model.MenuItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+
+import java.nio.ReadOnlyBufferException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class MenuCacheTest {
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    private MenuCache menuCache;
+    private MenuItem mockItem;
+
+    @BeforeEach
+    void setup() {
+        menuCache = new MenuCache(menuItemRepository, new ObjectMapper(), new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+        mockItem = new MenuItem();
+        mockItem.setId("item1");
+        mockItem.setName("Margherita");
+        mockItem.setRestaurantId("rest1");
+    }
+
+    @Test
+    void testPut_CachesItemsReadInCurrentGeneration() {
+        long generation = menuCache.generation();
+
+        MenuSnapshot snapshot = menuCache.put("rest1", generation, List.of(mockItem));
+
+        assertSame(snapshot, menuCache.getIfPresent("rest1").orElseThrow());
+    }
+
+    @Test
+    void testPut_SkipsItemsReadBeforeEviction() {
+        long generation = menuCache.generation();
+        // The menu changes while the reactive read is in flight
+        menuCache.evict("rest1");
+
+        MenuSnapshot snapshot = menuCache.put("rest1", generation, List.of(mockItem));
+
+        assertEquals(1, snapshot.getItems().size());
+        assertTrue(menuCache.getIfPresent("rest1").isEmpty());
+    }
+
+    @Test
+    void testEvictItem_EvictsOnlyTheOwningMenu() {
+        MenuItem otherItem = new MenuItem();
+        otherItem.setId("item2");
+        otherItem.setRestaurantId("rest2");
+        menuCache.put("rest1", menuCache.generation(), List.of(mockItem));
+        menuCache.put("rest2", menuCache.generation(), List.of(otherItem));
+
+        menuCache.evictItem("item1");
+
+        assertTrue(menuCache.getIfPresent("rest1").isEmpty());
+        assertTrue(menuCache.getIfPresent("rest2").isPresent());
+    }
+
+    @Test
+    void testSnapshot_HandsOutCopies() {
+        MenuSnapshot snapshot = menuCache.put("rest1", menuCache.generation(), List.of(mockItem));
+        mockItem.setName("Changed by the caller");
+
+        snapshot.getItems().get(0).setName("Changed by a reader");
+
+        assertEquals("Margherita", snapshot.getItems().get(0).getName());
+        assertThrows(ReadOnlyBufferException.class, () -> snapshot.getJson().put(0, (byte) 0));
+        assertEquals('[', snapshot.getJson().get(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getItems().add(mockItem));
+    }
+}
@@ -0,0 +1,75 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.model.MenuItem;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures faceted searches on the MenuFacetIndex of a large menu: the time per search, including
+ * collecting the matches and all facet counts, for a single facet and for several combined facets.
+ * Run with ./gradlew benchmark --tests '*MenuFacetIndexBenchmark'.
+ */
+@Tag("benchmark")
+public class MenuFacetIndexBenchmark {
+
+    private static final int MENU_SIZE = 500;
+    private static final int WARMUP = 50_000;
+    private static final int SEARCHES = 200_000;
+    private static final String[] CATEGORIES = {"Burgers", "Sides", "Salads", "Mains", "Drinks", "Desserts", "Pizza", "Pasta"};
+
+    @Test
+    void measureSearches() {
+        MenuFacetIndex index = new MenuFacetIndex(menu());
+
+        System.out.printf("%-28s %12s %10s%n", "query", "us/search", "matches");
+        run(index, "category", filter("category", "Burgers"));
+        run(index, "category+vegetarian+price", filter("category", "Burgers,Pizza", "vegetarian", "true",
+                "available", "true", "minPrice", "5", "maxPrice", "20"));
+        run(index, "facets only", filter("facets", "true"));
+    }
+
+    private static void run(MenuFacetIndex index, String name, MenuFilter filter) {
+        int matches = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            matches += index.search(filter).getItems().size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < SEARCHES; i++) {
+            matches += index.search(filter).getItems().size();
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / SEARCHES;
+        System.out.printf("%-28s %12.2f %10d%n", name, micros, index.search(filter).getItems().size());
+        assertTrue(matches >= 0);
+    }
+
+    private static List<MenuItem> menu() {
+        Random random = new Random(42);
+        List<MenuItem> items = new ArrayList<>(MENU_SIZE);
+        for (int i = 0; i < MENU_SIZE; i++) {
+            MenuItem item = new MenuItem();
+            item.setId("item" + i);
+            item.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            item.setPrice(199 + random.nextInt(4000));
+            item.setVegetarian(random.nextInt(3) == 0);
+            item.setAvailable(random.nextInt(10) != 0);
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static MenuFilter filter(String... params) {
+        MultiValueMap<String, String> map = new LinkedMultiValueMap<>();
+        for (int i = 0; i < params.length; i += 2) {
+            map.add(params[i], params[i + 1]);
+        }
+        return MenuFilter.from(map);
+    }
+}
@@ -0,0 +1,99 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.dto.MenuSearchResultDTO;
+import com.foodfetch.orderService.model.MenuItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MenuFacetIndexTest {
+
+    private MenuFacetIndex index;
+
+    private static MenuItem item(String id, String category, long price, boolean vegetarian, boolean available) {
+        MenuItem item = new MenuItem();
+        item.setId(id);
+        item.setCategory(category);
+        item.setPrice(price);
+        item.setVegetarian(vegetarian);
+        item.setAvailable(available);
+        return item;
+    }
+
+    private static MenuFilter filter(String... params) {
+        MultiValueMap<String, String> map = new LinkedMultiValueMap<>();
+        for (int i = 0; i < params.length; i += 2) {
+            map.add(params[i], params[i + 1]);
+        }
+        return MenuFilter.from(map);
+    }
+
+    private static List<String> ids(MenuSearchResultDTO result) {
+        return result.getItems().stream().map(MenuItem::getId).toList();
+    }
+
+    @BeforeEach
+    void setup() {
+        index = new MenuFacetIndex(List.of(
+                item("burger", "Burgers", 899, false, true),
+                item("veggie", "Burgers", 799, true, true),
+                item("fries", "Sides", 349, true, true),
+                item("salad", "Salads", 1299, true, false),
+                item("steak", "Mains", 3499, false, true)));
+    }
+
+    @Test
+    void testCombinedFilters() {
+        assertEquals(List.of("veggie", "fries"), ids(index.search(filter("vegetarian", "true", "available", "true"))));
+        assertEquals(List.of("burger", "veggie", "fries"), ids(index.search(filter("category", "burgers,sides"))));
+        assertEquals(List.of("veggie"), ids(index.search(filter("category", "Burgers", "vegetarian", "true"))));
+        assertEquals(List.of("steak"), ids(index.search(filter("vegetarian", "false", "minPrice", "9"))));
+    }
+
+    @Test
+    void testPriceRangeIsInclusive() {
+        assertEquals(List.of("burger", "veggie"), ids(index.search(filter("minPrice", "7.99", "maxPrice", "8.99"))));
+        assertEquals(List.of("fries"), ids(index.search(filter("maxPrice", "3.49"))));
+        assertTrue(index.search(filter("minPrice", "100")).getItems().isEmpty());
+    }
+
+    @Test
+    void testFacetCountsIgnoreTheirOwnFilter() {
+        Map<String, Map<String, Integer>> facets = index.search(filter("category", "Burgers", "vegetarian", "true")).getFacets();
+
+        // Vegetarian items per category, and burgers with and without the flag
+        assertEquals(Map.of("Burgers", 1, "Sides", 1, "Salads", 1, "Mains", 0), facets.get("category"));
+        assertEquals(Map.of("true", 1, "false", 1), facets.get("vegetarian"));
+        assertEquals(Map.of("true", 1, "false", 0), facets.get("available"));
+        assertEquals(Map.of("0.00-10.00", 1, "10.00-20.00", 0, "20.00-30.00", 0, "30.00+", 0), facets.get("price"));
+    }
+
+    @Test
+    void testFacetsFalseOmitsCounts() {
+        MenuSearchResultDTO result = index.search(filter("category", "Burgers", "facets", "false"));
+
+        assertEquals(List.of("burger", "veggie"), ids(result));
+        assertNull(result.getFacets());
+        assertFalse(filter("facets", "false").isSearch());
+    }
+
+    @Test
+    void testUnknownCategoryMatchesNothing() {
+        assertTrue(index.search(filter("category", "Desserts")).getItems().isEmpty());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> filter("vegetarian", "yes"));
+        assertThrows(IllegalArgumentException.class, () -> filter("minPrice", "abc"));
+        assertThrows(IllegalArgumentException.class, () -> filter("minPrice", "10", "maxPrice", "5"));
+        assertFalse(filter("page", "1").isSearch());
+        assertTrue(filter("facets", "true").isSearch());
+    }
+}
@@ -0,0 +1,45 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.model.OrderEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderSnapshotCacheTest {
+
+    private OrderSnapshotCache orderSnapshotCache;
+    private OrderEntity mockOrder;
+
+    @BeforeEach
+    void setup() {
+        orderSnapshotCache = new OrderSnapshotCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+        mockOrder = new OrderEntity();
+        mockOrder.setId("order123");
+        mockOrder.setStatus(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void testPut_StoresActiveOrder() {
+        orderSnapshotCache.put(mockOrder);
+
+        assertEquals(OrderStatus.CONFIRMED, orderSnapshotCache.getIfPresent("order123").orElseThrow().getStatus());
+    }
+
+    @Test
+    void testPut_TerminalStatusEvicts() {
+        orderSnapshotCache.put(mockOrder);
+
+        OrderEntity delivered = new OrderEntity();
+        delivered.setId("order123");
+        delivered.setStatus(OrderStatus.DELIVERED);
+        orderSnapshotCache.put(delivered);
+
+        assertTrue(orderSnapshotCache.getIfPresent("order123").isEmpty());
+    }
+}
@@ -0,0 +1,105 @@
+package com.foodfetch.orderService.cache;
+
+import com.foodfetch.orderService.Repository.RestaurantRepository;
+import com.foodfetch.orderService.model.PricingRules;
+import com.foodfetch.orderService.model.Restaurant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class RestaurantCacheTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private RestaurantCache restaurantCache;
+    private Restaurant mockRestaurant;
+
+    @BeforeEach
+    void setup() {
+        restaurantCache = new RestaurantCache(restaurantRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+        mockRestaurant = new Restaurant();
+        mockRestaurant.setId("rest1");
+        mockRestaurant.setName("Pizza Place");
+    }
+
+    @Test
+    void testFindByName_LoadsOnce() {
+        when(restaurantRepository.findFirstByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+
+        assertEquals("rest1", restaurantCache.findByName("Pizza Place").orElseThrow().getId());
+        assertEquals("rest1", restaurantCache.findByName("Pizza Place").orElseThrow().getId());
+
+        verify(restaurantRepository, times(1)).findFirstByName("Pizza Place");
+    }
+
+    @Test
+    void testFindByName_MissingIsNotCached() {
+        when(restaurantRepository.findFirstByName("Missing")).thenReturn(Optional.empty());
+
+        assertTrue(restaurantCache.findByName("Missing").isEmpty());
+        assertTrue(restaurantCache.findByName("Missing").isEmpty());
+
+        verify(restaurantRepository, times(2)).findFirstByName("Missing");
+    }
+
+    @Test
+    void testFindAll_PopulatesIdLookups() {
+        when(restaurantRepository.findAll()).thenReturn(List.of(mockRestaurant));
+
+        assertEquals(1, restaurantCache.findAll().size());
+        assertTrue(restaurantCache.findById("rest1").isPresent());
+
+        verify(restaurantRepository, never()).findById(any());
+    }
+
+    @Test
+    void testEvict_ReloadsRestaurant() {
+        when(restaurantRepository.findFirstByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+
+        restaurantCache.findByName("Pizza Place");
+        restaurantCache.evict(mockRestaurant);
+        restaurantCache.findByName("Pizza Place");
+
+        verify(restaurantRepository, times(2)).findFirstByName("Pizza Place");
+    }
+
+    @Test
+    void testEvict_RemovesPreviousNameOfRenamedRestaurant() {
+        when(restaurantRepository.findFirstByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+        restaurantCache.findByName("Pizza Place");
+
+        Restaurant renamed = new Restaurant(mockRestaurant);
+        renamed.setName("Pizza Palace");
+        when(restaurantRepository.findFirstByName("Pizza Place")).thenReturn(Optional.empty());
+        restaurantCache.evict(renamed);
+
+        assertTrue(restaurantCache.findByName("Pizza Place").isEmpty());
+    }
+
+    @Test
+    void testFind_ReturnsSharedUnmodifiableRestaurant() {
+        mockRestaurant.setPricingRules(new PricingRules(500, 10, 0, 0, 0, 0));
+        when(restaurantRepository.findFirstByName("Pizza Place")).thenReturn(Optional.of(mockRestaurant));
+
+        Restaurant first = restaurantCache.findByName("Pizza Place").orElseThrow();
+
+        assertSame(first, restaurantCache.findByName("Pizza Place").orElseThrow());
+        assertThrows(UnsupportedOperationException.class, () -> first.setName("Changed by a caller"));
+        assertThrows(UnsupportedOperationException.class, () -> first.getPricingRules().setMinOrderValue(0));
+        // Changes to the loaded document do not reach the cached restaurant either
+        mockRestaurant.getPricingRules().setMinOrderValue(0);
+        assertEquals(500, first.getPricingRules().getMinOrderValue());
+    }
+}
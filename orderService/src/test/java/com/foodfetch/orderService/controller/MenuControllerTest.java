@@ -0,0 +1,86 @@
+package com.foodfetch.orderService.controller;
+
+import com.foodfetch.orderService.Service.MenuService;
+import com.foodfetch.orderService.cache.MenuSnapshot;
+import com.foodfetch.orderService.model.MenuItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MenuController.class)
+public class MenuControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MenuService menuService;
+
+    private MenuSnapshot snapshot;
+
+    @BeforeEach
+    public void setup() {
+        byte[] json = "[{\"id\":\"item1\",\"name\":\"Big Mac\"}]".getBytes(StandardCharsets.UTF_8);
+        snapshot = new MenuSnapshot("rest1", List.of(), json, "v1");
+    }
+
+    @Test
+    public void testGetMenuByRestaurant_ReturnsETag() throws Exception {
+        Mockito.when(menuService.getMenuSnapshot("rest1")).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/menu/restaurants/rest1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(jsonPath("$[0].id").value("item1"));
+    }
+
+    @Test
+    public void testGetMenuByRestaurant_NotModified() throws Exception {
+        Mockito.when(menuService.getMenuSnapshot("rest1")).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/menu/restaurants/rest1").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void testGetMenuByRestaurant_Filtered() throws Exception {
+        MenuItem burger = new MenuItem();
+        burger.setId("item1");
+        burger.setCategory("Burgers");
+        burger.setPrice(899);
+        MenuItem salad = new MenuItem();
+        salad.setId("item2");
+        salad.setCategory("Salads");
+        salad.setPrice(1299);
+        salad.setVegetarian(true);
+        MenuSnapshot menu = new MenuSnapshot("rest1", List.of(burger, salad), new byte[0], "v2");
+        Mockito.when(menuService.getMenuSnapshot("rest1")).thenReturn(menu);
+
+        mockMvc.perform(get("/api/menu/restaurants/rest1").param("vegetarian", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v2\""))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value("item2"))
+                .andExpect(jsonPath("$.items[0].price").value(12.99))
+                .andExpect(jsonPath("$.facets.category.Burgers").value(0))
+                .andExpect(jsonPath("$.facets.vegetarian['false']").value(1));
+    }
+
+    @Test
+    public void testGetMenuByRestaurant_InvalidFilter() throws Exception {
+        mockMvc.perform(get("/api/menu/restaurants/rest1").param("minPrice", "cheap"))
+                .andExpect(status().isBadRequest());
+    }
+}
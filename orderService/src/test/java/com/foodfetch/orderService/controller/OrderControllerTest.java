@@ -1,11 +1,14 @@
 package com.foodfetch.orderService.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.Service.IdempotencyService;
 import com.foodfetch.orderService.Service.OrderService;
 import com.foodfetch.orderService.dto.OrderRequestDTO;
 import com.foodfetch.orderService.dto.OrderStatusUpdateDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import com.foodfetch.orderService.exception.IdempotencyConflictException;
 import com.foodfetch.orderService.model.OrderEntity;
-import com.foodfetch.orderService.model.OrderStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -19,11 +22,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 @WebMvcTest(OrderController.class)
 public class OrderControllerTest {
@@ -34,6 +40,9 @@ public class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -52,7 +61,7 @@ public class OrderControllerTest {
         OrderRequestDTO requestDTO = new OrderRequestDTO();
         requestDTO.setRestaurantName("Burger Place");
 
-        Mockito.when(orderService.createOrder(any(), any())).thenReturn(mockOrder);
+        Mockito.when(orderService.createOrder(any(), any(), any())).thenReturn(mockOrder);
 
         mockMvc.perform(post("/api/orders")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -62,17 +71,64 @@ public class OrderControllerTest {
                 .andExpect(jsonPath("$.restaurantId").value("Burger Place"));
     }
 
+    @Test
+    public void testCreateOrder_WithIdempotencyKey() throws Exception {
+        OrderRequestDTO requestDTO = new OrderRequestDTO();
+        requestDTO.setRestaurantName("Burger Place");
+
+        Mockito.when(idempotencyService.execute(eq("key-1"), any(), any())).thenReturn(mockOrder);
+
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("order123"));
+
+        Mockito.verify(orderService, Mockito.never()).createOrder(any(), any(), any());
+    }
+
+    @Test
+    public void testCreateOrder_IdempotencyConflict() throws Exception {
+        OrderRequestDTO requestDTO = new OrderRequestDTO();
+        requestDTO.setRestaurantName("Burger Place");
+
+        Mockito.when(idempotencyService.execute(eq("key-1"), any(), any()))
+                .thenThrow(new IdempotencyConflictException("in progress"));
+
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     public void testGetAllOrders() throws Exception {
         Page<OrderEntity> mockPage = new PageImpl<>(List.of(mockOrder));
 
         Mockito.when(orderService.getAllOrders(any(Pageable.class))).thenReturn(mockPage);
 
-        mockMvc.perform(get("/api/orders"))
+        mockMvc.perform(get("/api/orders").param("view", "full"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].id").value("order123"));
     }
 
+    @Test
+    public void testGetAllOrders_SummaryByDefault() throws Exception {
+        OrderSummaryDTO summary = new OrderSummaryDTO();
+        summary.setId("order123");
+        summary.setStatus(OrderStatus.CREATED);
+        Page<OrderSummaryDTO> mockPage = new PageImpl<>(List.of(summary));
+
+        Mockito.when(orderService.getOrderSummaries(any(Pageable.class))).thenReturn(mockPage);
+
+        mockMvc.perform(get("/api/orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value("order123"))
+                .andExpect(jsonPath("$.content[0].items").doesNotExist());
+    }
+
     @Test
     public void testGetOrderById() throws Exception {
         Mockito.when(orderService.getOrderById("order123")).thenReturn(mockOrder);
@@ -109,8 +165,42 @@ public class OrderControllerTest {
     public void testGetActiveOrders() throws Exception {
         Mockito.when(orderService.getActiveOrders()).thenReturn(List.of(mockOrder));
 
-        mockMvc.perform(get("/api/orders/active"))
+        mockMvc.perform(get("/api/orders/active").param("view", "full"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value("order123"));
     }
+
+    @Test
+    public void testStreamActiveOrders() throws Exception {
+        OrderEntity secondOrder = new OrderEntity();
+        secondOrder.setId("order456");
+        Mockito.doAnswer(invocation -> {
+            Consumer<OrderEntity> action = invocation.getArgument(1);
+            action.accept(mockOrder);
+            action.accept(secondOrder);
+            return null;
+        }).when(orderService).forEachActiveOrder(eq(OrderEntity.class), any());
+
+        MvcResult result = mockMvc.perform(get("/api/orders/active").param("view", "full")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(org.hamcrest.Matchers.matchesPattern(
+                        "(?s)\\{.*\"id\":\"order123\".*}\\n\\{.*\"id\":\"order456\".*}\\n")));
+    }
+
+    @Test
+    public void testStreamActiveOrders_EmptyBody() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders/active").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
 }
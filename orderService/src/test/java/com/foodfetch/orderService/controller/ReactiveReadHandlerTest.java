@@ -0,0 +1,125 @@
+package com.foodfetch.orderService.controller;
+
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.Service.ReactiveReadService;
+import com.foodfetch.orderService.cache.MenuSnapshot;
+import com.foodfetch.orderService.config.ReactiveWebConfig;
+import com.foodfetch.orderService.dto.NearbyRestaurantDTO;
+import com.foodfetch.orderService.dto.OrderSummaryDTO;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.Restaurant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class ReactiveReadHandlerTest {
+
+    @Mock
+    private ReactiveReadService readService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setup() {
+        ReactiveReadHandler handler = new ReactiveReadHandler(readService);
+        webTestClient = WebTestClient.bindToRouterFunction(new ReactiveWebConfig().reactiveReadRoutes(handler)).build();
+    }
+
+    @Test
+    void testGetOrderById() {
+        OrderEntity order = new OrderEntity();
+        order.setId("order123");
+        order.setStatus(OrderStatus.CREATED);
+        when(readService.getOrderById("order123")).thenReturn(Mono.just(order));
+
+        webTestClient.get().uri("/api/orders/order123").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo("order123");
+    }
+
+    @Test
+    void testGetOrderById_NotFound() {
+        when(readService.getOrderById("missing")).thenReturn(Mono.empty());
+
+        webTestClient.get().uri("/api/orders/missing").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testGetActiveOrders_SummariesAsNdjson() {
+        OrderSummaryDTO first = new OrderSummaryDTO();
+        first.setId("order1");
+        OrderSummaryDTO second = new OrderSummaryDTO();
+        second.setId("order2");
+        when(readService.getActiveOrders(OrderSummaryDTO.class)).thenReturn(Flux.just(first, second));
+
+        webTestClient.get().uri("/api/orders/active").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(OrderSummaryDTO.class).hasSize(2);
+
+        verify(readService, never()).getOrderById(any());
+    }
+
+    @Test
+    void testGetActiveOrders_FullViewAsJsonArray() {
+        OrderEntity order = new OrderEntity();
+        order.setId("order1");
+        when(readService.getActiveOrders(OrderEntity.class)).thenReturn(Flux.just(order));
+
+        webTestClient.get().uri("/api/orders/active?view=full").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].id").isEqualTo("order1");
+    }
+
+    @Test
+    void testGetNearbyRestaurants_NotTakenForRestaurantId() {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId("rest1");
+        when(readService.getNearbyRestaurants(34.05, -118.24, 3, true, PageRequest.of(0, 20)))
+                .thenReturn(Flux.just(new NearbyRestaurantDTO(restaurant, 1.2)));
+
+        webTestClient.get().uri("/api/restaurants/nearby?lat=34.05&lng=-118.24&radius=3&open=true").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].restaurant.id").isEqualTo("rest1")
+                .jsonPath("$[0].distanceKm").isEqualTo(1.2);
+
+        verify(readService, never()).getRestaurantById(any());
+    }
+
+    @Test
+    void testGetNearbyRestaurants_MissingLatitude() {
+        webTestClient.get().uri("/api/restaurants/nearby?lng=-118.24").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetMenuByRestaurant_NotModified() {
+        byte[] json = "[{\"id\":\"item1\"}]".getBytes(StandardCharsets.UTF_8);
+        MenuSnapshot snapshot = new MenuSnapshot("rest1", List.of(), json, "v1");
+        when(readService.getMenuSnapshot("rest1")).thenReturn(Mono.just(snapshot));
+
+        webTestClient.get().uri("/api/menu/restaurants/rest1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"v1\"")
+                .expectBody().jsonPath("$[0].id").isEqualTo("item1");
+
+        webTestClient.get().uri("/api/menu/restaurants/rest1").header(HttpHeaders.IF_NONE_MATCH, "\"v1\"").exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+}
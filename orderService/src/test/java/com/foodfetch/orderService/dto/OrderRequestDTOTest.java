@@ -13,16 +13,17 @@ public class OrderRequestDTOTest {
     @Test
     public void testConstructorAndGetters() {
         List<OrderItem> items = Arrays.asList(
-            new OrderItem("item1", "Burger", 2, 5.99, "No pickles"),
-            new OrderItem("item2", "Fries", 1, 2.49, "Extra crispy")
+            new OrderItem("item1", "Burger", 2, 599, "No pickles"),
+            new OrderItem("item2", "Fries", 1, 249, "Extra crispy")
         );
 
-        OrderRequestDTO dto = new OrderRequestDTO("MyRestaurant", items, "Credit Card", "123 Main St");
+        OrderRequestDTO dto = new OrderRequestDTO("MyRestaurant", items, "Credit Card", "123 Main St", "customer1");
 
         assertEquals("MyRestaurant", dto.getRestaurantName());
         assertEquals(items, dto.getItems());
         assertEquals("Credit Card", dto.getPaymentMethod());
         assertEquals("123 Main St", dto.getDeliveryAddress());
+        assertEquals("customer1", dto.getCustomerId());
     }
 
     @Test
@@ -30,7 +31,7 @@ public class OrderRequestDTOTest {
         OrderRequestDTO dto = new OrderRequestDTO();
 
         List<OrderItem> items = Arrays.asList(
-            new OrderItem("item1", "Soda", 1, 1.99, "")
+            new OrderItem("item1", "Soda", 1, 199, "")
         );
 
         dto.setRestaurantName("Testaurant");
@@ -47,11 +48,11 @@ public class OrderRequestDTOTest {
     @Test
     public void testEqualsAndHashCode() {
         List<OrderItem> items = Arrays.asList(
-            new OrderItem("item1", "Burger", 2, 5.99, "No pickles")
+            new OrderItem("item1", "Burger", 2, 599, "No pickles")
         );
 
-        OrderRequestDTO dto1 = new OrderRequestDTO("MyRestaurant", items, "Credit Card", "123 Main St");
-        OrderRequestDTO dto2 = new OrderRequestDTO("MyRestaurant", items, "Credit Card", "123 Main St");
+        OrderRequestDTO dto1 = new OrderRequestDTO("MyRestaurant", items, "Credit Card", "123 Main St", "customer1");
+        OrderRequestDTO dto2 = new OrderRequestDTO("MyRestaurant", items, "Credit Card", "123 Main St", "customer1");
 
         assertEquals(dto1, dto2);
         assertEquals(dto1.hashCode(), dto2.hashCode());
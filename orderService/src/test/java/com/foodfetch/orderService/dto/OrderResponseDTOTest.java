@@ -1,6 +1,6 @@
 package com.foodfetch.orderService.dto;
 
-import com.foodfetch.orderService.model.OrderStatus;
+import com.foodfetch.events.OrderStatus;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
@@ -14,7 +14,7 @@ public class OrderResponseDTOTest {
         String id = "order123";
         String restaurantName = "Tasty Treats";
         OrderStatus status = OrderStatus.PREPARING;
-        double totalAmount = 15.99;
+        long totalAmount = 1599;
         String deliveryAddress = "123 Main St";
         LocalDateTime estimatedDeliveryTime = LocalDateTime.now().plusMinutes(30);
 
@@ -42,7 +42,7 @@ public class OrderResponseDTOTest {
         String id = "order456";
         String restaurantName = "Good Eats";
         OrderStatus status = OrderStatus.DELIVERED;
-        double totalAmount = 20.49;
+        long totalAmount = 2049;
         String deliveryAddress = "456 Elm St";
         LocalDateTime estimatedDeliveryTime = LocalDateTime.now().plusMinutes(45);
 
@@ -66,7 +66,7 @@ public class OrderResponseDTOTest {
         String id = "order789";
         String restaurantName = "Yummy Spot";
         OrderStatus status = OrderStatus.CREATED;
-        double totalAmount = 12.50;
+        long totalAmount = 1250;
         String deliveryAddress = "789 Maple St";
         LocalDateTime estimatedDeliveryTime = LocalDateTime.now().plusMinutes(60);
 
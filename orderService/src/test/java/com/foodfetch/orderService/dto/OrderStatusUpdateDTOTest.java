@@ -1,6 +1,6 @@
 package com.foodfetch.orderService.dto;
 
-import com.foodfetch.orderService.model.OrderStatus;
+import com.foodfetch.events.OrderStatus;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
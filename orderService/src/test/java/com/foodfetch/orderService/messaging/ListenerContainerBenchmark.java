@@ -0,0 +1,143 @@
+package com.foodfetch.orderService.messaging;
+
+import com.foodfetch.orderService.config.RabbitMQConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares listener container settings against a local RabbitMQ container.
+ * Each run publishes the same number of messages to a queue consumed by a container built with
+ * RabbitMQConfig.configureConsumers, whose listener blocks for a few milliseconds like a consumer
+ * writing to MongoDB, and reports messages/sec and the p99 latency from publish to handled.
+ * Run with ./gradlew benchmark --tests '*ListenerContainerBenchmark'.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+public class ListenerContainerBenchmark {
+
+    @Container
+    static RabbitMQContainer rabbit = new RabbitMQContainer("rabbitmq:3.13");
+
+    private static final String QUEUE = "listener_benchmark_queue";
+
+    // Messages published per setting
+    private static final int MESSAGES = 5_000;
+
+    // Blocking work per message, standing in for the order update a consumer performs
+    private static final long HANDLING_MILLIS = 2;
+
+    private static final String SENT_AT_HEADER = "x-sent-at";
+
+    // Consumer settings to compare; the first matches Spring AMQP's defaults
+    private static final List<Setting> SETTINGS = List.of(
+            new Setting("default (1 consumer)", 1, 1, 250, 1),
+            new Setting("prefetch 1", 1, 1, 1, 1),
+            new Setting("4 consumers", 4, 4, 50, 1),
+            new Setting("4-16 consumers", 4, 16, 50, 1),
+            new Setting("8 consumers, ack batch 10", 8, 8, 100, 10));
+
+    private CachingConnectionFactory connectionFactory;
+    private RabbitAdmin rabbitAdmin;
+    private RabbitTemplate rabbitTemplate;
+
+    @BeforeEach
+    void setup() {
+        connectionFactory = new CachingConnectionFactory(rabbit.getHost(), rabbit.getAmqpPort());
+        connectionFactory.setUsername(rabbit.getAdminUsername());
+        connectionFactory.setPassword(rabbit.getAdminPassword());
+        rabbitAdmin = new RabbitAdmin(connectionFactory);
+        rabbitAdmin.declareQueue(new Queue(QUEUE));
+        rabbitTemplate = new RabbitTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void compareListenerSettings() throws Exception {
+        System.out.printf("%-28s %12s %16s%n", "setting", "msgs/sec", "p99 latency ms");
+        for (Setting setting : SETTINGS) {
+            rabbitAdmin.purgeQueue(QUEUE, false);
+            Result result = run(setting);
+            System.out.printf("%-28s %12.0f %16.1f%n", setting.name(), result.messagesPerSecond(), result.p99Millis());
+        }
+    }
+
+    private Result run(Setting setting) throws InterruptedException {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        RabbitMQConfig.configureConsumers(factory,
+                setting.concurrency(), setting.maxConcurrency(), setting.prefetch(), setting.batchSize());
+
+        long[] latencies = new long[MESSAGES];
+        AtomicInteger handled = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(MESSAGES);
+
+        SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+        endpoint.setQueueNames(QUEUE);
+        endpoint.setMessageListener(message -> {
+            sleep(HANDLING_MILLIS);
+            long sentAt = message.getMessageProperties().getHeader(SENT_AT_HEADER);
+            latencies[handled.getAndIncrement()] = System.nanoTime() - sentAt;
+            done.countDown();
+        });
+
+        SimpleMessageListenerContainer container = factory.createListenerContainer(endpoint);
+        container.afterPropertiesSet();
+        container.start();
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                rabbitTemplate.convertAndSend(QUEUE, "{\"eventType\":\"PAYMENT_PROCESSED\",\"orderId\":\"order" + i + "\"}",
+                        message -> {
+                            message.getMessageProperties().setHeader(SENT_AT_HEADER, System.nanoTime());
+                            return message;
+                        });
+            }
+            assertTrue(done.await(5, TimeUnit.MINUTES), "Not all messages were handled for " + setting.name());
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            long p99 = latencies[(int) Math.ceil(MESSAGES * 0.99) - 1];
+            return new Result(MESSAGES / (elapsed / 1e9), p99 / 1e6);
+        } finally {
+            container.stop();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Setting(String name, int concurrency, int maxConcurrency, int prefetch, int batchSize) {
+    }
+
+    private record Result(double messagesPerSecond, double p99Millis) {
+    }
+}
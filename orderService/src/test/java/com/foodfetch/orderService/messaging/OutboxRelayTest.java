@@ -0,0 +1,81 @@
+package com.foodfetch.orderService.messaging;
+
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.orderService.Repository.OutboxRepository;
+import com.foodfetch.orderService.model.OutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class OutboxRelayTest {
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private OutboxMessage message;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(outboxRelay, "exchange", "food_delivery_exchange");
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeoutMs", 1000L);
+
+        OrderEvent event = new OrderEvent();
+        event.setOrderId("order123");
+        message = new OutboxMessage("order.created", event);
+        message.setId("outbox1");
+    }
+
+    @Test
+    void testRelay_DeletesConfirmedBatch() {
+        when(outboxRepository.findByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(message));
+        when(rabbitTemplate.invoke(ArgumentMatchers.<RabbitOperations.OperationsCallback<Object>>any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+
+        outboxRelay.relay();
+
+        verify(rabbitTemplate).convertAndSend("food_delivery_exchange", "order.created", message.getEvent());
+        verify(rabbitTemplate).waitForConfirmsOrDie(1000L);
+        verify(outboxRepository).deleteAllById(List.of("outbox1"));
+    }
+
+    @Test
+    void testRelay_KeepsBatchWhenNotConfirmed() {
+        when(outboxRepository.findByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(message));
+        when(rabbitTemplate.invoke(ArgumentMatchers.<RabbitOperations.OperationsCallback<Object>>any()))
+                .thenThrow(new AmqpException("broker unavailable"));
+
+        outboxRelay.relay();
+
+        verify(outboxRepository, never()).deleteAllById(any());
+    }
+
+    @Test
+    void testRelay_EmptyOutbox() {
+        when(outboxRepository.findByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of());
+
+        outboxRelay.relay();
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+}
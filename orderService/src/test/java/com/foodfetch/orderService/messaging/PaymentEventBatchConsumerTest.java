@@ -0,0 +1,93 @@
+package com.foodfetch.orderService.messaging;
+
+import com.foodfetch.events.PaymentEvent;
+import com.foodfetch.orderService.Service.OrderService;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class PaymentEventBatchConsumerTest {
+
+    @InjectMocks
+    private PaymentEventBatchConsumer consumer;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private Channel channel;
+
+    @Test
+    void testConsumePaymentEvents_ConfirmsPaidOrdersTogether() throws Exception {
+        when(orderService.confirmOrders(any())).thenReturn(List.of());
+
+        consumer.consumePaymentEvents(List.of(
+                paymentEvent(1, "PAYMENT_PROCESSED", "order1"),
+                paymentEvent(2, "PAYMENT_FAILED", "order2"),
+                paymentEvent(3, "PAYMENT_PROCESSED", "order3")), channel);
+
+        verify(orderService).confirmOrders(Set.of("order1", "order3"));
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+        verify(channel).basicAck(3, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void testConsumePaymentEvents_RequeuesBatchWhenUpdateFails() throws Exception {
+        when(orderService.confirmOrders(any())).thenThrow(new IllegalStateException("write failed"));
+
+        consumer.consumePaymentEvents(List.of(
+                paymentEvent(1, "PAYMENT_PROCESSED", "order1"),
+                paymentEvent(2, "PAYMENT_FAILED", "order2"),
+                paymentEvent(3, "PAYMENT_PROCESSED", "order3")), channel);
+
+        // The paid orders are requeued together, the failed payment needs no update and is acked
+        verify(channel).basicNack(1, false, true);
+        verify(channel).basicAck(2, false);
+        verify(channel).basicNack(3, false, true);
+        verify(channel, never()).basicAck(1, false);
+    }
+
+    @Test
+    void testConsumePaymentEvents_DeadLettersRedeliveredFailures() throws Exception {
+        when(orderService.confirmOrders(any())).thenThrow(new IllegalStateException("write failed"));
+
+        Message<PaymentEvent> redelivered = MessageBuilder.fromMessage(paymentEvent(2, "PAYMENT_PROCESSED", "order2"))
+                .setHeader(AmqpHeaders.REDELIVERED, true)
+                .build();
+        consumer.consumePaymentEvents(List.of(paymentEvent(1, "PAYMENT_PROCESSED", "order1"), redelivered), channel);
+
+        verify(channel).basicNack(1, false, true);
+        verify(channel).basicNack(2, false, false);
+    }
+
+    @Test
+    void testConsumePaymentEvents_AcksEventsWithoutOrderId() throws Exception {
+        consumer.consumePaymentEvents(List.of(paymentEvent(1, "PAYMENT_PROCESSED", "")), channel);
+
+        verify(channel).basicAck(1, false);
+        verifyNoInteractions(orderService);
+    }
+
+    private static Message<PaymentEvent> paymentEvent(long deliveryTag, String eventType, String orderId) {
+        PaymentEvent payload = new PaymentEvent();
+        payload.setEventType(eventType);
+        payload.setOrderId(orderId);
+        return MessageBuilder.withPayload(payload)
+                .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag)
+                .build();
+    }
+}
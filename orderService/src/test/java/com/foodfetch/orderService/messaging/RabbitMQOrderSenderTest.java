@@ -0,0 +1,108 @@
+package com.foodfetch.orderService.messaging;
+
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.orderService.Repository.OutboxRepository;
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.OutboxMessage;
+import com.foodfetch.orderService.model.PaymentDetails;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
+public class RabbitMQOrderSenderTest {
+
+    @InjectMocks
+    private RabbitMQOrderSender messageSender;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private static OrderEntity order(String id, OrderStatus status) {
+        OrderEntity order = new OrderEntity();
+        order.setId(id);
+        order.setStatus(status);
+        order.setRestaurantId("rest1");
+        order.setCustomerId("customer1");
+        order.setTotalAmount(1998);
+        order.setRestaurantLatitude(40.7128);
+        order.setCustomerLatitude(40.7308);
+        return order;
+    }
+
+    @Test
+    void testSendOrderStatusChangeEvent_PublishesOnceWithStatusRoutingKey() {
+        OrderEntity order = order("order123", OrderStatus.CONFIRMED);
+        PaymentDetails paymentDetails = new PaymentDetails();
+        paymentDetails.setPaymentMethod("CREDIT_CARD");
+        order.setPaymentDetails(paymentDetails);
+
+        messageSender.sendOrderStatusChangeEvent(order);
+
+        ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxRepository).save(captor.capture());
+        verifyNoMoreInteractions(outboxRepository);
+
+        OutboxMessage message = captor.getValue();
+        assertEquals("order.confirmed", message.getRoutingKey());
+
+        // One event carries what payment, tracking and notifications need
+        OrderEvent event = message.getEvent();
+        assertEquals(OrderEvent.ORDER_CONFIRMED, event.getEventType());
+        assertEquals(OrderStatus.CONFIRMED, event.getOrderStatus());
+        assertEquals(1998, event.getTotalAmountMinor());
+        assertEquals("customer1", event.getCustomerId());
+        assertEquals("CREDIT_CARD", event.getPaymentMethod());
+        assertEquals(40.7128, event.getRestaurantLat());
+        assertEquals(40.7308, event.getCustomerLat());
+    }
+
+    @Test
+    void testSendOrderStatusChangeEvent_ConfirmedOrderWithoutLocationGetsPlaceholders() {
+        OrderEntity order = order("order123", OrderStatus.CONFIRMED);
+        order.setRestaurantLatitude(0);
+        order.setCustomerLatitude(0);
+
+        messageSender.sendOrderStatusChangeEvent(order);
+
+        ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxRepository).save(captor.capture());
+        OrderEvent event = captor.getValue().getEvent();
+        assertEquals(40.7128, event.getRestaurantLat());
+        assertEquals(40.7308, event.getCustomerLat());
+        assertEquals(0.0, order.getRestaurantLatitude());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSendOrderStatusChangeEvents_OneMessagePerOrder() {
+        messageSender.sendOrderStatusChangeEvents(List.of(
+                order("order1", OrderStatus.CREATED),
+                order("order2", OrderStatus.IN_TRANSIT),
+                order("order3", OrderStatus.DELIVERED)));
+
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(captor.capture());
+
+        List<OutboxMessage> messages = captor.getValue();
+        assertEquals(List.of("order.created", "order.in_transit", "order.delivered"),
+                messages.stream().map(OutboxMessage::getRoutingKey).toList());
+        assertEquals(List.of(OrderEvent.ORDER_CREATED, OrderEvent.ORDER_UPDATED, OrderEvent.ORDER_COMPLETED),
+                messages.stream().map(message -> message.getEvent().getEventType()).toList());
+    }
+
+    @Test
+    void testSendOrderStatusChangeEvents_SkipsEmptyBatch() {
+        messageSender.sendOrderStatusChangeEvents(List.of());
+
+        verifyNoInteractions(outboxRepository);
+    }
+}
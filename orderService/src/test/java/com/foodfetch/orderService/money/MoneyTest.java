@@ -0,0 +1,65 @@
+package com.foodfetch.orderService.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.foodfetch.orderService.model.OrderItem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testParse() {
+        assertEquals(999, Money.parse("9.99"));
+        assertEquals(1000, Money.parse("10"));
+        assertEquals(990, Money.parse("9.9"));
+        assertEquals(1000, Money.parse("10."));
+        assertEquals(1999, Money.parse("19.990"));
+        assertEquals(-250, Money.parse("-2.50"));
+        assertEquals(5, Money.parse("0.05"));
+    }
+
+    @Test
+    void testParseRejectsInvalidAmounts() {
+        assertThrows(NumberFormatException.class, () -> Money.parse("9.999"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("1e3"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("1.2.3"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("-"));
+        assertThrows(NumberFormatException.class, () -> Money.parse(""));
+        assertThrows(NumberFormatException.class, () -> Money.parse("99999999999999999999"));
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("9.99", Money.format(999));
+        assertEquals("10.00", Money.format(1000));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("-2.50", Money.format(-250));
+    }
+
+    @Test
+    void testArithmeticIsExact() {
+        // Sums and line totals that drift as doubles stay exact
+        assertEquals(30, Money.plus(10, 20));
+        assertEquals(5997, Money.times(1999, 3));
+        assertEquals(150, Money.percentOf(3000, 500));
+        assertEquals(1, Money.percentOf(10, 500));
+        assertEquals(0, Money.percentOf(9, 500));
+        assertThrows(ArithmeticException.class, () -> Money.times(Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    void testJsonUsesDecimalMajorUnits() throws Exception {
+        OrderItem item = objectMapper.readValue(
+                "{\"itemId\":\"item1\",\"name\":\"Burger\",\"quantity\":2,\"price\":5.99}", OrderItem.class);
+
+        assertEquals(599, item.getPrice());
+        assertTrue(objectMapper.writeValueAsString(item).contains("\"price\":5.99"));
+        assertEquals(1250, objectMapper.readValue("{\"price\":\"12.5\"}", OrderItem.class).getPrice());
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"price\":5.999}", OrderItem.class));
+    }
+}
@@ -0,0 +1,104 @@
+package com.foodfetch.orderService.pricing;
+
+import com.foodfetch.orderService.model.OrderEntity;
+import com.foodfetch.orderService.model.OrderItem;
+import com.foodfetch.orderService.model.PricingRules;
+import com.foodfetch.orderService.model.Restaurant;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PricingEvaluatorTest {
+
+    private final List<OrderItem> items = List.of(new OrderItem("item1", "Burger", 1, 1000, ""));
+
+    private static Restaurant restaurant(String name, PricingRules rules) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId("rest1");
+        restaurant.setName(name);
+        restaurant.setDeliveryTime(30);
+        restaurant.setDeliveryFee(250);
+        restaurant.setPricingRules(rules);
+        return restaurant;
+    }
+
+    @Test
+    void testMinimumOrderValueRejected() {
+        PricingEvaluator evaluator = PricingEvaluator.compile(
+                restaurant("McDonald's", new PricingRules(500, 10, 0, 0, 2000, 500)));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> evaluator.createOrder(499, items));
+        assertEquals("McDonald's orders must be at least $5.00", e.getMessage());
+    }
+
+    @Test
+    void testDiscountAppliedAboveThreshold() {
+        PricingEvaluator evaluator = PricingEvaluator.compile(
+                restaurant("McDonald's", new PricingRules(500, 10, 0, 0, 2000, 500)));
+
+        assertEquals(2000, evaluator.createOrder(2000, items).getTotalAmount());
+        assertEquals(2850, evaluator.createOrder(3000, items).getTotalAmount());
+        // 5% of 20.01 is 1.0005, rounded to 1.00
+        assertEquals(1901, evaluator.createOrder(2001, items).getTotalAmount());
+    }
+
+    @Test
+    void testFreeDeliveryAboveThreshold() {
+        PricingEvaluator evaluator = PricingEvaluator.compile(
+                restaurant("Wendy's", new PricingRules(700, 15, 399, 2500, 0, 0)));
+
+        OrderEntity small = evaluator.createOrder(1000, items);
+        OrderEntity large = evaluator.createOrder(3000, items);
+
+        assertEquals(399, small.getDeliveryDetails().getDeliveryFee());
+        assertEquals(0, large.getDeliveryDetails().getDeliveryFee());
+        assertEquals(3000, large.getTotalAmount());
+        assertTrue(small.getDeliveryDetails().getEstimatedDeliveryTime()
+                .isBefore(LocalDateTime.now().plusMinutes(16)));
+    }
+
+    @Test
+    void testRestaurantWithoutRulesUsesListedDeliveryTerms() {
+        PricingEvaluator evaluator = PricingEvaluator.compile(restaurant("Pizza Place", null));
+
+        OrderEntity order = evaluator.createOrder(50, items);
+
+        assertEquals("rest1", order.getRestaurantId());
+        assertEquals(50, order.getTotalAmount());
+        assertEquals(250, order.getDeliveryDetails().getDeliveryFee());
+        assertTrue(order.getDeliveryDetails().getEstimatedDeliveryTime()
+                .isAfter(LocalDateTime.now().plusMinutes(29)));
+    }
+
+    @Test
+    void testOrderUsesRestaurantLocation() {
+        Restaurant restaurant = restaurant("Pizza Place", null);
+        restaurant.setLocation(new GeoJsonPoint(-73.9857, 40.7484));
+
+        OrderEntity order = PricingEvaluator.compile(restaurant).createOrder(50, items);
+
+        assertEquals(40.7484, order.getRestaurantLatitude());
+        assertEquals(-73.9857, order.getRestaurantLongitude());
+        assertEquals(40.7584, order.getCustomerLatitude(), 1e-9);
+    }
+
+    @Test
+    void testEngineRecompilesWhenRestaurantChanges() {
+        PricingEngine engine = new PricingEngine();
+        Restaurant original = restaurant("Wendy's", new PricingRules(700, 15, 399, 2500, 0, 0));
+
+        PricingEvaluator first = engine.evaluatorFor(original);
+        assertSame(first, engine.evaluatorFor(original));
+
+        Restaurant updated = restaurant("Wendy's", new PricingRules(1000, 15, 399, 2500, 0, 0));
+        PricingEvaluator second = engine.evaluatorFor(updated);
+
+        assertNotSame(first, second);
+        assertThrows(IllegalArgumentException.class, () -> second.createOrder(800, items));
+    }
+}
@@ -0,0 +1,50 @@
+package com.foodfetch.paymentservice.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PaymentAmountBackfill moves amounts of payments written before amounts were stored in cents
+ * from the old double "amount" column to "amount_minor".
+ * It runs once the schema has been updated and before the payment listeners start, and clears
+ * the old column as it goes, so running it again is a no-op.
+ */
+@Component
+public class PaymentAmountBackfill {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PaymentAmountBackfill.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for PaymentAmountBackfill
+     *
+     * @param jdbcTemplate         Template used to update the payments table
+     * @param entityManagerFactory Only required so the schema update has run before the backfill
+     */
+    public PaymentAmountBackfill(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Converts the remaining double amounts to cents.
+     */
+    @PostConstruct
+    void backfill() {
+        Integer legacyColumns = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.columns WHERE table_name = 'payments' AND column_name = 'amount'",
+                Integer.class);
+        if (legacyColumns == null || legacyColumns == 0) {
+            return;
+        }
+
+        int updated = jdbcTemplate.update(
+                "UPDATE payments SET amount_minor = ROUND(amount * 100), amount = NULL WHERE amount IS NOT NULL");
+        if (updated > 0) {
+            LOGGER.info("Converted the amount of {} payment(s) to cents", updated);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.foodfetch.paymentservice.config;
 
+import com.foodfetch.events.EventRoutingKeys;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.events.codec.EventMessageConverter;
+import com.foodfetch.events.codec.EventSchemas;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -17,28 +21,16 @@ import org.springframework.amqp.core.Queue;
 @Configuration
 public class RabbitMQConfig {
 
-    @Value("${rabbitmq.queue.order.name}")
-    private String orderQueue;
-
     @Value("${rabbitmq.queue.payment.name}")
     private String paymentQueue;
 
     @Value("${rabbitmq.exchange.name}")
     private String exchange;
 
-    @Value("${rabbitmq.routing.key.order}")
-    private String orderRoutingKey;
-
-    @Value("${rabbitmq.routing.key.payment}")
-    private String paymentRoutingKey;
-
-    //Queue for order events
-    @Bean
-    public Queue orderQueue() {
-        return new Queue(orderQueue);
-    }
+    @Value("${messaging.events.binary.enabled:false}")
+    private boolean binaryEvents;
 
-    // Queue for payment events
+    // Queue for the order events this service takes payments and refunds for
     @Bean
     public Queue paymentQueue() {
         return new Queue(paymentQueue);
@@ -51,35 +43,35 @@ public class RabbitMQConfig {
     }
 
     /*
-     * Binding between order queue and exchange
-     * This binding allows messages sent to the order queue to be routed to the exchange
+     * Binding between payment queue and exchange for created orders
+     * The order service publishes every status change once; this binding picks out the orders to charge
      */
     @Bean
-    public Binding orderBinding() {
+    public Binding orderCreatedBinding() {
         return BindingBuilder
-                .bind(orderQueue())
+                .bind(paymentQueue())
                 .to(exchange())
-                .with(orderRoutingKey);
+                .with(EventRoutingKeys.order(OrderStatus.CREATED));
     }
 
     /*
-     * Binding between payment queue and exchange
-     * This binding allows messages sent to the payment queue to be routed to the exchange
+     * Binding between payment queue and exchange for cancelled orders, which are refunded if they were paid
      */
     @Bean
-    public Binding paymentBinding() {
+    public Binding orderCancelledBinding() {
         return BindingBuilder
                 .bind(paymentQueue())
                 .to(exchange())
-                .with(paymentRoutingKey);
+                .with(EventRoutingKeys.order(OrderStatus.CANCELLED));
     }
 
     /*
-     * Message converter for converting messages to and from JSON format
+     * Message converter for the shared events, in JSON or the binary event encoding.
+     * Incoming messages are decoded according to their content type.
      */
     @Bean
     public MessageConverter converter() {
-        return new Jackson2JsonMessageConverter();
+        return new EventMessageConverter(new Jackson2JsonMessageConverter(), EventSchemas.codec(), binaryEvents);
     }
 
     /*
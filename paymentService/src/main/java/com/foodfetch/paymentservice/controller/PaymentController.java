@@ -1,6 +1,6 @@
 package com.foodfetch.paymentservice.controller;
 
-import com.foodfetch.paymentservice.messaging.OrderEvent;
+import com.foodfetch.events.OrderEvent;
 import com.foodfetch.paymentservice.model.Payment;
 import com.foodfetch.paymentservice.service.PaymentService;
 import org.slf4j.Logger;
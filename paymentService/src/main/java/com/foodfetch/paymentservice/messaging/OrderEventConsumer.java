@@ -1,5 +1,6 @@
 package com.foodfetch.paymentservice.messaging;
 
+import com.foodfetch.events.OrderEvent;
 import com.foodfetch.paymentservice.service.PaymentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
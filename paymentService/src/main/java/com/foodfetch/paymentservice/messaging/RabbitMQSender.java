@@ -1,5 +1,7 @@
 package com.foodfetch.paymentservice.messaging;
 
+import com.foodfetch.events.EventRoutingKeys;
+import com.foodfetch.events.PaymentEvent;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -18,20 +20,17 @@ public class RabbitMQSender {
     @Value("${rabbitmq.exchange.name}")
     private String exchange;
 
-    @Value("${rabbitmq.routing.key.payment}")
-    private String paymentRoutingKey;
-
     // Constructor for RabbitMQSender
     public RabbitMQSender(RabbitTemplate rabbitTemplate) {
         this.rabbitTemplate = rabbitTemplate;
     }
 
     /**
-     * Sends a payment event to RabbitMQ
+     * Sends a payment event to RabbitMQ, routed by the payment status (e.g. payment.completed)
      *
      * @param event The payment event to be sent
      */
-    public void sendPaymentEvent(Object event){
-        rabbitTemplate.convertAndSend(exchange, paymentRoutingKey, event);
+    public void sendPaymentEvent(PaymentEvent event){
+        rabbitTemplate.convertAndSend(exchange, EventRoutingKeys.payment(event.getStatus()), event);
     }
 }
@@ -1,5 +1,6 @@
 package com.foodfetch.paymentservice.model;
 
+import com.foodfetch.events.PaymentStatus;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.Getter;
@@ -9,7 +10,7 @@ import java.time.LocalDateTime;
 
 /**
  * Payment is a class that represents a payment transaction.
- * It contains information about the order ID, amount, status, payment method, transaction ID, and creation time.
+ * It contains information about the order ID, amount in cents, status, payment method, transaction ID, and creation time.
  */
 @Data
 @Entity
@@ -23,7 +24,10 @@ public class Payment {
 
     // Change from Long to String for MongoDB compatibility
     private String orderId;
-    private Double amount;
+
+    // Amount in cents; the default fills rows written before amounts were stored in cents until they are backfilled
+    @Column(name = "amount_minor", columnDefinition = "bigint default 0 not null")
+    private long amountMinor;
 
     @Enumerated(EnumType.STRING)
     private PaymentStatus status;
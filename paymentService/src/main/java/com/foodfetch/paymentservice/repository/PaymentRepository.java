@@ -1,7 +1,7 @@
 package com.foodfetch.paymentservice.repository;
 
+import com.foodfetch.events.PaymentStatus;
 import com.foodfetch.paymentservice.model.Payment;
-import com.foodfetch.paymentservice.model.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
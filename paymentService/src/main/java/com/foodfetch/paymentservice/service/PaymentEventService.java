@@ -1,8 +1,8 @@
 package com.foodfetch.paymentservice.service;
 
+import com.foodfetch.events.PaymentEvent;
 import com.foodfetch.paymentservice.messaging.RabbitMQSender;
 import com.foodfetch.paymentservice.model.Payment;
-import com.foodfetch.paymentservice.messaging.PaymentEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -44,7 +44,7 @@ public class PaymentEventService {
         paymentEvent.setPaymentId(payment.getId());
         paymentEvent.setOrderId(payment.getOrderId());
         paymentEvent.setStatus(payment.getStatus());
-        paymentEvent.setAmount(payment.getAmount());
+        paymentEvent.setAmountMinor(payment.getAmountMinor());
         paymentEvent.setTransactionId(payment.getTransactionId());
         paymentEvent.setTimestamp(LocalDateTime.now());
         paymentEvent.setEventType(eventType);
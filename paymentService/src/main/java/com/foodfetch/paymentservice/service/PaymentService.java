@@ -1,9 +1,9 @@
 package com.foodfetch.paymentservice.service;
 
+import com.foodfetch.events.OrderEvent;
+import com.foodfetch.events.PaymentStatus;
 import com.foodfetch.paymentservice.config.PaymentConfigManager;
-import com.foodfetch.paymentservice.messaging.OrderEvent;
 import com.foodfetch.paymentservice.model.Payment;
-import com.foodfetch.paymentservice.model.PaymentStatus;
 import com.foodfetch.paymentservice.repository.PaymentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,7 +107,8 @@ public class PaymentService {
         // Find the original payment
         Payment originalPayment = findCompletedPaymentForOrder(orderEvent.getOrderId());
         if (originalPayment == null) {
-            LOGGER.error("No completed payment found for order: {}", orderEvent.getOrderId());
+            // Every cancellation reaches this service, including orders that were never paid
+            LOGGER.info("No completed payment to refund for order: {}", orderEvent.getOrderId());
             return null;
         }
 
@@ -172,7 +173,7 @@ public class PaymentService {
      * @return A list of payments for the specified order ID
      */
     private void validateOrderEvent(OrderEvent orderEvent) {
-        if (orderEvent.getTotalAmount() <= 0) {
+        if (orderEvent.getTotalAmountMinor() <= 0) {
             throw new IllegalArgumentException("Payment amount must be greater than zero");
         }
 
@@ -190,7 +191,7 @@ public class PaymentService {
     private Payment createPaymentFromOrderEvent(OrderEvent orderEvent) {
         Payment payment = new Payment();
         payment.setOrderId(orderEvent.getOrderId());
-        payment.setAmount(orderEvent.getTotalAmount());
+        payment.setAmountMinor(orderEvent.getTotalAmountMinor());
         payment.setStatus(PaymentStatus.PENDING);
         payment.setCreated(LocalDateTime.now());
 
@@ -246,7 +247,7 @@ public class PaymentService {
     private Payment createRefundFromOriginalPayment(Payment originalPayment) {
         Payment refund = new Payment();
         refund.setOrderId(originalPayment.getOrderId());
-        refund.setAmount(originalPayment.getAmount());
+        refund.setAmountMinor(originalPayment.getAmountMinor());
         refund.setStatus(PaymentStatus.PENDING);
         refund.setPaymentMethod(originalPayment.getPaymentMethod());
         refund.setTransactionId("REFUND-" + UUID.randomUUID().toString());
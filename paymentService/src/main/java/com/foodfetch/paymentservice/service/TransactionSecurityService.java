@@ -40,7 +40,7 @@ public class TransactionSecurityService {
 
         // Create a signature based on critical payment fields
         String dataToSign = payment.getOrderId() + "|" +
-                payment.getAmount() + "|" +
+                payment.getAmountMinor() + "|" +
                 payment.getTransactionId();
 
         try {
@@ -1,7 +1,7 @@
 package com.foodfetch.paymentservice.service.handler;
 
+import com.foodfetch.events.PaymentStatus;
 import com.foodfetch.paymentservice.model.Payment;
-import com.foodfetch.paymentservice.model.PaymentStatus;
 import com.foodfetch.paymentservice.repository.PaymentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,7 +20,7 @@ public class PaymentValidationHandler implements PaymentHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(PaymentValidationHandler.class);
 
     // Define security limits
-    private static final double MAX_TRANSACTION_AMOUNT = 10000.0; // Example limit
+    private static final long MAX_TRANSACTION_AMOUNT_MINOR = 1_000_000; // Example limit, $10,000 in cents
     private static final int MAX_DAILY_TRANSACTIONS = 10; // Example limit
 
     // Next handler in the chain
@@ -86,7 +86,7 @@ public class PaymentValidationHandler implements PaymentHandler {
      */
     private void validateBasicFields(Payment payment) throws ValidationException {
         // Existing validation logic
-        if (payment.getAmount() <= 0) {
+        if (payment.getAmountMinor() <= 0) {
             throw new ValidationException("Payment amount must be greater than zero");
         }
 
@@ -103,7 +103,7 @@ public class PaymentValidationHandler implements PaymentHandler {
      */
     private void validateSecurityRules(Payment payment) throws ValidationException {
         // Amount limit check
-        if (payment.getAmount() > MAX_TRANSACTION_AMOUNT) {
+        if (payment.getAmountMinor() > MAX_TRANSACTION_AMOUNT_MINOR) {
             throw new ValidationException("Transaction amount exceeds maximum allowed limit");
         }
 
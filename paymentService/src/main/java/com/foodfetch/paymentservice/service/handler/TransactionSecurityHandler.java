@@ -1,7 +1,7 @@
 package com.foodfetch.paymentservice.service.handler;
 
+import com.foodfetch.events.PaymentStatus;
 import com.foodfetch.paymentservice.model.Payment;
-import com.foodfetch.paymentservice.model.PaymentStatus;
 import com.foodfetch.paymentservice.service.TransactionSecurityService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -1,5 +1,9 @@
 package com.foodfetch.trackingservice.config;
 
+import com.foodfetch.events.EventRoutingKeys;
+import com.foodfetch.events.OrderStatus;
+import com.foodfetch.events.codec.EventMessageConverter;
+import com.foodfetch.events.codec.EventSchemas;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -20,13 +24,8 @@ public class RabbitConfig {
   @Value("${rabbitmq.exchange.name}")
   private String exchange;
 
-  // Routing Key
-  @Value("${rabbitmq.routing.key.tracking}")
-  private String trackingRoutingKey;
-
-  // Tracking Updated Routing Key
-  @Value("${rabbitmq.routing.key.tracking.completed}")
-  private String trackingCompletedRoutingKey;
+  @Value("${messaging.events.binary.enabled:false}")
+  private boolean binaryEvents;
 
   // Tracking Events
   @Bean
@@ -40,16 +39,16 @@ public class RabbitConfig {
     return new TopicExchange(exchange);
   }
 
-  // Binding
+  // Binding: deliveries start from confirmed orders
   @Bean
   public Binding trackingBinding() {
-    return BindingBuilder.bind(trackingQueue()).to(exchange()).with(trackingRoutingKey);
+    return BindingBuilder.bind(trackingQueue()).to(exchange()).with(EventRoutingKeys.order(OrderStatus.CONFIRMED));
   }
 
-  // Message Converter
+  // Message Converter: shared events in JSON or the binary event encoding, decoded by content type
   @Bean
   public MessageConverter converter() {
-    return new Jackson2JsonMessageConverter();
+    return new EventMessageConverter(new Jackson2JsonMessageConverter(), EventSchemas.codec(), binaryEvents);
   }
 
   // Template
@@ -1,5 +1,7 @@
 package com.foodfetch.trackingservice.messaging;
 
+import com.foodfetch.events.DeliveryEvent;
+import com.foodfetch.events.EventRoutingKeys;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -11,26 +13,15 @@ public class DeliveryEventSender {
   @Value("${rabbitmq.exchange.name}")
   private String exchange;
 
-  @Value("${rabbitmq.routing.key.tracking.completed}")
-  private String deliveryRoutingKey;
-
-  // In DeliveryEventSender.java
-  @Value("${rabbitmq.routing.key.tracking.status}")
-  private String statusUpdateRoutingKey;
-
-  // Method to send status updates
-  public void sendDeliveryStatusEvent(DeliveryEvent deliveryEvent) {
-    rabbitTemplate.convertAndSend(exchange, statusUpdateRoutingKey, deliveryEvent);
-  }
-
   // Constructor
   public DeliveryEventSender(RabbitTemplate rabbitTemplate) {
     this.rabbitTemplate = rabbitTemplate;
   }
 
-  // Event Sending
+  // Event Sending: published once as delivery.<status>, e.g. delivery.in_transit;
+  // the order and notification services each bind their own queue to delivery.#
   public void sendDeliveryEvent(DeliveryEvent deliveryEvent) {
-    rabbitTemplate.convertAndSend(exchange, deliveryRoutingKey, deliveryEvent);
+    rabbitTemplate.convertAndSend(exchange, EventRoutingKeys.delivery(deliveryEvent.getStatus()), deliveryEvent);
   }
 
 }
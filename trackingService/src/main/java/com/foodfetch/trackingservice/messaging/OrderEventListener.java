@@ -3,6 +3,7 @@ package com.foodfetch.trackingservice.messaging;
 import org.springframework.stereotype.Component;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 
+import com.foodfetch.events.OrderEvent;
 import com.foodfetch.trackingservice.model.Delivery;
 import com.foodfetch.trackingservice.service.TrackingService;
 
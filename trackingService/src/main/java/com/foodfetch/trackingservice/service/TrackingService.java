@@ -9,7 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.foodfetch.trackingservice.messaging.DeliveryEvent;
+import com.foodfetch.events.DeliveryEvent;
 import com.foodfetch.trackingservice.messaging.DeliveryEventSender;
 import com.foodfetch.trackingservice.model.Delivery;
 import com.foodfetch.trackingservice.state.DeliveryState;